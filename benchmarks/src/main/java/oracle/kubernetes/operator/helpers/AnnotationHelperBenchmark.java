@@ -0,0 +1,49 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.concurrent.TimeUnit;
+
+import io.kubernetes.client.openapi.models.V1Pod;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the cost of computing the hash annotation which the operator records on each resource it creates.
+ * Pod hashes are remembered by their JSON digest, so both the cost for a pod not seen before and for one whose
+ * hash is already known are measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AnnotationHelperBenchmark {
+
+  private V1Pod pod;
+  private V1Pod changingPod;
+  private int changeCount;
+
+  /** Creates pods of a size typical for a WebLogic server. */
+  @Setup
+  public void setUp() {
+    pod = BenchmarkResources.createPod("managed-server1");
+    changingPod = BenchmarkResources.createPod("managed-server1");
+  }
+
+  // Changes the pod on each invocation, so that its hash is never found in the cache.
+  @Benchmark
+  public String createHashOfNewPod() {
+    changingPod.getMetadata().putLabelsItem("benchmark.change", Integer.toString(changeCount++));
+    return AnnotationHelper.createHash(changingPod);
+  }
+
+  @Benchmark
+  public String createHashOfKnownPod() {
+    return AnnotationHelper.createHash(pod);
+  }
+}
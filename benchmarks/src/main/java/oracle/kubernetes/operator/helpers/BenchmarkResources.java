@@ -0,0 +1,52 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1ContainerPort;
+import io.kubernetes.client.openapi.models.V1EnvVar;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+
+/** Builds the resources used as input by the helper benchmarks. */
+class BenchmarkResources {
+
+  private static final int NUM_ENV_VARS = 30;
+
+  private BenchmarkResources() {
+  }
+
+  /**
+   * Creates a pod resembling the ones the operator creates for WebLogic servers.
+   * @param serverName the name of the server
+   * @return the new pod
+   */
+  static V1Pod createPod(String serverName) {
+    return new V1Pod()
+          .metadata(new V1ObjectMeta().name("domain1-" + serverName).namespace("namespace")
+                .putLabelsItem("weblogic.domainUID", "domain1")
+                .putLabelsItem("weblogic.serverName", serverName)
+                .putLabelsItem("weblogic.createdByOperator", "true"))
+          .spec(new V1PodSpec()
+                .addContainersItem(new V1Container()
+                      .name("weblogic-server")
+                      .image("container-registry.oracle.com/middleware/weblogic:12.2.1.4")
+                      .command(List.of("/weblogic-operator/scripts/startServer.sh"))
+                      .env(createEnvironment(serverName))
+                      .addPortsItem(new V1ContainerPort().name("default").containerPort(7001))));
+  }
+
+  private static List<V1EnvVar> createEnvironment(String serverName) {
+    List<V1EnvVar> env = new ArrayList<>();
+    env.add(new V1EnvVar().name("SERVER_NAME").value(serverName));
+    for (int i = 0; i < NUM_ENV_VARS; i++) {
+      env.add(new V1EnvVar().name("VARIABLE_" + i).value("value-" + i));
+    }
+    return env;
+  }
+}
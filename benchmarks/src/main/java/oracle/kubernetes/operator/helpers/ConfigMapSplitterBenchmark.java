@@ -0,0 +1,66 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the cost of splitting introspector results into config maps small enough for Kubernetes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConfigMapSplitterBenchmark {
+
+  /** The total size, in KB, of the data to split. */
+  @Param({"100", "2000"})
+  private int totalKilobytes;
+
+  private final Map<String, String> data = new HashMap<>();
+
+  /** Creates a mix of small entries and a few large ones totalling the configured size. */
+  @Setup
+  public void setUp() {
+    int numSmallEntries = 50;
+    for (int i = 0; i < numSmallEntries; i++) {
+      data.put("small" + i, "x".repeat(100));
+    }
+    int numLargeEntries = 4;
+    int largeSize = Math.max(0, totalKilobytes * 1024 - numSmallEntries * 100) / numLargeEntries;
+    for (int i = 0; i < numLargeEntries; i++) {
+      data.put("large" + i, "y".repeat(largeSize));
+    }
+  }
+
+  @Benchmark
+  public List<Target> split() {
+    return new ConfigMapSplitter<>(Target::new).split(data);
+  }
+
+  static class Target implements SplitterTarget {
+    private final Map<String, String> data;
+    private int numTargets;
+
+    Target(Map<String, String> data, Integer index) {
+      this.data = data;
+    }
+
+    @Override
+    public void recordNumTargets(int numTargets) {
+      this.numTargets = numTargets;
+    }
+  }
+}
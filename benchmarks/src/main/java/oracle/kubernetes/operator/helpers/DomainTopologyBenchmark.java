@@ -0,0 +1,60 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the cost of parsing the domain topology reported by the introspector.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DomainTopologyBenchmark {
+
+  @Param({"2", "50"})
+  private int serversPerCluster;
+
+  private String topologyYaml;
+
+  /** Generates the topology of a domain with an admin server and two clusters. */
+  @Setup
+  public void setUp() {
+    StringBuilder yaml = new StringBuilder()
+          .append("domainValid: true\n")
+          .append("domain:\n")
+          .append("  name: \"base_domain\"\n")
+          .append("  adminServerName: \"admin-server\"\n")
+          .append("  configuredClusters:\n");
+    for (int cluster = 1; cluster <= 2; cluster++) {
+      yaml.append("  - name: \"cluster-").append(cluster).append("\"\n")
+          .append("    servers:\n");
+      for (int server = 1; server <= serversPerCluster; server++) {
+        String name = "managed-server-" + cluster + "-" + server;
+        yaml.append("      - name: \"").append(name).append("\"\n")
+            .append("        listenPort: 8001\n")
+            .append("        listenAddress: \"domain1-").append(name).append("\"\n");
+      }
+    }
+    yaml.append("  servers:\n")
+        .append("    - name: \"admin-server\"\n")
+        .append("      listenPort: 7001\n")
+        .append("      listenAddress: \"domain1-admin-server\"\n");
+    topologyYaml = yaml.toString();
+  }
+
+  @Benchmark
+  public DomainTopology parseDomainTopologyYaml() {
+    return DomainTopology.parseDomainTopologyYaml(topologyYaml);
+  }
+}
@@ -0,0 +1,48 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.concurrent.TimeUnit;
+
+import io.kubernetes.client.openapi.models.V1EnvVar;
+import io.kubernetes.client.openapi.models.V1Pod;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the cost of comparing an existing pod against the one the operator would create for it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PodCompatibilityBenchmark {
+
+  private V1Pod expected;
+  private V1Pod sameAsExpected;
+  private V1Pod changed;
+
+  /** Creates an expected pod, an identical one, and one with a changed environment variable. */
+  @Setup
+  public void setUp() {
+    expected = BenchmarkResources.createPod("managed-server1");
+    sameAsExpected = BenchmarkResources.createPod("managed-server1");
+    changed = BenchmarkResources.createPod("managed-server1");
+    changed.getSpec().getContainers().get(0).addEnvItem(new V1EnvVar().name("ADDED").value("value"));
+  }
+
+  @Benchmark
+  public boolean compatiblePods() {
+    return new PodCompatibility(expected, sameAsExpected).isCompatible();
+  }
+
+  @Benchmark
+  public String incompatiblePods() {
+    return new PodCompatibility(expected, changed).getIncompatibility();
+  }
+}
@@ -0,0 +1,43 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.logging;
+
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the cost of formatting an operator log message as JSON.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LoggingFormatterBenchmark {
+
+  private final LoggingFormatter formatter = new LoggingFormatter();
+  private LogRecord logRecord;
+
+  /** Creates a record with a parameterized message. */
+  @Setup
+  public void setUp() {
+    logRecord = new LogRecord(Level.INFO, "Starting server {0} in domain {1}");
+    logRecord.setParameters(new Object[] {"managed-server1", "domain1"});
+    logRecord.setSourceClassName(LoggingFormatterBenchmark.class.getName());
+    logRecord.setSourceMethodName("setUp");
+    logRecord.setLoggerName("Operator");
+  }
+
+  @Benchmark
+  public String format() {
+    return formatter.format(logRecord);
+  }
+}
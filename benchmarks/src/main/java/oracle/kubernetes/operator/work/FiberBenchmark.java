@@ -0,0 +1,92 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the cost of running a fiber through a chain of trivial steps, which is the overhead the engine
+ * adds to every make-right operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FiberBenchmark {
+
+  @Param({"1", "10", "100"})
+  private int numSteps;
+
+  private ScheduledExecutorService executor;
+  private Engine engine;
+  private Step stepline;
+
+  /** Creates the engine and the chain of steps to run. */
+  @Setup(Level.Trial)
+  public void setUp() {
+    executor = Executors.newScheduledThreadPool(2);
+    engine = new Engine(executor);
+    stepline = null;
+    for (int i = 0; i < numSteps; i++) {
+      stepline = new PassThroughStep(stepline);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  /** Runs a fiber to completion through the configured number of steps. */
+  @Benchmark
+  public Packet runFiber() throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch(1);
+    Packet packet = new Packet();
+    engine.createFiber().start(stepline, packet, new LatchCallback(latch));
+    latch.await();
+    return packet;
+  }
+
+  private static class PassThroughStep extends Step {
+    PassThroughStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doNext(packet);
+    }
+  }
+
+  private static class LatchCallback implements Fiber.CompletionCallback {
+    private final CountDownLatch latch;
+
+    LatchCallback(CountDownLatch latch) {
+      this.latch = latch;
+    }
+
+    @Override
+    public void onCompletion(Packet packet) {
+      latch.countDown();
+    }
+
+    @Override
+    public void onThrowable(Packet packet, Throwable throwable) {
+      latch.countDown();
+    }
+  }
+}
@@ -0,0 +1,62 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the cost of copying packets, as is done whenever a step forks child fibers. The eager copy of a
+ * concurrent map is included as a baseline.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PacketBenchmark {
+
+  @Param({"10", "50"})
+  private int numEntries;
+
+  private Packet packet;
+  private Map<String, Object> map;
+
+  /** Fills the packet and the baseline map with the configured number of entries. */
+  @Setup
+  public void setUp() {
+    packet = new Packet();
+    map = new ConcurrentHashMap<>();
+    for (int i = 0; i < numEntries; i++) {
+      packet.put("key" + i, "value" + i);
+      map.put("key" + i, "value" + i);
+    }
+  }
+
+  @Benchmark
+  public Packet copy() {
+    return packet.copy();
+  }
+
+  /** Copies the packet and modifies the copy, forcing its contents to be cloned. */
+  @Benchmark
+  public Packet copyAndPut() {
+    Packet copy = packet.copy();
+    copy.put("added", "value");
+    return copy;
+  }
+
+  @Benchmark
+  public Map<String, Object> eagerMapCopy() {
+    return new ConcurrentHashMap<>(map);
+  }
+}
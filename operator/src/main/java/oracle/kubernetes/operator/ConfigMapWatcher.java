@@ -14,6 +14,7 @@ import io.kubernetes.client.util.Watchable;
 import oracle.kubernetes.operator.TuningParameters.WatchTuning;
 import oracle.kubernetes.operator.builders.WatchBuilder;
 import oracle.kubernetes.operator.helpers.KubernetesUtils;
+import oracle.kubernetes.operator.helpers.ResourceCache;
 import oracle.kubernetes.operator.watcher.WatchListener;
 
 /**
@@ -63,6 +64,11 @@ public class ConfigMapWatcher extends Watcher<V1ConfigMap> {
         .createConfigMapWatch(ns);
   }
 
+  @Override
+  void updateCache(Response<V1ConfigMap> item) {
+    ResourceCache.CONFIG_MAPS.update(item);
+  }
+
   @Override
   public String getNamespace() {
     return ns;
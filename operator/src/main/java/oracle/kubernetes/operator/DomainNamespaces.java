@@ -8,12 +8,15 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import javax.annotation.Nonnull;
 
+import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.openapi.models.CoreV1Event;
 import io.kubernetes.client.openapi.models.CoreV1EventList;
 import io.kubernetes.client.openapi.models.V1ConfigMap;
@@ -27,7 +30,12 @@ import io.kubernetes.client.openapi.models.V1ServiceList;
 import io.kubernetes.client.openapi.models.V1beta1PodDisruptionBudget;
 import io.kubernetes.client.openapi.models.V1beta1PodDisruptionBudgetList;
 import oracle.kubernetes.operator.TuningParameters.WatchTuning;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Resource;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Scope;
 import oracle.kubernetes.operator.helpers.ConfigMapHelper;
+import oracle.kubernetes.operator.helpers.ResourceCache;
 import oracle.kubernetes.operator.helpers.SemanticVersion;
 import oracle.kubernetes.operator.watcher.WatchListener;
 import oracle.kubernetes.operator.work.Step;
@@ -43,29 +51,35 @@ import static oracle.kubernetes.operator.helpers.KubernetesUtils.getResourceVers
  */
 @SuppressWarnings("SameParameterValue")
 public class DomainNamespaces {
+  /** The feature gate which selects a single cluster-wide watch for each kind of resource. */
+  static final String CLUSTER_SCOPED_WATCHES = "ClusterScopedWatches";
+
   private static final WatchListener<V1Job> NULL_LISTENER = w -> { };
 
   private final Map<String, NamespaceStatus> namespaceStatuses = new ConcurrentHashMap<>();
   private final Map<String, AtomicBoolean> namespaceStoppingMap = new ConcurrentHashMap<>();
+  private final AtomicBoolean clusterWatchesStopping = new AtomicBoolean(false);
 
   private final WatcherControl<V1ConfigMap, ConfigMapWatcher> configMapWatchers
-        = new WatcherControl<>(ConfigMapWatcher::create, d -> d::dispatchConfigMapWatch);
+        = new WatcherControl<>(ConfigMapWatcher::create, d -> d::dispatchConfigMapWatch, Resource.CONFIGMAPS);
   private final WatcherControl<Domain, DomainWatcher> domainWatchers
-        = new WatcherControl<>(DomainWatcher::create, d -> d::dispatchDomainWatch);
+        = new WatcherControl<>(DomainWatcher::create, d -> d::dispatchDomainWatch, Resource.DOMAINS);
   private final WatcherControl<CoreV1Event, EventWatcher> eventWatchers
-        = new WatcherControl<>(EventWatcher::create, d -> d::dispatchEventWatch);
+        = new WatcherControl<>(EventWatcher::create, d -> d::dispatchEventWatch, Resource.EVENTS);
   private final WatcherControl<CoreV1Event, OperatorEventWatcher> operatorEventWatchers
-      = new WatcherControl<>(OperatorEventWatcher::create, d -> d::dispatchEventWatch);
+      = new WatcherControl<>(OperatorEventWatcher::create, d -> d::dispatchEventWatch, Resource.EVENTS);
   private final WatcherControl<V1Job, JobWatcher> jobWatchers
-        = new WatcherControl<>(JobWatcher::create, d -> NULL_LISTENER);
+        = new WatcherControl<>(JobWatcher::create, d -> NULL_LISTENER, Resource.JOBS);
   private final WatcherControl<V1Pod, PodWatcher> podWatchers
-        = new WatcherControl<>(PodWatcher::create, d -> d::dispatchPodWatch);
+        = new WatcherControl<>(PodWatcher::create, d -> d::dispatchPodWatch, Resource.PODS);
   private final WatcherControl<V1Service, ServiceWatcher> serviceWatchers
-        = new WatcherControl<>(ServiceWatcher::create, d -> d::dispatchServiceWatch);
+        = new WatcherControl<>(ServiceWatcher::create, d -> d::dispatchServiceWatch, Resource.SERVICES);
   private final WatcherControl<V1beta1PodDisruptionBudget, PodDisruptionBudgetWatcher> podDisruptionBudgetWatchers
-          = new WatcherControl<>(PodDisruptionBudgetWatcher::create, d -> d::dispatchPodDisruptionBudgetWatch);
+          = new WatcherControl<>(PodDisruptionBudgetWatcher::create, d -> d::dispatchPodDisruptionBudgetWatch,
+                Resource.PODDISRUPTIONBUDGETS);
 
   private final SemanticVersion productVersion;
+  private Executor watchDispatchExecutor;
 
   AtomicBoolean isStopping(String ns) {
     return namespaceStoppingMap.computeIfAbsent(ns, (key) -> new AtomicBoolean(false));
@@ -100,6 +114,7 @@ public class DomainNamespaces {
    */
   void stopAllWatchers() {
     namespaceStoppingMap.forEach((key, value) -> value.set(true));
+    clusterWatchesStopping.set(true);
   }
 
   /**
@@ -119,6 +134,7 @@ public class DomainNamespaces {
     configMapWatchers.removeWatcher(ns);
     jobWatchers.removeWatcher(ns);
 
+    ResourceCache.CONFIG_MAPS.forgetNamespace(ns);
     DomainProcessorImpl.cleanupNamespace(ns);
   }
 
@@ -171,6 +187,24 @@ public class DomainNamespaces {
     return ThreadFactorySingleton.getInstance();
   }
 
+  // The threads which pass queued watch events to the operator are shared by all namespaces and kinds of resource.
+  private synchronized Executor getWatchDispatchExecutor(int numThreads) {
+    if (watchDispatchExecutor == null) {
+      watchDispatchExecutor = Executors.newFixedThreadPool(numThreads, getThreadFactory());
+    }
+    return watchDispatchExecutor;
+  }
+
+  private static boolean isClusterScopedWatchesEnabled() {
+    return TuningParameters.getInstance().getFeatureGates().isFeatureEnabled(CLUSTER_SCOPED_WATCHES);
+  }
+
+  private static boolean isClusterWatchPermitted(Resource resource) {
+    AuthorizationProxy authorizationProxy = new AuthorizationProxy();
+    return authorizationProxy.checkSelf(Operation.list, resource, Scope.cluster, null)
+          && authorizationProxy.checkSelf(Operation.watch, resource, Scope.cluster, null);
+  }
+
   /**
    * Returns a set up steps to update the specified namespace.
    * This will include adding any existing domains, pod, services,
@@ -205,30 +239,79 @@ public class DomainNamespaces {
 
   interface ListenerSelector<T> extends Function<DomainProcessor, WatchListener<T>> { }
 
-  class WatcherControl<T, W extends Watcher<T>> {
+  /**
+   * Manages the watchers for one kind of resource. Normally, each namespace has its own watcher, running its own watch.
+   * When the cluster-scoped watches feature is enabled and the operator may watch the resource at cluster scope,
+   * a single cluster-wide watch is run instead, and its events passed to the namespace watchers.
+   * Unless the watch tuning selects no dispatch threads, the watchers queue their events for the listener,
+   * so that reading a watch does not wait for the operator to process its events.
+   */
+  class WatcherControl<T extends KubernetesObject, W extends Watcher<T>> {
     private final Map<String, W> watchers = new ConcurrentHashMap<>();
+    private final Map<String, WatchEventQueue<T>> eventQueues = new ConcurrentHashMap<>();
     private final WatcherFactory<T,W> factory;
     private final ListenerSelector<T> selector;
+    private final Resource resource;
+    private Boolean useClusterWatch;
+    private MultiplexedWatcher<T> clusterWatcher;
 
-    private WatcherControl(WatcherFactory<T, W> factory, ListenerSelector<T> selector) {
+    private WatcherControl(WatcherFactory<T, W> factory, ListenerSelector<T> selector, Resource resource) {
       this.factory = factory;
       this.selector = selector;
+      this.resource = resource;
     }
 
     void startWatcher(String namespace, String resourceVersion, DomainProcessor domainProcessor) {
       watchers.computeIfAbsent(namespace, n -> createWatcher(n, resourceVersion, selector.apply(domainProcessor)));
     }
 
-    W createWatcher(String ns, String resourceVersion, WatchListener<T> listener) {
-      return factory.create(getThreadFactory(), ns, resourceVersion, getWatchTuning(), listener, isStopping(ns));
+    W createWatcher(String ns, String resourceVersion, WatchListener<T> dispatchMethod) {
+      WatchListener<T> listener = withEventQueue(ns, dispatchMethod);
+      if (!useClusterWatch()) {
+        return factory.create(getThreadFactory(), ns, resourceVersion, getWatchTuning(), listener, isStopping(ns));
+      }
+
+      W watcher = factory.create(null, ns, resourceVersion, getWatchTuning(), listener, isStopping(ns));
+      addToClusterWatch(watcher, resourceVersion);
+      return watcher;
+    }
+
+    private WatchListener<T> withEventQueue(String ns, WatchListener<T> dispatchMethod) {
+      WatchTuning tuning = getWatchTuning();
+      if (tuning.watchDispatchThreads <= 0 || dispatchMethod == NULL_LISTENER) {
+        return dispatchMethod;
+      }
+
+      WatchEventQueue<T> queue = new WatchEventQueue<>(ns, resource.getResource(), tuning.watchQueueCapacity,
+            getWatchDispatchExecutor(tuning.watchDispatchThreads), dispatchMethod);
+      Optional.ofNullable(eventQueues.put(ns, queue)).ifPresent(WatchEventQueue::close);
+      return queue;
+    }
+
+    // Resource versions are global to the cluster, so the first namespace's list version may start the cluster watch.
+    private synchronized void addToClusterWatch(W watcher, String resourceVersion) {
+      if (clusterWatcher == null) {
+        clusterWatcher = MultiplexedWatcher.create(
+              getThreadFactory(), watcher, resourceVersion, getWatchTuning(), clusterWatchesStopping);
+      }
+      clusterWatcher.addNamespaceWatcher(watcher);
+    }
+
+    private synchronized boolean useClusterWatch() {
+      if (useClusterWatch == null) {
+        useClusterWatch = isClusterScopedWatchesEnabled() && isClusterWatchPermitted(resource);
+      }
+      return useClusterWatch;
     }
 
     W getWatcher(String ns) {
       return watchers.get(ns);
     }
 
-    void removeWatcher(String ns) {
+    synchronized void removeWatcher(String ns) {
       watchers.remove(ns);
+      Optional.ofNullable(eventQueues.remove(ns)).ifPresent(WatchEventQueue::close);
+      Optional.ofNullable(clusterWatcher).ifPresent(w -> w.removeNamespaceWatcher(ns));
     }
   }
 
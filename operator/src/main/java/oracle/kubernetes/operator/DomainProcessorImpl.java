@@ -6,17 +6,18 @@ package oracle.kubernetes.operator;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -53,6 +54,8 @@ import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.LoggingFilter;
 import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.logging.OncePerMessageLoggingFilter;
+import oracle.kubernetes.operator.metrics.Histogram;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.steps.BeforeAdminServiceStep;
 import oracle.kubernetes.operator.steps.DeleteDomainStep;
 import oracle.kubernetes.operator.steps.DomainPresenceStep;
@@ -94,13 +97,24 @@ public class DomainProcessorImpl implements DomainProcessor {
   private static final Map<String, FiberGate> makeRightFiberGates = new ConcurrentHashMap<>();
   private static final Map<String, FiberGate> statusFiberGates = new ConcurrentHashMap<>();
 
+  static {
+    OperatorMetrics.registerGauge("fiber_gate_active_fibers", "Number of fibers running, by namespace and gate.",
+          () -> collectGateValues(gate -> gate.getCurrentFibers().size()), "namespace", "gate");
+    OperatorMetrics.registerGauge("fiber_gate_pending_starts",
+          "Number of fiber starts deferred to coalesce make-right requests, by namespace.",
+          () -> collectMakeRightGateValues(FiberGate::getPendingStartCount), "namespace");
+    OperatorMetrics.registerCounter("make_right_requests_total", "Number of make-right operations requested.",
+          () -> Map.of(List.of(), getMakeRightRequestCount()));
+    OperatorMetrics.registerCounter("make_right_starts_total", "Number of make-right plans started.",
+          () -> Map.of(List.of(), getMakeRightStartCount()));
+  }
+
   // Map namespace to map of domainUID to Domain; tests may replace this value.
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
   private static Map<String, Map<String, DomainPresenceInfo>> DOMAINS = new ConcurrentHashMap<>();
 
-  // map namespace to map of uid to processing.
-  private static final Map<String, Map<String, ScheduledFuture<?>>> statusUpdaters = new ConcurrentHashMap<>();
   private final DomainProcessorDelegate delegate;
+  private final StatusPollingWheel statusPollingWheel;
   private final SemanticVersion productVersion;
 
   // Map namespace to map of domainUID to KubernetesEventObjects; tests may replace this value.
@@ -115,9 +129,15 @@ public class DomainProcessorImpl implements DomainProcessor {
     this(delegate, null);
   }
 
+  /**
+   * Creates a domain processor.
+   * @param delegate the operator-level services used to process domains
+   * @param productVersion the version of the operator, or null if not known
+   */
   public DomainProcessorImpl(DomainProcessorDelegate delegate, SemanticVersion productVersion) {
     this.delegate = delegate;
     this.productVersion = productVersion;
+    this.statusPollingWheel = new StatusPollingWheel(delegate, () -> TuningParameters.getInstance().getMainTuning());
   }
 
   private static DomainPresenceInfo getExistingDomainPresenceInfo(String ns, String domainUid) {
@@ -128,7 +148,7 @@ public class DomainProcessorImpl implements DomainProcessor {
     DOMAINS.remove(namespace);
     domainEventK8SObjects.remove(namespace);
     namespaceEventK8SObjects.remove(namespace);
-    statusUpdaters.remove((namespace));
+    OperatorMetrics.MAKE_RIGHT_DURATION.removeAll("namespace", namespace);
   }
 
   static void registerDomainPresenceInfo(DomainPresenceInfo info) {
@@ -148,25 +168,7 @@ public class DomainProcessorImpl implements DomainProcessor {
   private static void unregisterDomain(String ns, String domainUid) {
     unregisterPresenceInfo(ns, domainUid);
     unregisterEventK8SObject(ns, domainUid);
-  }
-
-  private static void registerStatusUpdater(
-        String ns, String domainUid, ScheduledFuture<?> future) {
-    ScheduledFuture<?> existing =
-          statusUpdaters.computeIfAbsent(ns, k -> new ConcurrentHashMap<>()).put(domainUid, future);
-    if (existing != null) {
-      existing.cancel(false);
-    }
-  }
-
-  private static void unregisterStatusUpdater(String ns, String domainUid) {
-    Map<String, ScheduledFuture<?>> map = statusUpdaters.get(ns);
-    if (map != null) {
-      ScheduledFuture<?> existing = map.remove(domainUid);
-      if (existing != null) {
-        existing.cancel(true);
-      }
-    }
+    OperatorMetrics.MAKE_RIGHT_DURATION.remove(ns, domainUid);
   }
 
   public static void updateEventK8SObjects(CoreV1Event event) {
@@ -351,6 +353,36 @@ public class DomainProcessorImpl implements DomainProcessor {
     return makeRightFiberGates.computeIfAbsent(ns, k -> delegate.createFiberGate());
   }
 
+  private static Map<List<String>, Number> collectGateValues(Function<FiberGate, Number> getValue) {
+    Map<List<String>, Number> values = new HashMap<>();
+    makeRightFiberGates.forEach((ns, gate) -> values.put(List.of(ns, "makeRight"), getValue.apply(gate)));
+    statusFiberGates.forEach((ns, gate) -> values.put(List.of(ns, "status"), getValue.apply(gate)));
+    return values;
+  }
+
+  private static Map<List<String>, Number> collectMakeRightGateValues(Function<FiberGate, Number> getValue) {
+    Map<List<String>, Number> values = new HashMap<>();
+    makeRightFiberGates.forEach((ns, gate) -> values.put(List.of(ns), getValue.apply(gate)));
+    return values;
+  }
+
+  /**
+   * Returns the number of make-right operations requested, across all namespaces.
+   * @return the number of requests
+   */
+  public static long getMakeRightRequestCount() {
+    return makeRightFiberGates.values().stream().mapToLong(FiberGate::getCoalescedRequestCount).sum();
+  }
+
+  /**
+   * Returns the number of make-right plans started, across all namespaces. This is less than the number of requests
+   * when bursts of requests for a domain are coalesced.
+   * @return the number of plans started
+   */
+  public static long getMakeRightStartCount() {
+    return makeRightFiberGates.values().stream().mapToLong(FiberGate::getCoalescedStartCount).sum();
+  }
+
   private FiberGate getStatusFiberGate(String ns) {
     return statusFiberGates.computeIfAbsent(ns, k -> delegate.createFiberGate());
   }
@@ -417,6 +449,7 @@ public class DomainProcessorImpl implements DomainProcessor {
         // fall through
       case "MODIFIED":
         info.setServerPodFromEvent(serverName, pod);
+        statusPollingWheel.expedite(info.getNamespace(), domainUid);
         break;
       case "DELETED":
         boolean removed = info.deleteServerPodFromEvent(serverName, pod);
@@ -590,10 +623,10 @@ public class DomainProcessorImpl implements DomainProcessor {
   public void dispatchDomainWatch(Watch.Response<Domain> item) {
     switch (item.type) {
       case "ADDED":
-        handleAddedDomain(item.object);
+        handleAddedDomain(item.object.withEffectiveConfigurationCached());
         break;
       case "MODIFIED":
-        handleModifiedDomain(item.object);
+        handleModifiedDomain(item.object.withEffectiveConfigurationCached());
         break;
       case "DELETED":
         handleDeletedDomain(item.object);
@@ -632,15 +665,12 @@ public class DomainProcessorImpl implements DomainProcessor {
     final OncePerMessageLoggingFilter loggingFilter = new OncePerMessageLoggingFilter();
     final TuningParameters.MainTuning mainTuning = TuningParameters.getInstance().getMainTuning();
 
-    registerStatusUpdater(
+    statusPollingWheel.register(
         info.getNamespace(),
         info.getDomainUid(),
-        delegate.scheduleWithFixedDelay(
-              () -> new ScheduledStatusUpdater(info.getNamespace(), info.getDomainUid(), loggingFilter)
-                    .withTimeoutSeconds(mainTuning.statusUpdateTimeoutSeconds).updateStatus(),
-            mainTuning.initialShortDelay,
-            mainTuning.initialShortDelay,
-            TimeUnit.SECONDS));
+        new ScheduledStatusUpdater(info.getNamespace(), info.getDomainUid(), loggingFilter)
+              .withTimeoutSeconds(mainTuning.statusUpdateTimeoutSeconds),
+        mainTuning.initialShortDelay);
   }
 
   private void logThrowable(Throwable throwable) {
@@ -1037,15 +1067,17 @@ public class DomainProcessorImpl implements DomainProcessor {
       boolean isDeleting,
       boolean isWillInterrupt) {
     FiberGate gate = getMakeRightFiberGate(ns);
+    MakeRightTimerStep timer = new MakeRightTimerStep(ns, domainUid, plan.step);
     CompletionCallback cc =
         new CompletionCallback() {
           @Override
           public void onCompletion(Packet packet) {
-            // no-op
+            timer.recordDuration();
           }
 
           @Override
           public void onThrowable(Packet packet, Throwable throwable) {
+            timer.recordDuration();
             logThrowable(throwable);
 
             gate.startFiberIfLastFiberMatches(
@@ -1111,11 +1143,9 @@ public class DomainProcessorImpl implements DomainProcessor {
         };
 
     LOGGER.fine("Starting fiber for domainUid -> " + domainUid + ", isWillInterrupt -> " + isWillInterrupt);
-    if (isWillInterrupt) {
-      gate.startFiber(domainUid, plan.step, plan.packet, cc);
-    } else {
-      gate.startFiberIfNoCurrentFiber(domainUid, plan.step, plan.packet, cc);
-    }
+    TuningParameters.MainTuning mainTuning = TuningParameters.getInstance().getMainTuning();
+    gate.startFiberCoalesced(domainUid, isWillInterrupt, timer, plan.packet, cc,
+          mainTuning.makeRightQuietMillis, mainTuning.makeRightMaxDelayMillis);
   }
 
   Step createDomainUpPlan(DomainPresenceInfo info) {
@@ -1160,6 +1190,29 @@ public class DomainProcessorImpl implements DomainProcessor {
         new UnregisterStep(info));
   }
 
+  // Records the time from the start of a make-right plan to its completion.
+  private static class MakeRightTimerStep extends Step {
+    private final Histogram.Child durations;
+    private volatile long startNanos;
+
+    MakeRightTimerStep(String namespace, String domainUid, Step next) {
+      super(next);
+      this.durations = OperatorMetrics.MAKE_RIGHT_DURATION.labels(namespace, domainUid);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      startNanos = System.nanoTime();
+      return doNext(packet);
+    }
+
+    void recordDuration() {
+      if (startNanos != 0) {
+        durations.observeNanos(System.nanoTime() - startNanos);
+      }
+    }
+  }
+
   private static class UnregisterStep extends Step {
     private final DomainPresenceInfo info;
 
@@ -1285,7 +1338,7 @@ public class DomainProcessorImpl implements DomainProcessor {
     }
   }
 
-  private static class DownHeadStep extends Step {
+  private class DownHeadStep extends Step {
     private final DomainPresenceInfo info;
     private final String ns;
 
@@ -1302,13 +1355,13 @@ public class DomainProcessorImpl implements DomainProcessor {
     @Override
     public NextAction apply(Packet packet) {
       info.setDeleting(true);
-      unregisterStatusUpdater(ns, info.getDomainUid());
+      statusPollingWheel.unregister(ns, info.getDomainUid());
       return doNext(packet);
     }
   }
 
 
-  private class ScheduledStatusUpdater {
+  private class ScheduledStatusUpdater implements StatusPollingWheel.StatusUpdate {
     private final String namespace;
     private final String domainUid;
     private final OncePerMessageLoggingFilter loggingFilter;
@@ -1325,18 +1378,44 @@ public class DomainProcessorImpl implements DomainProcessor {
       this.loggingFilter = loggingFilter;
     }
 
-    private void updateStatus() {
+    @Override
+    public boolean start(Runnable onCompletion) {
+      if (getExistingDomainPresenceInfo(getNamespace(), getDomainUid()) == null) {
+        return false;
+      }
+
       try {
         Step strategy = Step.chain(new DomainPresenceInfoStep(), ServerStatusReader.createStatusStep(timeoutSeconds));
 
-        getStatusFiberGate(getNamespace())
-              .startFiberIfNoCurrentFiber(getDomainUid(), strategy, createPacket(), new CompletionCallbackImpl());
+        Fiber fiber = getStatusFiberGate(getNamespace()).startFiberIfNoCurrentFiber(
+              getDomainUid(), strategy, createPacket(), new CompletionCallbackImpl(onCompletion));
+        if (fiber == null) {
+          onCompletion.run();
+        }
       } catch (Throwable t) {
         try (LoggingContext ignored
                    = LoggingContext.setThreadContext().namespace(getNamespace()).domainUid(getDomainUid())) {
           LOGGER.severe(MessageKeys.EXCEPTION, t);
         }
+        onCompletion.run();
       }
+      return true;
+    }
+
+    // Polls less often once the state of every server has been unchanged for several updates.
+    @Override
+    public long getNextIntervalSeconds() {
+      final TuningParameters.MainTuning main = TuningParameters.getInstance().getMainTuning();
+      return isStable(main.unchangedCountToDelayStatusRecheck) ? main.eventualLongDelay : main.initialShortDelay;
+    }
+
+    private boolean isStable(int unchangedCountToDelayStatusRecheck) {
+      final DomainPresenceInfo info = getExistingDomainPresenceInfo(getNamespace(), getDomainUid());
+      return info != null
+          && !info.getServerNames().isEmpty()
+          && info.getServerNames().stream()
+                .map(info::getLastKnownServerStatus)
+                .allMatch(status -> status != null && status.getUnchangedCount() >= unchangedCountToDelayStatusRecheck);
     }
 
     private String getNamespace() {
@@ -1368,6 +1447,11 @@ public class DomainProcessorImpl implements DomainProcessor {
     }
 
     private class CompletionCallbackImpl implements CompletionCallback {
+      private final Runnable onCompletion;
+
+      CompletionCallbackImpl(Runnable onCompletion) {
+        this.onCompletion = onCompletion;
+      }
 
       @Override
       public void onCompletion(Packet packet) {
@@ -1377,12 +1461,19 @@ public class DomainProcessorImpl implements DomainProcessor {
         } else {
           loggingFilter.setFiltering(true);
         }
+        onCompletion.run();
       }
 
       @Override
       public void onThrowable(Packet packet, Throwable throwable) {
         logThrowable(throwable);
         loggingFilter.setFiltering(true);
+        onCompletion.run();
+      }
+
+      @Override
+      public void onCancelled() {
+        onCompletion.run();
       }
     }
   }
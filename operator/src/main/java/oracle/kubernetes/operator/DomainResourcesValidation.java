@@ -127,7 +127,7 @@ class DomainResourcesValidation {
   }
 
   private void addDomain(Domain domain) {
-    getDomainPresenceInfo(domain.getDomainUid()).setDomain(domain);
+    getDomainPresenceInfo(domain.getDomainUid()).setDomain(domain.withEffectiveConfigurationCached());
   }
 
   private Stream<DomainPresenceInfo> getStrandedDomainPresenceInfos(DomainProcessor dp) {
@@ -18,12 +18,14 @@ import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 
+import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1Job;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodSpec;
 import jakarta.json.Json;
+import jakarta.json.JsonPatch;
 import jakarta.json.JsonPatchBuilder;
 import oracle.kubernetes.operator.calls.CallResponse;
 import oracle.kubernetes.operator.calls.FailureStatusSource;
@@ -64,6 +66,7 @@ import static oracle.kubernetes.operator.DomainFailureReason.Internal;
 import static oracle.kubernetes.operator.DomainFailureReason.Kubernetes;
 import static oracle.kubernetes.operator.DomainFailureReason.ReplicasTooHigh;
 import static oracle.kubernetes.operator.DomainFailureReason.ServerPod;
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_UNPROCESSABLE_ENTITY;
 import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
 import static oracle.kubernetes.operator.MIINonDynamicChangesMethod.CommitUpdateOnly;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
@@ -100,7 +103,11 @@ import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.Failed
 @SuppressWarnings("WeakerAccess")
 public class DomainStatusUpdater {
 
+  /** The feature gate which selects writing status changes as JSON patches rather than replacing the status. */
+  static final String DOMAIN_STATUS_PATCH = "DomainStatusPatch";
+
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final String STATUS_REPLACE_REQUIRED = "statusReplaceRequired";
 
   private DomainStatusUpdater() {
   }
@@ -291,6 +298,10 @@ public class DomainStatusUpdater {
     private ResponseStep<Domain> createResponseStep(DomainStatusUpdaterContext context) {
       return new StatusReplaceResponseStep(this, context, getNext());
     }
+
+    private ResponseStep<Domain> createPatchResponseStep(DomainStatusUpdaterContext context) {
+      return new StatusPatchResponseStep(this, context, getNext());
+    }
   }
 
   static class StatusReplaceResponseStep extends DefaultResponseStep<Domain> {
@@ -307,7 +318,7 @@ public class DomainStatusUpdater {
     @Override
     public NextAction onSuccess(Packet packet, CallResponse<Domain> callResponse) {
       if (callResponse.getResult() != null) {
-        packet.getSpi(DomainPresenceInfo.class).setDomain(callResponse.getResult());
+        packet.getSpi(DomainPresenceInfo.class).setDomain(callResponse.getResult().withEffectiveConfigurationCached());
       }
       return doNext(packet);
     }
@@ -321,6 +332,10 @@ public class DomainStatusUpdater {
       }
     }
 
+    DomainStatusUpdaterContext getContext() {
+      return context;
+    }
+
     public Step createRetry(DomainStatusUpdaterContext context) {
       return Step.chain(createDomainRefreshStep(context), updaterStep);
     }
@@ -330,10 +345,31 @@ public class DomainStatusUpdater {
     }
   }
 
+  // A patch is rejected as unprocessable if the domain has changed since it was read, or if the patch does not
+  // apply to the status as stored; in either case, read the domain again and replace the status.
+  static class StatusPatchResponseStep extends StatusReplaceResponseStep {
+
+    public StatusPatchResponseStep(DomainStatusUpdaterStep updaterStep,
+                                   DomainStatusUpdaterContext context, Step nextStep) {
+      super(updaterStep, context, nextStep);
+    }
+
+    @Override
+    public NextAction onFailure(Packet packet, CallResponse<Domain> callResponse) {
+      if (callResponse.getStatusCode() == HTTP_UNPROCESSABLE_ENTITY) {
+        packet.put(STATUS_REPLACE_REQUIRED, Boolean.TRUE);
+        return doNext(createRetry(getContext()), packet);
+      } else {
+        return super.onFailure(packet, callResponse);
+      }
+    }
+  }
+
   static class DomainUpdateStep extends ResponseStep<Domain> {
     @Override
     public NextAction onSuccess(Packet packet, CallResponse<Domain> callResponse) {
-      packet.getSpi(DomainPresenceInfo.class).setDomain(callResponse.getResult());
+      packet.getSpi(DomainPresenceInfo.class).setDomain(
+            Optional.ofNullable(callResponse.getResult()).map(Domain::withEffectiveConfigurationCached).orElse(null));
       return doNext(packet);
     }
   }
@@ -342,10 +378,12 @@ public class DomainStatusUpdater {
     @Nonnull
     private final DomainPresenceInfo info;
     private final DomainStatusUpdaterStep domainStatusUpdaterStep;
+    private final boolean replaceRequired;
 
     DomainStatusUpdaterContext(Packet packet, DomainStatusUpdaterStep domainStatusUpdaterStep) {
       info = DomainPresenceInfo.fromPacket(packet).orElseThrow();
       this.domainStatusUpdaterStep = domainStatusUpdaterStep;
+      this.replaceRequired = packet.remove(STATUS_REPLACE_REQUIRED) != null;
     }
 
     DomainStatus getNewStatus() {
@@ -400,18 +438,51 @@ public class DomainStatusUpdater {
       return Optional.ofNullable(getStatus()).map(DomainStatus::new).orElse(new DomainStatus());
     }
 
-    private Step createDomainStatusReplaceStep() {
-      LOGGER.fine(MessageKeys.DOMAIN_STATUS, getDomainUid(), getNewStatus());
+    private Step createDomainStatusUpdateStep() {
+      final DomainStatus newStatus = getNewStatus();
+      LOGGER.fine(MessageKeys.DOMAIN_STATUS, getDomainUid(), newStatus);
+      final JsonPatch patch = createPatch(newStatus);
       if (LOGGER.isFinerEnabled()) {
-        LOGGER.finer("status change: " + createPatchString());
+        LOGGER.finer("status change: " + patch.toString());
       }
+
+      // the first operation of the patch tests the resource version; a patch with no others changes nothing
+      if (mayPatchStatus() && patch.toJsonArray().size() > 1) {
+        return new CallBuilder().patchDomainStatusAsync(
+              getDomainName(),
+              getNamespace(),
+              new V1Patch(patch.toString()),
+              domainStatusUpdaterStep.createPatchResponseStep(this));
+      } else {
+        return createDomainStatusReplaceStep(newStatus);
+      }
+    }
+
+    // A patch is only sent for a domain whose status has already been written, since the first write also
+    // records the start time, which is not patched.
+    private boolean mayPatchStatus() {
+      return !replaceRequired && isStatusPatchEnabled() && getStatus() != null && getResourceVersion() != null;
+    }
+
+    private boolean isStatusPatchEnabled() {
+      return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getFeatureGates)
+          .map(gates -> gates.isFeatureEnabled(DOMAIN_STATUS_PATCH))
+          .orElse(false);
+    }
+
+    private String getResourceVersion() {
+      return getMetadata().getResourceVersion();
+    }
+
+    private Step createDomainStatusReplaceStep(DomainStatus newStatus) {
       Domain oldDomain = getDomain();
       Domain newDomain = new Domain()
           .withKind(KubernetesConstants.DOMAIN)
           .withApiVersion(KubernetesConstants.API_VERSION_WEBLOGIC_ORACLE)
           .withMetadata(oldDomain.getMetadata())
           .withSpec(null)
-          .withStatus(getNewStatus());
+          .withStatus(newStatus);
 
       return new CallBuilder().replaceDomainStatusAsync(
             getDomainName(),
@@ -420,14 +491,16 @@ public class DomainStatusUpdater {
             domainStatusUpdaterStep.createResponseStep(this));
     }
 
-    private String createPatchString() {
+    // Creates a patch of the status which applies only if the domain has not changed since it was read.
+    private JsonPatch createPatch(DomainStatus newStatus) {
       JsonPatchBuilder builder = Json.createPatchBuilder();
-      getNewStatus().createPatchFrom(builder, getStatus());
-      return builder.build().toString();
+      Optional.ofNullable(getResourceVersion()).ifPresent(v -> builder.test("/metadata/resourceVersion", v));
+      newStatus.createPatchFrom(builder, getStatus());
+      return builder.build();
     }
 
     private Step createUpdateSteps() {
-      final Step next = createDomainStatusReplaceStep();
+      final Step next = createDomainStatusUpdateStep();
       List<EventData> eventDataList = createDomainEvents();
       return eventDataList.isEmpty() ? next : Step.chain(createEventSteps(eventDataList), next);
     }
@@ -29,6 +29,7 @@ import io.kubernetes.client.openapi.models.V1NamespaceList;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.operator.calls.CallResponse;
+import oracle.kubernetes.operator.calls.RequestRateLimiter;
 import oracle.kubernetes.operator.calls.UnrecoverableCallException;
 import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.helpers.ClientPool;
@@ -73,8 +74,7 @@ public class Main {
 
   private static final Container container = new Container();
   private static final ThreadFactory threadFactory = new WrappedThreadFactory();
-  private static final ScheduledExecutorService wrappedExecutorService =
-      Engine.wrappedExecutorService("operator", container);
+  private static ScheduledExecutorService wrappedExecutorService;
   private static final AtomicReference<OffsetDateTime> lastFullRecheck =
       new AtomicReference<>(SystemClock.now());
   private static final Semaphore shutdownSignal = new Semaphore(0);
@@ -101,7 +101,7 @@ public class Main {
 
       ClientPool.initialize(threadFactory);
 
-      TuningParameters.initializeInstance(wrappedExecutorService, "/operator/config");
+      TuningParameters.initializeInstance(Main::getWrappedExecutorService, "/operator/config");
     } catch (IOException e) {
       LOGGER.warning(MessageKeys.EXCEPTION, e);
       throw new RuntimeException(e);
@@ -115,7 +115,7 @@ public class Main {
             ProcessingConstants.MAIN_COMPONENT_NAME,
             Component.createFor(
                 ScheduledExecutorService.class,
-                wrappedExecutorService,
+                getWrappedExecutorService(),
                 TuningParameters.class,
                   TuningParameters.getInstance(),
                 ThreadFactory.class,
@@ -294,12 +294,25 @@ public class Main {
   }
 
   static @Nonnull Main createMain(Properties buildProps) {
-    final MainDelegateImpl delegate = new MainDelegateImpl(buildProps, wrappedExecutorService);
+    final MainDelegateImpl delegate = new MainDelegateImpl(buildProps, getWrappedExecutorService());
 
     delegate.logStartup(LOGGER);
     return new Main(delegate);
   }
 
+  // Returns the executor which runs all fibers, as well as tuning updates, watchers and the liveness check.
+  // It is created when first needed, after the tuning parameters have been read, so that it may use
+  // the threading mode which they select.
+  private static synchronized ScheduledExecutorService getWrappedExecutorService() {
+    if (wrappedExecutorService == null) {
+      wrappedExecutorService = Optional.ofNullable(TuningParameters.getInstance())
+            .map(TuningParameters::getEngineTuning)
+            .map(tuning -> Engine.wrappedExecutorService("operator", container, tuning))
+            .orElseGet(() -> Engine.wrappedExecutorService("operator", container));
+    }
+    return wrappedExecutorService;
+  }
+
   DomainNamespaces getDomainNamespaces() {
     return delegate.getDomainNamespaces();
   }
@@ -412,7 +425,14 @@ public class Main {
   }
 
   Runnable recheckDomains() {
-    return () -> delegate.runSteps(createDomainRecheckSteps());
+    return () -> delegate.runSteps(createRecheckPacket(), createDomainRecheckSteps(), null);
+  }
+
+  // The periodic recheck competes for the request rate only with what is left over from domain processing.
+  private static Packet createRecheckPacket() {
+    Packet packet = new Packet();
+    packet.put(ProcessingConstants.REQUEST_PRIORITY, RequestRateLimiter.Priority.LOW);
+    return packet;
   }
 
   Runnable checkStuckPods() {
@@ -500,7 +520,7 @@ public class Main {
 
       LOGGER.info(MessageKeys.STARTING_LIVENESS_THREAD);
       // every five seconds we need to update the last modified time on the liveness file
-      wrappedExecutorService.scheduleWithFixedDelay(new OperatorLiveness(), 5, 5, TimeUnit.SECONDS);
+      getWrappedExecutorService().scheduleWithFixedDelay(new OperatorLiveness(), 5, 5, TimeUnit.SECONDS);
     } catch (IOException io) {
       LOGGER.severe(MessageKeys.EXCEPTION, io);
     }
@@ -0,0 +1,105 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.util.Watch;
+import io.kubernetes.client.util.Watchable;
+import oracle.kubernetes.operator.TuningParameters.WatchTuning;
+import oracle.kubernetes.operator.builders.WatchBuilder;
+import oracle.kubernetes.operator.watcher.WatchListener;
+
+/**
+ * Watches one kind of resource in all namespaces with a single cluster-wide watch, and passes each event to the
+ * watcher registered for the namespace of the resource. The namespace watchers do not run watches of their own.
+ * Events for namespaces without a registered watcher are ignored.
+ *
+ * @param <T> The type of the object to be watched.
+ */
+class MultiplexedWatcher<T extends KubernetesObject> extends Watcher<T> implements WatchListener<T> {
+  private final Watcher<T> template;
+  private final Map<String, Watcher<T>> namespaceWatchers = new ConcurrentHashMap<>();
+
+  MultiplexedWatcher(Watcher<T> template, String initialResourceVersion, WatchTuning tuning, AtomicBoolean stopping) {
+    super(initialResourceVersion, tuning, stopping);
+    setListener(this);
+    this.template = template;
+  }
+
+  /**
+   * Factory for MultiplexedWatcher.
+   *
+   * @param factory thread factory
+   * @param template a namespace watcher which defines the selection of the resources to watch
+   * @param initialResourceVersion Initial resource version or empty string
+   * @param tuning Watch tuning parameters
+   * @param isStopping Stop signal
+   * @param <T> The type of the object to be watched.
+   * @return a cluster-wide watcher, to which namespace watchers may be added
+   */
+  static <T extends KubernetesObject> MultiplexedWatcher<T> create(
+        ThreadFactory factory,
+        Watcher<T> template,
+        String initialResourceVersion,
+        WatchTuning tuning,
+        AtomicBoolean isStopping) {
+    MultiplexedWatcher<T> watcher = new MultiplexedWatcher<>(template, initialResourceVersion, tuning, isStopping);
+    watcher.start(factory);
+    return watcher;
+  }
+
+  void addNamespaceWatcher(Watcher<T> watcher) {
+    namespaceWatchers.put(watcher.getNamespace(), watcher);
+  }
+
+  void removeNamespaceWatcher(String namespace) {
+    namespaceWatchers.remove(namespace);
+  }
+
+  // The template applies the selectors for its kind of resource; the builder widens the watch to all namespaces.
+  @Override
+  public Watchable<T> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
+    return template.initiateWatch(watchBuilder.forAllNamespaces());
+  }
+
+  @Override
+  public String getNamespace() {
+    return null;
+  }
+
+  @Override
+  String getNamespace(Watch.Response<T> item) {
+    return Optional.ofNullable(item.object)
+          .map(KubernetesObject::getMetadata)
+          .map(V1ObjectMeta::getNamespace)
+          .orElse(null);
+  }
+
+  @Override
+  String getWatcherName() {
+    return template.getWatcherName();
+  }
+
+  @Override
+  public String getDomainUid(Watch.Response<T> item) {
+    return getNamespaceWatcher(item).map(w -> w.getDomainUid(item)).orElse(null);
+  }
+
+  @Override
+  public void receivedResponse(Watch.Response<T> item) {
+    getNamespaceWatcher(item).ifPresent(w -> w.dispatch(item));
+  }
+
+  private Optional<Watcher<T>> getNamespaceWatcher(Watch.Response<T> item) {
+    return Optional.ofNullable(getNamespace(item)).map(namespaceWatchers::get);
+  }
+}
@@ -3,13 +3,17 @@
 
 package oracle.kubernetes.operator;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 
 import io.kubernetes.client.common.KubernetesListObject;
@@ -21,7 +25,10 @@ import io.kubernetes.client.openapi.models.V1ServiceList;
 import io.kubernetes.client.openapi.models.V1beta1PodDisruptionBudgetList;
 import oracle.kubernetes.operator.calls.CallResponse;
 import oracle.kubernetes.operator.helpers.CallBuilder;
+import oracle.kubernetes.operator.helpers.ResourceCache;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
+import oracle.kubernetes.operator.work.AsyncFiber;
+import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -32,9 +39,14 @@ import static oracle.kubernetes.operator.LabelConstants.getCreatedByOperatorSele
 
 /**
  * A Class to manage listing Kubernetes resources associated with a namespace and doing processing on them.
+ * The lists are requested concurrently, in child fibers, subject to per-namespace and operator-wide limits;
+ * the processing for each kind of resource is done as its list arrives, but never concurrently with other processing
+ * for the same namespace.
  */
 class NamespacedResources {
 
+  private static final ListPermits LIST_PERMITS = new ListPermits();
+
   private final String namespace;
   private final String domainUid;
   private final List<Processors> processors = new ArrayList<>();
@@ -49,7 +61,11 @@ class NamespacedResources {
   }
 
   Step createListSteps() {
-    return Step.chain(
+    return new ParallelListStep(getListSteps(), new CompletionStep());
+  }
+
+  private List<Step> getListSteps() {
+    return Stream.of(
           getConfigMapListSteps(),
           getPodEventListSteps(),
           getOperatorEventListSteps(),
@@ -57,9 +73,25 @@ class NamespacedResources {
           getPodListSteps(),
           getServiceListSteps(),
           getPodDisruptionBudgetListSteps(),
-          getDomainListSteps(),
-          new CompletionStep()
-    );
+          getDomainListSteps())
+          .filter(Objects::nonNull)
+          .collect(Collectors.toList());
+  }
+
+  private static int getNamespaceListConcurrency() {
+    return TuningParameters.getInstance().getCallBuilderTuning().namespaceListConcurrency;
+  }
+
+  private static int getListConcurrencyLimit() {
+    return TuningParameters.getInstance().getCallBuilderTuning().listConcurrencyLimit;
+  }
+
+  static int getNumListPermitsInUse() {
+    return LIST_PERMITS.getNumInUse();
+  }
+
+  private static boolean atLimit(int count, int limit) {
+    return limit > 0 && count >= limit;
   }
 
   /**
@@ -137,7 +169,14 @@ class NamespacedResources {
 
   private Step createConfigMapListStep(List<Consumer<V1ConfigMapList>> processing) {
     return new CallBuilder()
-             .listConfigMapsAsync(namespace, new ListResponseStep<>(processing));
+             .listConfigMapsAsync(namespace, new ListResponseStep<>(withCaching(processing)));
+  }
+
+  // Seeds the config map cache, which the config map watcher will then keep current.
+  private List<Consumer<V1ConfigMapList>> withCaching(List<Consumer<V1ConfigMapList>> processing) {
+    List<Consumer<V1ConfigMapList>> result = new ArrayList<>(processing);
+    result.add(list -> ResourceCache.CONFIG_MAPS.addAll(list.getItems()));
+    return result;
   }
 
   private Step getPodEventListSteps() {
@@ -221,6 +260,185 @@ class NamespacedResources {
   }
 
 
+  /**
+   * Runs each of the list steps in its own child fiber, and then continues with the next step once all have completed.
+   */
+  private class ParallelListStep extends Step {
+    private final List<Step> listSteps;
+
+    ParallelListStep(List<Step> listSteps, Step next) {
+      super(next);
+      this.listSteps = listSteps;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      if (listSteps.isEmpty()) {
+        return doNext(packet);
+      } else {
+        return doSuspend(fiber -> new ListDispatcher(fiber, packet, listSteps).startAvailableLists());
+      }
+    }
+  }
+
+  /**
+   * Starts the child fibers for the lists of one namespace as the concurrency limits permit, and resumes the
+   * parent fiber when all of them have completed. The permit held by a list is released when its fiber completes
+   * or is cancelled, as it will be if the parent fiber is cancelled.
+   */
+  private static class ListDispatcher {
+    private final AsyncFiber fiber;
+    private final Packet packet;
+    private final Queue<Step> pending;
+    private final int namespaceLimit = getNamespaceListConcurrency();
+    private final List<Throwable> throwables = new ArrayList<>();
+    private int numRunning;
+    private boolean waitingForPermit;
+
+    ListDispatcher(AsyncFiber fiber, Packet packet, List<Step> listSteps) {
+      this.fiber = fiber;
+      this.packet = packet;
+      this.pending = new ArrayDeque<>(listSteps);
+    }
+
+    void startAvailableLists() {
+      Step step;
+      while ((step = nextListToStart()) != null) {
+        startList(step);
+      }
+    }
+
+    private void startList(Step step) {
+      fiber.createChildFiber().start(step, packet.copy(), new ListCompletion());
+    }
+
+    private synchronized Step nextListToStart() {
+      if (pending.isEmpty() || waitingForPermit || atLimit(numRunning, namespaceLimit)) {
+        return null;
+      } else if (!LIST_PERMITS.tryAcquire(this::permitGranted)) {
+        waitingForPermit = true;
+        return null;
+      } else {
+        numRunning++;
+        return pending.poll();
+      }
+    }
+
+    // Called when a permit released by another namespace is handed to this dispatcher.
+    private void permitGranted() {
+      Step step;
+      synchronized (this) {
+        waitingForPermit = false;
+        step = atLimit(numRunning, namespaceLimit) ? null : pending.poll();
+        if (step != null) {
+          numRunning++;
+        }
+      }
+
+      if (step == null) {
+        LIST_PERMITS.release();
+      } else {
+        startList(step);
+        startAvailableLists();
+      }
+    }
+
+    private void listCancelled() {
+      LIST_PERMITS.release();
+
+      synchronized (this) {
+        numRunning--;
+      }
+    }
+
+    private void listCompleted(Throwable throwable) {
+      LIST_PERMITS.release();
+
+      boolean allCompleted;
+      synchronized (this) {
+        Optional.ofNullable(throwable).ifPresent(throwables::add);
+        numRunning--;
+        allCompleted = numRunning == 0 && pending.isEmpty();
+      }
+
+      if (allCompleted) {
+        resumeParent();
+      } else {
+        startAvailableLists();
+      }
+    }
+
+    private void resumeParent() {
+      if (throwables.isEmpty()) {
+        fiber.resume(packet);
+      } else if (throwables.size() == 1) {
+        fiber.terminate(throwables.get(0), packet);
+      } else {
+        fiber.terminate(new Step.MultiThrowable(throwables), packet);
+      }
+    }
+
+    // Reports the end of a single list exactly once, however its fiber ends.
+    private class ListCompletion implements Fiber.CompletionCallback {
+      private final AtomicBoolean ended = new AtomicBoolean();
+
+      @Override
+      public void onCompletion(Packet p) {
+        if (ended.compareAndSet(false, true)) {
+          listCompleted(null);
+        }
+      }
+
+      @Override
+      public void onThrowable(Packet p, Throwable throwable) {
+        if (ended.compareAndSet(false, true)) {
+          listCompleted(throwable);
+        }
+      }
+
+      @Override
+      public void onCancelled() {
+        if (ended.compareAndSet(false, true)) {
+          listCancelled();
+        }
+      }
+    }
+  }
+
+  /**
+   * The operator-wide limit on concurrent list requests. When no permit is available, a dispatcher waits for one,
+   * and the next permit released is handed to the dispatcher which has waited longest.
+   */
+  private static class ListPermits {
+    private final Queue<Runnable> waiters = new ArrayDeque<>();
+    private int numInUse;
+
+    synchronized boolean tryAcquire(Runnable onPermitGranted) {
+      if (atLimit(numInUse, getListConcurrencyLimit())) {
+        waiters.add(onPermitGranted);
+        return false;
+      } else {
+        numInUse++;
+        return true;
+      }
+    }
+
+    void release() {
+      Runnable waiter;
+      synchronized (this) {
+        waiter = waiters.poll();
+        if (waiter == null) {
+          numInUse--;
+        }
+      }
+      Optional.ofNullable(waiter).ifPresent(Runnable::run);
+    }
+
+    synchronized int getNumInUse() {
+      return numInUse;
+    }
+  }
+
   class CompletionStep extends Step {
     @Override
     public NextAction apply(Packet packet) {
@@ -229,16 +447,18 @@ class NamespacedResources {
     }
   }
 
-  private static class ListResponseStep<L extends KubernetesListObject> extends DefaultResponseStep<L> {
-    private final List<Consumer<L>> processors;
+  private class ListResponseStep<L extends KubernetesListObject> extends DefaultResponseStep<L> {
+    private final List<Consumer<L>> listProcessing;
 
-    ListResponseStep(List<Consumer<L>> processors) {
-      this.processors = processors;
+    ListResponseStep(List<Consumer<L>> listProcessing) {
+      this.listProcessing = listProcessing;
     }
 
     @Override
     public NextAction onSuccess(Packet packet, CallResponse<L> callResponse) {
-      processors.forEach(p -> p.accept(callResponse.getResult()));
+      synchronized (NamespacedResources.this) {
+        listProcessing.forEach(p -> p.accept(callResponse.getResult()));
+      }
       return doContinueListOrNext(callResponse, packet);
     }
   }
@@ -148,8 +148,11 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod>,
    * @param item item
    */
   public void receivedResponse(Watch.Response<V1Pod> item) {
-    listener.receivedResponse(item);
+    listener.receivedResponse(item, () -> notifyAwaiters(item));
+  }
 
+  // Awaiters expect the domain presence info to hold the pod, so are notified only after the listener has run.
+  private void notifyAwaiters(Watch.Response<V1Pod> item) {
     V1Pod pod = item.object;
     switch (item.type) {
       case "ADDED":
@@ -41,6 +41,9 @@ public interface ProcessingConstants {
   String INTROSPECTOR_JOB_FAILURE_LOGGED = "introspectorJobFailureLogged";
   String WAIT_FOR_POD_READY = "waitForPodReady";
 
+  /** Key to the RequestRateLimiter.Priority of the Kubernetes requests made by a fiber, if not implied by each call. */
+  String REQUEST_PRIORITY = "requestPriority";
+
   /** Key to an object of type MakeRightDomainOperation. */
   String MAKE_RIGHT_DOMAIN_OPERATION = "makeRightOp";
 
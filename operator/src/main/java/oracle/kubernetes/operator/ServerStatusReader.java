@@ -12,6 +12,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
@@ -30,6 +31,7 @@ import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.steps.ReadHealthStep;
+import oracle.kubernetes.operator.steps.ReadServerStatesStep;
 import oracle.kubernetes.operator.utils.KubernetesExec;
 import oracle.kubernetes.operator.utils.KubernetesExecFactory;
 import oracle.kubernetes.operator.utils.KubernetesExecFactoryImpl;
@@ -51,6 +53,9 @@ public class ServerStatusReader {
   @SuppressWarnings("FieldMayBeFinal") // may be replaced by unit test
   private static KubernetesExecFactory EXEC_FACTORY = new KubernetesExecFactoryImpl();
   private static final Function<Step, Step> STEP_FACTORY = ReadHealthStep::createReadHealthStep;
+  @SuppressWarnings("FieldMayBeFinal") // may be replaced by unit test
+  private static BiFunction<Long, Step, Step> SERVER_STATES_STEP_FACTORY
+        = ReadServerStatesStep::createReadServerStatesStep;
 
   private ServerStatusReader() {
   }
@@ -103,17 +108,54 @@ public class ServerStatusReader {
       AtomicInteger remainingServerHealthToRead = new AtomicInteger();
       packet.put(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ, remainingServerHealthToRead);
 
+      if (info.getServerPods().findAny().isEmpty()) {
+        return doNext(packet);
+      }
+
+      Step readStates = new ServerStatusForkStep(info, timeoutSeconds, getNext());
+      if (info.getServerPods().noneMatch(pod -> mustReadState(info, pod))) {
+        return doNext(readStates, packet);
+      } else {
+        return doNext(SERVER_STATES_STEP_FACTORY.apply(timeoutSeconds, readStates), packet);
+      }
+    }
+  }
+
+  // The state of a server must be read unless its pod is ready, in which case the health step will find it,
+  // or it has been the same for long enough that it need not be read again yet.
+  private static boolean mustReadState(DomainPresenceInfo info, V1Pod pod) {
+    return !PodHelper.getReadyStatus(pod)
+          && !isSettled(info.getLastKnownServerStatus(PodHelper.getPodServerName(pod)));
+  }
+
+  private static boolean isSettled(LastKnownStatus lastKnownStatus) {
+    TuningParameters.MainTuning main = TuningParameters.getInstance().getMainTuning();
+    return lastKnownStatus != null
+        && !WebLogicConstants.UNKNOWN_STATE.equals(lastKnownStatus.getStatus())
+        && lastKnownStatus.getUnchangedCount() >= main.unchangedCountToDelayStatusRecheck
+        && SystemClock.now().isBefore(lastKnownStatus.getTime().plusSeconds((int) main.eventualLongDelay));
+  }
+
+  // Reads the state of each server that was not supplied by the admin server, as well as the health of each server.
+  private static class ServerStatusForkStep extends Step {
+    private final DomainPresenceInfo info;
+    private final long timeoutSeconds;
+
+    ServerStatusForkStep(DomainPresenceInfo info, long timeoutSeconds, Step next) {
+      super(next);
+      this.info = info;
+      this.timeoutSeconds = timeoutSeconds;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
       Collection<StepAndPacket> startDetails =
           info.getServerPods()
               .map(pod -> createStatusReaderStep(packet, pod))
               .collect(Collectors.toList());
 
-      if (startDetails.isEmpty()) {
-        return doNext(packet);
-      } else {
-        remainingServerHealthToRead.set(startDetails.size());
-        return doForkJoin(getNext(), packet, startDetails);
-      }
+      packet.<AtomicInteger>getValue(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ).set(startDetails.size());
+      return doForkJoin(getNext(), packet, startDetails);
     }
 
     private StepAndPacket createStatusReaderStep(Packet packet, V1Pod pod) {
@@ -143,18 +185,15 @@ public class ServerStatusReader {
       @SuppressWarnings("unchecked")
       ConcurrentMap<String, String> serverStateMap =
           (ConcurrentMap<String, String>) packet.get(SERVER_STATE_MAP);
+      if (serverStateMap.containsKey(serverName)) {
+        // already reported by the admin server
+        return doNext(packet);
+      }
 
-      TuningParameters.MainTuning main = TuningParameters.getInstance().getMainTuning();
       LastKnownStatus lastKnownStatus = info.getLastKnownServerStatus(serverName);
-      if (lastKnownStatus != null
-          && !WebLogicConstants.UNKNOWN_STATE.equals(lastKnownStatus.getStatus())
-          && lastKnownStatus.getUnchangedCount() >= main.unchangedCountToDelayStatusRecheck) {
-        if (SystemClock.now()
-            .isBefore(lastKnownStatus.getTime().plusSeconds((int) main.eventualLongDelay))) {
-          String state = lastKnownStatus.getStatus();
-          serverStateMap.put(serverName, state);
-          return doNext(packet);
-        }
+      if (isSettled(lastKnownStatus)) {
+        serverStateMap.put(serverName, lastKnownStatus.getStatus());
+        return doNext(packet);
       }
 
       if (PodHelper.getReadyStatus(pod)) {
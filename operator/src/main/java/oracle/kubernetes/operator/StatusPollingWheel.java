@@ -0,0 +1,291 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import oracle.kubernetes.operator.TuningParameters.MainTuning;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+
+/**
+ * Schedules the periodic status updates of all domains from a single timer, rather than with a separate
+ * scheduled task for each domain.
+ *
+ * <p>Domains are held in a timing wheel with one slot per second; a domain which is due more than one turn of
+ * the wheel ahead stays in its slot until the turn on which it is due. The first update of each domain is
+ * staggered across the initial delay, so that domains registered together do not poll in lockstep, and each
+ * later update is scheduled after the interval chosen by that domain, so that stable domains are polled less
+ * often. At most a configured number of updates run at once; due domains beyond that wait in the order in
+ * which they became due. An update which has not completed within twice the status update timeout is presumed
+ * to be hung: it no longer counts against that limit, and its domain is scheduled again.
+ */
+class StatusPollingWheel {
+
+  static final int SLOT_COUNT = 64;
+  private static final long TICK_SECONDS = 1;
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  /**
+   * The status update of a single domain.
+   */
+  interface StatusUpdate {
+
+    /**
+     * Starts an update of the domain status.
+     * @param onCompletion to be run once the update is complete or cancelled, if it was started
+     * @return false if the domain is no longer present, and should no longer be updated
+     */
+    boolean start(Runnable onCompletion);
+
+    /**
+     * Returns the time to wait after an update completes before starting the next one.
+     * @return the interval, in seconds
+     */
+    long getNextIntervalSeconds();
+  }
+
+  private final DomainProcessorDelegate delegate;
+  private final Supplier<MainTuning> tuningSupplier;
+
+  // guarded by this
+  private final List<Set<Registration>> slots = new ArrayList<>();
+  private final Map<List<String>, Registration> registrations = new HashMap<>();
+  private final Queue<Registration> ready = new ArrayDeque<>();
+  private final Set<Registration> running = new LinkedHashSet<>();
+  private long currentTick;
+  private int numRunning;
+  private ScheduledFuture<?> ticker;
+
+  StatusPollingWheel(DomainProcessorDelegate delegate, Supplier<MainTuning> tuningSupplier) {
+    this.delegate = delegate;
+    this.tuningSupplier = tuningSupplier;
+    for (int i = 0; i < SLOT_COUNT; i++) {
+      slots.add(new LinkedHashSet<>());
+    }
+  }
+
+  /**
+   * Starts periodic status updates for a domain, replacing any already registered for it.
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   * @param update the status update to run
+   * @param initialDelaySeconds the longest time before the first update
+   */
+  synchronized void register(String namespace, String domainUid, StatusUpdate update, long initialDelaySeconds) {
+    final List<String> key = List.of(namespace, domainUid);
+    Optional.ofNullable(registrations.remove(key)).ifPresent(this::discard);
+
+    Registration registration = new Registration(key, update);
+    registrations.put(key, registration);
+    schedule(registration, getStaggeredDelay(key, initialDelaySeconds));
+    if (ticker == null) {
+      ticker = delegate.scheduleWithFixedDelay(this::tick, TICK_SECONDS, TICK_SECONDS, TimeUnit.SECONDS);
+    }
+  }
+
+  // Spreads the first updates of different domains across the initial delay.
+  private long getStaggeredDelay(List<String> key, long initialDelaySeconds) {
+    return 1 + Math.floorMod(key.hashCode(), Math.max(1, initialDelaySeconds));
+  }
+
+  /**
+   * Stops the status updates for a domain. An update in progress is allowed to complete.
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   */
+  synchronized void unregister(String namespace, String domainUid) {
+    Optional.ofNullable(registrations.remove(List.of(namespace, domainUid))).ifPresent(this::discard);
+    if (registrations.isEmpty() && ticker != null) {
+      ticker.cancel(false);
+      ticker = null;
+    }
+  }
+
+  private void discard(Registration registration) {
+    unschedule(registration);
+    ready.remove(registration);
+  }
+
+  /**
+   * Brings the next status update for a domain forward to the next tick, so that the status reflects a change
+   * reported by a watch soon after it happens. Repeated requests before that update runs have no further effect.
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   */
+  synchronized void expedite(String namespace, String domainUid) {
+    final Registration registration = registrations.get(List.of(namespace, domainUid));
+    if (registration != null && registration.isScheduled() && registration.dueTick > currentTick + 1) {
+      unschedule(registration);
+      schedule(registration, 1);
+    }
+  }
+
+  /**
+   * Returns the number of status updates which are due but waiting for a running update to complete.
+   * @return the number of waiting updates
+   */
+  synchronized int getNumWaiting() {
+    return ready.size();
+  }
+
+  /**
+   * Returns the number of status updates which are running.
+   * @return the number of running updates
+   */
+  synchronized int getNumRunning() {
+    return numRunning;
+  }
+
+  void tick() {
+    try {
+      startUpdates(advance());
+    } catch (Throwable t) {
+      LOGGER.severe(MessageKeys.EXCEPTION, t);
+    }
+  }
+
+  private synchronized List<Registration> advance() {
+    currentTick++;
+    releaseTimedOutUpdates();
+    Set<Registration> slot = getSlot(currentTick);
+    List<Registration> due = new ArrayList<>();
+    for (Registration registration : slot) {
+      if (registration.dueTick <= currentTick) {
+        due.add(registration);
+      }
+    }
+    slot.removeAll(due);
+    due.forEach(r -> r.dueTick = 0);
+    ready.addAll(due);
+    return takeStartable();
+  }
+
+  private List<Registration> takeStartable() {
+    final int maxRunning = tuningSupplier.get().maxConcurrentStatusUpdates;
+    List<Registration> startable = new ArrayList<>();
+    while (!ready.isEmpty() && (maxRunning <= 0 || numRunning < maxRunning)) {
+      final Registration registration = ready.poll();
+      registration.deadlineTick = currentTick + getUpdateTimeoutSeconds() / TICK_SECONDS;
+      running.add(registration);
+      startable.add(registration);
+      numRunning++;
+    }
+    return startable;
+  }
+
+  private long getUpdateTimeoutSeconds() {
+    return Math.max(1, 2L * tuningSupplier.get().statusUpdateTimeoutSeconds);
+  }
+
+  // Frees the slots of updates which have run past their deadlines, so that hung fibers cannot stop all polling.
+  private void releaseTimedOutUpdates() {
+    List<Registration> timedOut = new ArrayList<>();
+    for (Registration registration : running) {
+      if (registration.deadlineTick <= currentTick) {
+        timedOut.add(registration);
+      }
+    }
+    for (Registration registration : timedOut) {
+      LOGGER.warning(MessageKeys.STATUS_UPDATE_TIMED_OUT,
+            registration.key.get(1), registration.key.get(0), getUpdateTimeoutSeconds());
+      release(registration);
+      if (registrations.get(registration.key) == registration) {
+        schedule(registration, registration.update.getNextIntervalSeconds());
+      }
+    }
+  }
+
+  // Returns false if the update was no longer running, because it has already completed or been released.
+  private boolean release(Registration registration) {
+    if (!running.remove(registration)) {
+      return false;
+    }
+    numRunning--;
+    return true;
+  }
+
+  private void startUpdates(List<Registration> startable) {
+    startable.forEach(this::startUpdate);
+  }
+
+  private void startUpdate(Registration registration) {
+    if (!registration.update.start(() -> onCompletion(registration))) {
+      onRemoved(registration);
+    }
+  }
+
+  private void onCompletion(Registration registration) {
+    final long intervalSeconds = registration.update.getNextIntervalSeconds();
+    List<Registration> startable;
+    synchronized (this) {
+      if (!release(registration)) {
+        return;
+      }
+      if (registrations.get(registration.key) == registration) {
+        schedule(registration, intervalSeconds);
+      }
+      startable = takeStartable();
+    }
+    startUpdates(startable);
+  }
+
+  private void onRemoved(Registration registration) {
+    List<Registration> startable;
+    synchronized (this) {
+      release(registration);
+      if (registrations.get(registration.key) == registration) {
+        unregister(registration.key.get(0), registration.key.get(1));
+      }
+      startable = takeStartable();
+    }
+    startUpdates(startable);
+  }
+
+  private void schedule(Registration registration, long delaySeconds) {
+    registration.dueTick = currentTick + Math.max(1, delaySeconds / TICK_SECONDS);
+    getSlot(registration.dueTick).add(registration);
+  }
+
+  private void unschedule(Registration registration) {
+    if (registration.isScheduled()) {
+      getSlot(registration.dueTick).remove(registration);
+      registration.dueTick = 0;
+    }
+  }
+
+  private Set<Registration> getSlot(long tick) {
+    return slots.get((int) (tick % SLOT_COUNT));
+  }
+
+  private static class Registration {
+    private final List<String> key;
+    private final StatusUpdate update;
+    private long dueTick;
+    private long deadlineTick;
+
+    Registration(List<String> key, StatusUpdate update) {
+      this.key = key;
+      this.update = update;
+    }
+
+    // a registration is not scheduled while it is waiting to run, or running
+    boolean isScheduled() {
+      return dueTick > 0;
+    }
+  }
+}
@@ -7,6 +7,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Supplier;
 
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
@@ -15,8 +16,8 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
 public interface TuningParameters extends Map<String, String> {
 
   static TuningParameters initializeInstance(
-      ScheduledExecutorService executorService, String mountPoint) {
-    return TuningParametersImpl.initializeInstance(executorService, mountPoint);
+      Supplier<ScheduledExecutorService> executorSupplier, String mountPoint) {
+    return TuningParametersImpl.initializeInstance(executorSupplier, mountPoint);
   }
 
   static TuningParameters getInstance() {
@@ -31,6 +32,8 @@ public interface TuningParameters extends Map<String, String> {
 
   PodTuning getPodTuning();
 
+  EngineTuning getEngineTuning();
+
   FeatureGates getFeatureGates();
 
   String getKubernetesPlatform();
@@ -47,6 +50,12 @@ public interface TuningParameters extends Map<String, String> {
     public final long initialShortDelay;
     public final long eventualLongDelay;
     public final int weblogicCredentialsSecretRereadIntervalSeconds;
+    public final long makeRightQuietMillis;
+    public final long makeRightMaxDelayMillis;
+    public final int eventAggregationSeconds;
+    public final int eventsPerSecond;
+    public final int eventQueueCapacity;
+    public final int maxConcurrentStatusUpdates;
 
     /**
      * create main tuning.
@@ -74,6 +83,128 @@ public interface TuningParameters extends Map<String, String> {
           long initialShortDelay,
           long eventualLongDelay,
           int weblogicCredentialsSecretRereadIntervalSeconds) {
+      this(initializationRetryDelaySeconds, domainPresenceFailureRetrySeconds, domainPresenceFailureRetryMaxCount,
+          domainPresenceRecheckIntervalSeconds, domainNamespaceRecheckIntervalSeconds, statusUpdateTimeoutSeconds,
+          unchangedCountToDelayStatusRecheck, stuckPodRecheckSeconds, initialShortDelay, eventualLongDelay,
+          weblogicCredentialsSecretRereadIntervalSeconds, 0, 0);
+    }
+
+    /**
+     * create main tuning.
+     * @param initializationRetryDelaySeconds initialization retry delay
+     * @param domainPresenceFailureRetrySeconds domain presence failure retry
+     * @param domainPresenceFailureRetryMaxCount domain presence failure retry max count
+     * @param domainPresenceRecheckIntervalSeconds domain presence recheck interval
+     * @param domainNamespaceRecheckIntervalSeconds domain namespace recheck interval
+     * @param statusUpdateTimeoutSeconds status update timeout
+     * @param unchangedCountToDelayStatusRecheck unchanged count to delay status recheck
+     * @param stuckPodRecheckSeconds time between checks for stuck pods
+     * @param initialShortDelay initial short delay
+     * @param eventualLongDelay eventual long delay
+     * @param weblogicCredentialsSecretRereadIntervalSeconds credentials secret reread interval
+     * @param makeRightQuietMillis time without further make-right requests for a domain before one is started
+     * @param makeRightMaxDelayMillis longest time that a make-right request may be deferred
+     */
+    public MainTuning(
+          int initializationRetryDelaySeconds,
+          int domainPresenceFailureRetrySeconds,
+          int domainPresenceFailureRetryMaxCount,
+          int domainPresenceRecheckIntervalSeconds,
+          int domainNamespaceRecheckIntervalSeconds,
+          int statusUpdateTimeoutSeconds,
+          int unchangedCountToDelayStatusRecheck,
+          int stuckPodRecheckSeconds,
+          long initialShortDelay,
+          long eventualLongDelay,
+          int weblogicCredentialsSecretRereadIntervalSeconds,
+          long makeRightQuietMillis,
+          long makeRightMaxDelayMillis) {
+      this(initializationRetryDelaySeconds, domainPresenceFailureRetrySeconds, domainPresenceFailureRetryMaxCount,
+          domainPresenceRecheckIntervalSeconds, domainNamespaceRecheckIntervalSeconds, statusUpdateTimeoutSeconds,
+          unchangedCountToDelayStatusRecheck, stuckPodRecheckSeconds, initialShortDelay, eventualLongDelay,
+          weblogicCredentialsSecretRereadIntervalSeconds, makeRightQuietMillis, makeRightMaxDelayMillis, 0, 0, 0);
+    }
+
+    /**
+     * create main tuning.
+     * @param initializationRetryDelaySeconds initialization retry delay
+     * @param domainPresenceFailureRetrySeconds domain presence failure retry
+     * @param domainPresenceFailureRetryMaxCount domain presence failure retry max count
+     * @param domainPresenceRecheckIntervalSeconds domain presence recheck interval
+     * @param domainNamespaceRecheckIntervalSeconds domain namespace recheck interval
+     * @param statusUpdateTimeoutSeconds status update timeout
+     * @param unchangedCountToDelayStatusRecheck unchanged count to delay status recheck
+     * @param stuckPodRecheckSeconds time between checks for stuck pods
+     * @param initialShortDelay initial short delay
+     * @param eventualLongDelay eventual long delay
+     * @param weblogicCredentialsSecretRereadIntervalSeconds credentials secret reread interval
+     * @param makeRightQuietMillis time without further make-right requests for a domain before one is started
+     * @param makeRightMaxDelayMillis longest time that a make-right request may be deferred
+     * @param eventAggregationSeconds time within which identical events are merged into one
+     * @param eventsPerSecond steady rate at which events may be written
+     * @param eventQueueCapacity number of events which may wait to be written before normal events are shed
+     */
+    public MainTuning(
+          int initializationRetryDelaySeconds,
+          int domainPresenceFailureRetrySeconds,
+          int domainPresenceFailureRetryMaxCount,
+          int domainPresenceRecheckIntervalSeconds,
+          int domainNamespaceRecheckIntervalSeconds,
+          int statusUpdateTimeoutSeconds,
+          int unchangedCountToDelayStatusRecheck,
+          int stuckPodRecheckSeconds,
+          long initialShortDelay,
+          long eventualLongDelay,
+          int weblogicCredentialsSecretRereadIntervalSeconds,
+          long makeRightQuietMillis,
+          long makeRightMaxDelayMillis,
+          int eventAggregationSeconds,
+          int eventsPerSecond,
+          int eventQueueCapacity) {
+      this(initializationRetryDelaySeconds, domainPresenceFailureRetrySeconds, domainPresenceFailureRetryMaxCount,
+          domainPresenceRecheckIntervalSeconds, domainNamespaceRecheckIntervalSeconds, statusUpdateTimeoutSeconds,
+          unchangedCountToDelayStatusRecheck, stuckPodRecheckSeconds, initialShortDelay, eventualLongDelay,
+          weblogicCredentialsSecretRereadIntervalSeconds, makeRightQuietMillis, makeRightMaxDelayMillis,
+          eventAggregationSeconds, eventsPerSecond, eventQueueCapacity, 0);
+    }
+
+    /**
+     * create main tuning.
+     * @param initializationRetryDelaySeconds initialization retry delay
+     * @param domainPresenceFailureRetrySeconds domain presence failure retry
+     * @param domainPresenceFailureRetryMaxCount domain presence failure retry max count
+     * @param domainPresenceRecheckIntervalSeconds domain presence recheck interval
+     * @param domainNamespaceRecheckIntervalSeconds domain namespace recheck interval
+     * @param statusUpdateTimeoutSeconds status update timeout
+     * @param unchangedCountToDelayStatusRecheck unchanged count to delay status recheck
+     * @param stuckPodRecheckSeconds time between checks for stuck pods
+     * @param initialShortDelay initial short delay
+     * @param eventualLongDelay eventual long delay
+     * @param weblogicCredentialsSecretRereadIntervalSeconds credentials secret reread interval
+     * @param makeRightMaxDelayMillis longest time that a make-right request may be deferred
+     * @param eventAggregationSeconds time within which identical events are merged into one
+     * @param eventsPerSecond steady rate at which events may be written
+     * @param eventQueueCapacity number of events which may wait to be written before normal events are shed
+     * @param maxConcurrentStatusUpdates number of domain status updates which may run at once, or zero for no limit
+     */
+    public MainTuning(
+          int initializationRetryDelaySeconds,
+          int domainPresenceFailureRetrySeconds,
+          int domainPresenceFailureRetryMaxCount,
+          int domainPresenceRecheckIntervalSeconds,
+          int domainNamespaceRecheckIntervalSeconds,
+          int statusUpdateTimeoutSeconds,
+          int unchangedCountToDelayStatusRecheck,
+          int stuckPodRecheckSeconds,
+          long initialShortDelay,
+          long eventualLongDelay,
+          int weblogicCredentialsSecretRereadIntervalSeconds,
+          long makeRightQuietMillis,
+          long makeRightMaxDelayMillis,
+          int eventAggregationSeconds,
+          int eventsPerSecond,
+          int eventQueueCapacity,
+          int maxConcurrentStatusUpdates) {
       this.initializationRetryDelaySeconds = initializationRetryDelaySeconds;
       this.domainPresenceFailureRetrySeconds = domainPresenceFailureRetrySeconds;
       this.domainPresenceFailureRetryMaxCount = domainPresenceFailureRetryMaxCount;
@@ -85,6 +216,12 @@ public interface TuningParameters extends Map<String, String> {
       this.initialShortDelay = initialShortDelay;
       this.eventualLongDelay = eventualLongDelay;
       this.weblogicCredentialsSecretRereadIntervalSeconds = weblogicCredentialsSecretRereadIntervalSeconds;
+      this.makeRightQuietMillis = makeRightQuietMillis;
+      this.makeRightMaxDelayMillis = makeRightMaxDelayMillis;
+      this.eventAggregationSeconds = eventAggregationSeconds;
+      this.eventsPerSecond = eventsPerSecond;
+      this.eventQueueCapacity = eventQueueCapacity;
+      this.maxConcurrentStatusUpdates = maxConcurrentStatusUpdates;
     }
 
     @Override
@@ -99,6 +236,12 @@ public interface TuningParameters extends Map<String, String> {
           .append("initialShortDelay", initialShortDelay)
           .append("eventualLongDelay", eventualLongDelay)
           .append("weblogicCredentialsSecretRereadIntervalSeconds", weblogicCredentialsSecretRereadIntervalSeconds)
+          .append("makeRightQuietMillis", makeRightQuietMillis)
+          .append("makeRightMaxDelayMillis", makeRightMaxDelayMillis)
+          .append("eventAggregationSeconds", eventAggregationSeconds)
+          .append("eventsPerSecond", eventsPerSecond)
+          .append("eventQueueCapacity", eventQueueCapacity)
+          .append("maxConcurrentStatusUpdates", maxConcurrentStatusUpdates)
           .toString();
     }
 
@@ -114,6 +257,12 @@ public interface TuningParameters extends Map<String, String> {
           .append(initialShortDelay)
           .append(eventualLongDelay)
           .append(weblogicCredentialsSecretRereadIntervalSeconds)
+          .append(makeRightQuietMillis)
+          .append(makeRightMaxDelayMillis)
+          .append(eventAggregationSeconds)
+          .append(eventsPerSecond)
+          .append(eventQueueCapacity)
+          .append(maxConcurrentStatusUpdates)
           .toHashCode();
     }
 
@@ -136,6 +285,12 @@ public interface TuningParameters extends Map<String, String> {
           .append(initialShortDelay, mt.initialShortDelay)
           .append(eventualLongDelay, mt.eventualLongDelay)
           .append(weblogicCredentialsSecretRereadIntervalSeconds, mt.weblogicCredentialsSecretRereadIntervalSeconds)
+          .append(makeRightQuietMillis, mt.makeRightQuietMillis)
+          .append(makeRightMaxDelayMillis, mt.makeRightMaxDelayMillis)
+          .append(eventAggregationSeconds, mt.eventAggregationSeconds)
+          .append(eventsPerSecond, mt.eventsPerSecond)
+          .append(eventQueueCapacity, mt.eventQueueCapacity)
+          .append(maxConcurrentStatusUpdates, mt.maxConcurrentStatusUpdates)
           .isEquals();
     }
   }
@@ -144,6 +299,12 @@ public interface TuningParameters extends Map<String, String> {
     public final int callRequestLimit;
     public final int callMaxRetryCount;
     public final int callTimeoutSeconds;
+    public final int clientPoolMaxAsyncSize;
+    public final int clientPoolMaxIdleSeconds;
+    public final int namespaceListConcurrency;
+    public final int listConcurrencyLimit;
+    public final int callsPerSecond;
+    public final int callBurst;
 
     /**
      * Create call builder tuning.
@@ -152,9 +313,67 @@ public interface TuningParameters extends Map<String, String> {
      * @param callTimeoutSeconds call timeout
      */
     public CallBuilderTuning(int callRequestLimit, int callMaxRetryCount, int callTimeoutSeconds) {
+      this(callRequestLimit, callMaxRetryCount, callTimeoutSeconds, 0, 0);
+    }
+
+    /**
+     * Create call builder tuning.
+     * @param callRequestLimit call request limit
+     * @param callMaxRetryCount call max retry count
+     * @param callTimeoutSeconds call timeout
+     * @param clientPoolMaxAsyncSize maximum number of concurrent asynchronous requests, or zero for no limit
+     * @param clientPoolMaxIdleSeconds idle time after which pooled clients are dropped, or zero to keep them
+     */
+    public CallBuilderTuning(int callRequestLimit, int callMaxRetryCount, int callTimeoutSeconds,
+                             int clientPoolMaxAsyncSize, int clientPoolMaxIdleSeconds) {
+      this(callRequestLimit, callMaxRetryCount, callTimeoutSeconds, clientPoolMaxAsyncSize, clientPoolMaxIdleSeconds,
+          0, 0);
+    }
+
+    /**
+     * Create call builder tuning.
+     * @param callRequestLimit call request limit
+     * @param callMaxRetryCount call max retry count
+     * @param callTimeoutSeconds call timeout
+     * @param clientPoolMaxAsyncSize maximum number of concurrent asynchronous requests, or zero for no limit
+     * @param clientPoolMaxIdleSeconds idle time after which pooled clients are dropped, or zero to keep them
+     * @param namespaceListConcurrency maximum number of concurrent list requests for one namespace,
+     *                                 or zero for no limit
+     * @param listConcurrencyLimit maximum number of concurrent list requests for all namespaces, or zero for no limit
+     */
+    public CallBuilderTuning(int callRequestLimit, int callMaxRetryCount, int callTimeoutSeconds,
+                             int clientPoolMaxAsyncSize, int clientPoolMaxIdleSeconds,
+                             int namespaceListConcurrency, int listConcurrencyLimit) {
+      this(callRequestLimit, callMaxRetryCount, callTimeoutSeconds, clientPoolMaxAsyncSize, clientPoolMaxIdleSeconds,
+          namespaceListConcurrency, listConcurrencyLimit, 0, 0);
+    }
+
+    /**
+     * Create call builder tuning.
+     * @param callRequestLimit call request limit
+     * @param callMaxRetryCount call max retry count
+     * @param callTimeoutSeconds call timeout
+     * @param clientPoolMaxAsyncSize maximum number of concurrent asynchronous requests, or zero for no limit
+     * @param clientPoolMaxIdleSeconds idle time after which pooled clients are dropped, or zero to keep them
+     * @param namespaceListConcurrency maximum number of concurrent list requests for one namespace,
+     *                                 or zero for no limit
+     * @param listConcurrencyLimit maximum number of concurrent list requests for all namespaces, or zero for no limit
+     * @param callsPerSecond steady rate at which asynchronous requests may be sent, or zero for no limit
+     * @param callBurst number of asynchronous requests which may be sent at once after a quiet period
+     */
+    public CallBuilderTuning(int callRequestLimit, int callMaxRetryCount, int callTimeoutSeconds,
+                             int clientPoolMaxAsyncSize, int clientPoolMaxIdleSeconds,
+                             int namespaceListConcurrency, int listConcurrencyLimit,
+                             int callsPerSecond, int callBurst) {
       this.callRequestLimit = callRequestLimit;
       this.callMaxRetryCount = callMaxRetryCount;
       this.callTimeoutSeconds = callTimeoutSeconds;
+      this.clientPoolMaxAsyncSize = clientPoolMaxAsyncSize;
+      this.clientPoolMaxIdleSeconds = clientPoolMaxIdleSeconds;
+      this.namespaceListConcurrency = namespaceListConcurrency;
+      this.listConcurrencyLimit = listConcurrencyLimit;
+      this.callsPerSecond = callsPerSecond;
+      this.callBurst = callBurst;
     }
 
     @Override
@@ -163,6 +382,12 @@ public interface TuningParameters extends Map<String, String> {
           .append("callRequestLimit", callRequestLimit)
           .append("callMaxRetryCount", callMaxRetryCount)
           .append("callTimeoutSeconds", callTimeoutSeconds)
+          .append("clientPoolMaxAsyncSize", clientPoolMaxAsyncSize)
+          .append("clientPoolMaxIdleSeconds", clientPoolMaxIdleSeconds)
+          .append("namespaceListConcurrency", namespaceListConcurrency)
+          .append("listConcurrencyLimit", listConcurrencyLimit)
+          .append("callsPerSecond", callsPerSecond)
+          .append("callBurst", callBurst)
           .toString();
     }
 
@@ -172,6 +397,12 @@ public interface TuningParameters extends Map<String, String> {
           .append(callRequestLimit)
           .append(callMaxRetryCount)
           .append(callTimeoutSeconds)
+          .append(clientPoolMaxAsyncSize)
+          .append(clientPoolMaxIdleSeconds)
+          .append(namespaceListConcurrency)
+          .append(listConcurrencyLimit)
+          .append(callsPerSecond)
+          .append(callBurst)
           .toHashCode();
     }
 
@@ -188,6 +419,12 @@ public interface TuningParameters extends Map<String, String> {
           .append(callRequestLimit, cbt.callRequestLimit)
           .append(callMaxRetryCount, cbt.callMaxRetryCount)
           .append(callTimeoutSeconds, cbt.callTimeoutSeconds)
+          .append(clientPoolMaxAsyncSize, cbt.clientPoolMaxAsyncSize)
+          .append(clientPoolMaxIdleSeconds, cbt.clientPoolMaxIdleSeconds)
+          .append(namespaceListConcurrency, cbt.namespaceListConcurrency)
+          .append(listConcurrencyLimit, cbt.listConcurrencyLimit)
+          .append(callsPerSecond, cbt.callsPerSecond)
+          .append(callBurst, cbt.callBurst)
           .isEquals();
     }
   }
@@ -197,6 +434,8 @@ public interface TuningParameters extends Map<String, String> {
     public final int watchMinimumDelay;
     public final int watchBackstopRecheckDelay;
     public final int watchBackstopRecheckCount;
+    public final int watchDispatchThreads;
+    public final int watchQueueCapacity;
 
     /**
      * Create watch tuning.
@@ -206,10 +445,28 @@ public interface TuningParameters extends Map<String, String> {
      */
     public WatchTuning(int watchLifetime, int watchMinimumDelay, int watchBackstopRecheckDelay,
                        int watchBackstopRecheckCount) {
+      this(watchLifetime, watchMinimumDelay, watchBackstopRecheckDelay, watchBackstopRecheckCount, 0, 0);
+    }
+
+    /**
+     * Create watch tuning.
+     * @param watchLifetime Watch lifetime
+     * @param watchMinimumDelay Minimum delay before accepting new events to prevent hot loops
+     * @param watchBackstopRecheckDelay Recheck delay for get while waiting for a status to backstop missed watch events
+     * @param watchBackstopRecheckCount Number of rechecks while waiting for a status
+     * @param watchDispatchThreads Number of threads which pass queued watch events to the operator,
+     *                             or zero to pass them on the watch threads
+     * @param watchQueueCapacity Number of events queued for one kind of resource in a namespace,
+     *                           beyond which events for the same resource are coalesced
+     */
+    public WatchTuning(int watchLifetime, int watchMinimumDelay, int watchBackstopRecheckDelay,
+                       int watchBackstopRecheckCount, int watchDispatchThreads, int watchQueueCapacity) {
       this.watchLifetime = watchLifetime;
       this.watchMinimumDelay = watchMinimumDelay;
       this.watchBackstopRecheckDelay = watchBackstopRecheckDelay;
       this.watchBackstopRecheckCount = watchBackstopRecheckCount;
+      this.watchDispatchThreads = watchDispatchThreads;
+      this.watchQueueCapacity = watchQueueCapacity;
     }
 
     @Override
@@ -218,13 +475,16 @@ public interface TuningParameters extends Map<String, String> {
           .append("watchLifetime", watchLifetime)
           .append("watchMinimumDelay", watchMinimumDelay)
           .append("watchBackstopRecheckDelay", watchBackstopRecheckDelay)
+          .append("watchDispatchThreads", watchDispatchThreads)
+          .append("watchQueueCapacity", watchQueueCapacity)
           .toString();
     }
 
     @Override
     public int hashCode() {
       return new HashCodeBuilder()
-              .append(watchLifetime).append(watchMinimumDelay).append(watchBackstopRecheckDelay).toHashCode();
+              .append(watchLifetime).append(watchMinimumDelay).append(watchBackstopRecheckDelay)
+              .append(watchDispatchThreads).append(watchQueueCapacity).toHashCode();
     }
 
     @Override
@@ -240,6 +500,8 @@ public interface TuningParameters extends Map<String, String> {
           .append(watchLifetime, wt.watchLifetime)
           .append(watchMinimumDelay, wt.watchMinimumDelay)
           .append(watchBackstopRecheckDelay, wt.watchBackstopRecheckDelay)
+          .append(watchDispatchThreads, wt.watchDispatchThreads)
+          .append(watchQueueCapacity, wt.watchQueueCapacity)
           .isEquals();
     }
   }
@@ -352,6 +614,58 @@ public interface TuningParameters extends Map<String, String> {
     }
   }
 
+  class EngineTuning {
+    public final String threadingMode;
+    public final int platformThreadCount;
+    public final int schedulerThreadCount;
+
+    /**
+     * Create engine tuning.
+     * @param threadingMode how fiber steps are run: "platform" or "virtual"
+     * @param platformThreadCount number of pooled threads that run fiber steps in platform mode
+     * @param schedulerThreadCount number of threads that fire timed actions in virtual mode
+     */
+    public EngineTuning(String threadingMode, int platformThreadCount, int schedulerThreadCount) {
+      this.threadingMode = threadingMode;
+      this.platformThreadCount = platformThreadCount;
+      this.schedulerThreadCount = schedulerThreadCount;
+    }
+
+    @Override
+    public String toString() {
+      return new ToStringBuilder(this)
+          .append("threadingMode", threadingMode)
+          .append("platformThreadCount", platformThreadCount)
+          .append("schedulerThreadCount", schedulerThreadCount)
+          .toString();
+    }
+
+    @Override
+    public int hashCode() {
+      return new HashCodeBuilder()
+          .append(threadingMode)
+          .append(platformThreadCount)
+          .append(schedulerThreadCount)
+          .toHashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (o == null) {
+        return false;
+      }
+      if (!(o instanceof EngineTuning)) {
+        return false;
+      }
+      EngineTuning et = (EngineTuning) o;
+      return new EqualsBuilder()
+          .append(threadingMode, et.threadingMode)
+          .append(platformThreadCount, et.platformThreadCount)
+          .append(schedulerThreadCount, et.schedulerThreadCount)
+          .isEquals();
+    }
+  }
+
   class FeatureGates {
     public final Collection<String> enabledFeatures;
 
@@ -6,20 +6,26 @@ package oracle.kubernetes.operator;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Optional;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import oracle.kubernetes.operator.calls.RequestRateLimiter;
+import oracle.kubernetes.operator.helpers.ClientPool;
 import oracle.kubernetes.operator.helpers.ConfigMapConsumer;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.work.Engine;
 
 import static oracle.kubernetes.operator.helpers.BasePodStepContext.KUBERNETES_PLATFORM_HELM_VARIABLE;
 
 public class TuningParametersImpl extends ConfigMapConsumer implements TuningParameters {
   public static final int DEFAULT_CALL_LIMIT = 50;
+  public static final int DEFAULT_CLIENT_POOL_MAX_ASYNC_SIZE = 64;
 
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   private static TuningParameters INSTANCE = null;
@@ -29,16 +35,18 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
   private CallBuilderTuning callBuilder = null;
   private WatchTuning watch = null;
   private PodTuning pod = null;
+  private EngineTuning engine = null;
   private FeatureGates featureGates = null;
   private String kubernetesPlatform = null;
 
-  private TuningParametersImpl(ScheduledExecutorService executorService) {
-    super(executorService);
+  private TuningParametersImpl(Supplier<ScheduledExecutorService> executorSupplier) {
+    super(executorSupplier);
   }
 
-  static synchronized TuningParameters initializeInstance(ScheduledExecutorService executorService, String mountPoint) {
+  static synchronized TuningParameters initializeInstance(
+        Supplier<ScheduledExecutorService> executorSupplier, String mountPoint) {
     if (INSTANCE == null) {
-      final TuningParametersImpl impl = new TuningParametersImpl(executorService);
+      final TuningParametersImpl impl = new TuningParametersImpl(executorSupplier);
       INSTANCE = impl;
       impl.scheduleUpdates(mountPoint, TuningParametersImpl::updateTuningParameters);
     }
@@ -66,20 +74,34 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
             (int) readTuningParameter("stuckPodRecheckSeconds", 30),
             readTuningParameter("statusUpdateInitialShortDelay", 5),
             readTuningParameter("statusUpdateEventualLongDelay", 30),
-            (int) readTuningParameter("weblogicCredentialsSecretRereadIntervalSeconds", 120));
+            (int) readTuningParameter("weblogicCredentialsSecretRereadIntervalSeconds", 120),
+            readTuningParameter("makeRightQuietMillis", 500),
+            readTuningParameter("makeRightMaxDelayMillis", 5000),
+            (int) readTuningParameter("eventAggregationSeconds", 10),
+            (int) readTuningParameter("eventsPerSecond", 20),
+            (int) readTuningParameter("eventQueueCapacity", 100),
+            (int) readTuningParameter("maxConcurrentStatusUpdates", 20));
 
     CallBuilderTuning callBuilder =
         new CallBuilderTuning(
             (int) readTuningParameter("callRequestLimit", DEFAULT_CALL_LIMIT),
             (int) readTuningParameter("callMaxRetryCount", 5),
-            (int) readTuningParameter("callTimeoutSeconds", 10));
+            (int) readTuningParameter("callTimeoutSeconds", 10),
+            (int) readTuningParameter("clientPoolMaxAsyncSize", DEFAULT_CLIENT_POOL_MAX_ASYNC_SIZE),
+            (int) readTuningParameter("clientPoolMaxIdleSeconds", 300),
+            (int) readTuningParameter("namespaceListConcurrency", 4),
+            (int) readTuningParameter("listConcurrencyLimit", 32),
+            (int) readTuningParameter("callsPerSecond", 50),
+            (int) readTuningParameter("callBurst", 100));
 
     WatchTuning watch =
         new WatchTuning(
             (int) readTuningParameter("watchLifetime", 300),
             (int) readTuningParameter("watchMinimumDelay", 5),
             (int) readTuningParameter("watchBackstopRecheckDelaySeconds", 5),
-            (int) readTuningParameter("watchBackstopRecheckCount", 60));
+            (int) readTuningParameter("watchBackstopRecheckCount", 60),
+            (int) readTuningParameter("watchDispatchThreads", 4),
+            (int) readTuningParameter("watchQueueCapacity", 1000));
 
     PodTuning pod =
         new PodTuning(
@@ -95,17 +117,26 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
             (int) readTuningParameter("livenessProbeFailureThreshold", 1),
             readTuningParameter("introspectorJobActiveDeadlineSeconds", 120));
 
+    EngineTuning engine =
+        new EngineTuning(
+            Optional.ofNullable(get("engineThreadingMode")).map(String::trim).orElse(Engine.PLATFORM_THREADING),
+            (int) readTuningParameter("enginePlatformThreadCount", Engine.DEFAULT_THREAD_COUNT),
+            (int) readTuningParameter("engineSchedulerThreadCount", Engine.DEFAULT_SCHEDULER_THREAD_COUNT));
+
     FeatureGates featureGates =
         new FeatureGates(generateFeatureGates(get("featureGates")));
 
     String kubernetesPlatform = get(KUBERNETES_PLATFORM_HELM_VARIABLE);
 
+    final boolean callBuilderChanged;
     lock.writeLock().lock();
     try {
+      callBuilderChanged = !callBuilder.equals(this.callBuilder);
       if (!main.equals(this.main)
           || !callBuilder.equals(this.callBuilder)
           || !watch.equals(this.watch)
           || !pod.equals(this.pod)
+          || !engine.equals(this.engine)
           || !featureGates.equals(this.featureGates)) {
         LOGGER.config(MessageKeys.TUNING_PARAMETERS);
       }
@@ -113,11 +144,17 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
       this.callBuilder = callBuilder;
       this.watch = watch;
       this.pod = pod;
+      this.engine = engine;
       this.featureGates = featureGates;
       this.kubernetesPlatform = kubernetesPlatform;
     } finally {
       lock.writeLock().unlock();
     }
+
+    if (callBuilderChanged) {
+      ClientPool.getInstance().configure(callBuilder);
+      RequestRateLimiter.getInstance().configure(callBuilder.callsPerSecond, callBuilder.callBurst);
+    }
   }
 
   private Collection<String> generateFeatureGates(String featureGatesProperty) {
@@ -172,6 +209,16 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
     }
   }
 
+  @Override
+  public EngineTuning getEngineTuning() {
+    lock.readLock().lock();
+    try {
+      return engine;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
   @Override
   public FeatureGates getFeatureGates() {
     lock.readLock().lock();
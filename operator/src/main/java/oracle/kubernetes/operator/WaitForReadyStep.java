@@ -265,7 +265,8 @@ abstract class WaitForReadyStep<T> extends Step {
               (MakeRightDomainOperation)packet.get(MAKE_RIGHT_DOMAIN_OPERATION);
       if (makeRightDomainOperation != null) {
         makeRightDomainOperation.clear();
-        makeRightDomainOperation.setLiveInfo(new DomainPresenceInfo((Domain) callResponse.getResult()));
+        makeRightDomainOperation.setLiveInfo(new DomainPresenceInfo(
+              ((Domain) callResponse.getResult()).withEffectiveConfigurationCached()));
         makeRightDomainOperation.withExplicitRecheck().interrupt().execute();
       }
       callback.fiber.terminate(new Exception(WAIT_TIMEOUT_EXCEEDED), packet);
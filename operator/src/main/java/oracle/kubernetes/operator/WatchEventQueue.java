@@ -0,0 +1,182 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.logging.LoggingContext;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
+import oracle.kubernetes.operator.watcher.WatchListener;
+
+/**
+ * Queues the watch events for one kind of resource in one namespace, so that the thread reading the watch
+ * need not wait for the operator to process them. The events are passed to the listener in order
+ * on the threads of a shared executor; at most one thread drains a queue at a time.
+ *
+ * <p>Once the queue holds its capacity of events, a new event for a resource which already has an event
+ * waiting replaces that event, so that only the latest state of the resource is passed on. An event for any other
+ * resource is still queued, so the queue holds at most one event per resource beyond its capacity.
+ *
+ * <p>Any action which must follow the handling of an event is run after the listener has received that event,
+ * or the event which replaced it.
+ *
+ * @param <T> The type of the object that is being watched.
+ */
+class WatchEventQueue<T extends KubernetesObject> implements WatchListener<T> {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  /** The number of events one thread passes on before it yields the executor to other queues. */
+  private static final int DRAIN_BATCH_SIZE = 64;
+
+  private static final Set<WatchEventQueue<?>> QUEUES = ConcurrentHashMap.newKeySet();
+
+  static {
+    OperatorMetrics.registerGauge("watch_queue_depth",
+          "Number of watch events waiting to be passed to the operator, by namespace and resource kind.",
+          WatchEventQueue::getQueueDepths, "namespace", "kind");
+  }
+
+  private final String namespace;
+  private final String kind;
+  private final int capacity;
+  private final Executor executor;
+  private final WatchListener<T> listener;
+  private final Deque<QueuedEvent> events = new ArrayDeque<>();
+  private final Map<String, QueuedEvent> latestEvents = new HashMap<>();
+  private boolean draining;
+
+  WatchEventQueue(String namespace, String kind, int capacity, Executor executor, WatchListener<T> listener) {
+    this.namespace = namespace;
+    this.kind = kind;
+    this.capacity = capacity;
+    this.executor = executor;
+    this.listener = listener;
+    QUEUES.add(this);
+  }
+
+  private static Map<List<String>, Integer> getQueueDepths() {
+    return QUEUES.stream()
+          .collect(Collectors.toMap(q -> List.of(q.namespace, q.kind), WatchEventQueue::size, Integer::sum));
+  }
+
+  /** Stops reporting the depth of this queue. Events already queued are still passed on. */
+  void close() {
+    QUEUES.remove(this);
+  }
+
+  synchronized int size() {
+    return events.size();
+  }
+
+  @Override
+  public void receivedResponse(Watch.Response<T> response) {
+    receivedResponse(response, null);
+  }
+
+  @Override
+  public void receivedResponse(Watch.Response<T> response, Runnable afterResponse) {
+    if (enqueue(response, afterResponse)) {
+      executor.execute(this::drain);
+    }
+  }
+
+  // Returns true if no thread is draining the queue, in which case the caller must start one.
+  private synchronized boolean enqueue(Watch.Response<T> response, Runnable afterResponse) {
+    String key = getKey(response);
+    QueuedEvent latest = latestEvents.get(key);
+    if (latest != null && events.size() >= capacity) {
+      latest.response = response;
+      latest.addAfterResponse(afterResponse);
+      OperatorMetrics.WATCH_EVENTS_COALESCED.labels(kind).increment();
+    } else {
+      QueuedEvent event = new QueuedEvent(key, response);
+      event.addAfterResponse(afterResponse);
+      events.add(event);
+      latestEvents.put(key, event);
+    }
+
+    if (draining) {
+      return false;
+    }
+    draining = true;
+    return true;
+  }
+
+  private String getKey(Watch.Response<T> response) {
+    return Optional.ofNullable(response.object)
+          .map(KubernetesObject::getMetadata).map(V1ObjectMeta::getName).orElse("");
+  }
+
+  private void drain() {
+    try (LoggingContext ignored = LoggingContext.setThreadContext().namespace(namespace)) {
+      for (int i = 0; i < DRAIN_BATCH_SIZE; i++) {
+        QueuedEvent event = dequeue();
+        if (event == null) {
+          return;
+        }
+        dispatch(event);
+      }
+    }
+    executor.execute(this::drain);
+  }
+
+  // Returns null, and marks the queue as no longer draining, if no events remain.
+  private synchronized QueuedEvent dequeue() {
+    QueuedEvent event = events.poll();
+    if (event == null) {
+      draining = false;
+    } else if (latestEvents.get(event.key) == event) {
+      latestEvents.remove(event.key);
+    }
+    return event;
+  }
+
+  private void dispatch(QueuedEvent event) {
+    OperatorMetrics.WATCH_DISPATCH_LAG.labels(kind).observeNanos(System.nanoTime() - event.queuedNanos);
+    try {
+      listener.receivedResponse(event.response);
+    } catch (Throwable throwable) {
+      LOGGER.warning(MessageKeys.EXCEPTION, throwable);
+    }
+    for (Runnable afterResponse : event.afterResponses) {
+      try {
+        afterResponse.run();
+      } catch (Throwable throwable) {
+        LOGGER.warning(MessageKeys.EXCEPTION, throwable);
+      }
+    }
+  }
+
+  private class QueuedEvent {
+    private final String key;
+    private final long queuedNanos = System.nanoTime();
+    private final List<Runnable> afterResponses = new ArrayList<>();
+    private Watch.Response<T> response;
+
+    QueuedEvent(String key, Watch.Response<T> response) {
+      this.key = key;
+      this.response = response;
+    }
+
+    void addAfterResponse(Runnable afterResponse) {
+      Optional.ofNullable(afterResponse).ifPresent(afterResponses::add);
+    }
+  }
+}
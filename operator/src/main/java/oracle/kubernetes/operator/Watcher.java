@@ -23,8 +23,10 @@ import oracle.kubernetes.operator.logging.LoggingContext;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.watcher.WatchListener;
 
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_GATEWAY_TIMEOUT;
 import static oracle.kubernetes.operator.KubernetesConstants.HTTP_GONE;
 import static oracle.kubernetes.utils.OperatorUtils.isNullOrEmpty;
 
@@ -107,9 +109,16 @@ abstract class Watcher<T> {
     this.listener = listener;
   }
 
-  /** Kick off the watcher processing that runs in a separate thread. */
+  /**
+   * Kick off the watcher processing that runs in a separate thread.
+   *
+   * @param factory the factory for the watcher thread, or null if this watcher will instead receive its events
+   *                from a {@link MultiplexedWatcher}
+   */
   void start(ThreadFactory factory) {
-    thread = STARTER.startWatcher(factory, this::doWatch);
+    if (factory != null) {
+      thread = STARTER.startWatcher(factory, this::doWatch);
+    }
   }
 
   public static Thread startAsynchronousWatch(ThreadFactory factory, Runnable doWatch) {
@@ -173,8 +182,9 @@ abstract class Watcher<T> {
           continue;
         }
 
+        OperatorMetrics.WATCH_EVENTS.labels(getWatcherName(), item.type).increment();
         try (LoggingContext ignored =
-                 LoggingContext.setThreadContext().namespace(getNamespace()).domainUid(getDomainUid(item))) {
+                 LoggingContext.setThreadContext().namespace(getNamespace(item)).domainUid(getDomainUid(item))) {
           if (isError(item)) {
             handleErrorResponse(item);
           } else {
@@ -220,6 +230,25 @@ abstract class Watcher<T> {
    */
   public abstract String getNamespace();
 
+  /**
+   * Gets the Kubernetes namespace associated with a watch response. By default, the namespace of the watcher.
+   *
+   * @param item Response item
+   * @return String object or null if the watch response is not associated with a namespace
+   */
+  String getNamespace(Watch.Response<T> item) {
+    return getNamespace();
+  }
+
+  /**
+   * Gets the name under which this watcher's events are reported in the operator metrics.
+   *
+   * @return the name of the watcher
+   */
+  String getWatcherName() {
+    return getClass().getSimpleName();
+  }
+
   /**
    * Gets the domainUID associated with a watch response.
    *
@@ -232,19 +261,51 @@ abstract class Watcher<T> {
     return item.type.equalsIgnoreCase("ERROR");
   }
 
+  // A bookmark carries only the latest resource version, so that the next watch can resume from it.
+  private boolean isBookmark(Watch.Response<T> item) {
+    return item.type.equalsIgnoreCase("BOOKMARK");
+  }
+
   private void handleRegularUpdate(Watch.Response<T> item) {
     LOGGER.finer(MessageKeys.WATCH_EVENT, item.type, item.object);
     trackResourceVersion(item.type, item.object);
+    if (isBookmark(item)) {
+      return;
+    }
+
+    dispatch(item);
+  }
+
+  /**
+   * Passes a watch event to any cache and to the listener. Called for each event read by this watcher,
+   * or demultiplexed to it from a cluster-wide watch.
+   *
+   * @param item the watch response
+   */
+  void dispatch(Watch.Response<T> item) {
+    updateCache(item);
     if (listener != null) {
       listener.receivedResponse(item);
     }
   }
 
+  /**
+   * Records a watch event in any cache of the watched resources. By default, does nothing.
+   *
+   * @param item the watch response
+   */
+  void updateCache(Watch.Response<T> item) {
+  }
+
+  // Only an expired or unrecognized resource version requires that the watch restart from an arbitrary point.
+  // After any other error, the watch resumes from the last event or bookmark received, which avoids
+  // replaying every existing resource to the listener.
   private void handleErrorResponse(Watch.Response<T> item) {
-    if (Optional.ofNullable(item.status).map(V1Status::getCode).orElse(0) != HTTP_GONE) {
-      resourceVersion = IGNORED;
-    } else {
+    int statusCode = Optional.ofNullable(item.status).map(V1Status::getCode).orElse(0);
+    if (statusCode == HTTP_GONE) {
       resourceVersion = Optional.of(item.status).map(V1Status::getMessage).map(this::resourceVersion).orElse(IGNORED);
+    } else if (statusCode == 0 || statusCode == HTTP_GATEWAY_TIMEOUT) {
+      resourceVersion = IGNORED;
     }
   }
 
@@ -40,10 +40,26 @@ public class WatchBuilder {
   private static WatchFactory FACTORY = new WatchFactoryImpl();
 
   private final CallParamsImpl callParams = new CallParamsImpl();
+  private boolean allNamespaces;
 
   public WatchBuilder() {
   }
 
+  /**
+   * Requests that the watch created by this builder cover all namespaces, rather than the one passed to the
+   * create method. The operator must be permitted to watch the resources at cluster scope.
+   *
+   * @return the updated builder
+   */
+  public WatchBuilder forAllNamespaces() {
+    allNamespaces = true;
+    return this;
+  }
+
+  private String scoped(String namespace) {
+    return allNamespaces ? null : namespace;
+  }
+
   /**
    * Creates a web hook object to track service calls.
    *
@@ -52,7 +68,7 @@ public class WatchBuilder {
    * @throws ApiException if there is an error on the call that sets up the web hook.
    */
   public Watchable<V1Service> createServiceWatch(String namespace) throws ApiException {
-    return FACTORY.createWatch(callParams, V1Service.class, new ListNamespacedServiceCall(namespace));
+    return FACTORY.createWatch(callParams, V1Service.class, new ListNamespacedServiceCall(scoped(namespace)));
   }
 
   /**
@@ -64,7 +80,7 @@ public class WatchBuilder {
    */
   public Watchable<V1beta1PodDisruptionBudget> createPodDisruptionBudgetWatch(String namespace) throws ApiException {
     return FACTORY.createWatch(callParams, V1beta1PodDisruptionBudget.class,
-        new ListPodDisruptionBudgetCall(namespace));
+        new ListPodDisruptionBudgetCall(scoped(namespace)));
   }
 
   /**
@@ -76,7 +92,7 @@ public class WatchBuilder {
    */
   public Watchable<V1Pod> createPodWatch(String namespace) throws ApiException {
     return FACTORY.createWatch(
-        callParams, V1Pod.class, new ListPodCall(namespace));
+        callParams, V1Pod.class, new ListPodCall(scoped(namespace)));
   }
 
   /**
@@ -88,7 +104,7 @@ public class WatchBuilder {
    */
   public Watchable<V1Job> createJobWatch(String namespace) throws ApiException {
     return FACTORY.createWatch(
-        callParams, V1Job.class, new ListJobCall(namespace));
+        callParams, V1Job.class, new ListJobCall(scoped(namespace)));
   }
 
   /**
@@ -100,11 +116,11 @@ public class WatchBuilder {
    */
   public Watchable<CoreV1Event> createEventWatch(String namespace) throws ApiException {
     return FACTORY.createWatch(
-        callParams, CoreV1Event.class, new ListEventCall(namespace));
+        callParams, CoreV1Event.class, new ListEventCall(scoped(namespace)));
   }
 
   /**
-   * Creates a web hook object to track changes to WebLogic domains in one namespaces.
+   * Creates a web hook object to track changes to WebLogic domains in one namespace.
    *
    * @param namespace the namespace in which to track domains
    * @return the active web hook
@@ -112,7 +128,7 @@ public class WatchBuilder {
    */
   public Watchable<Domain> createDomainWatch(String namespace) throws ApiException {
     return FACTORY.createWatch(
-        callParams, Domain.class, new ListDomainsCall(namespace));
+        callParams, Domain.class, new ListDomainsCall(scoped(namespace)));
   }
 
   /**
@@ -126,7 +142,7 @@ public class WatchBuilder {
     return FACTORY.createWatch(
         callParams,
         V1ConfigMap.class,
-        new ListNamespacedConfigMapCall(namespace));
+        new ListNamespacedConfigMapCall(scoped(namespace)));
   }
 
   /**
@@ -215,6 +231,21 @@ public class WatchBuilder {
       configureClient(client);
 
       try {
+        if (namespace == null) {
+          return new CoreV1Api(client)
+              .listServiceForAllNamespacesCall(
+                  ALLOW_BOOKMARKS,
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getPretty(),
+                  callParams.getResourceVersion(),
+                  RESOURCE_VERSION_MATCH_UNSET,
+                  callParams.getTimeoutSeconds(),
+                  WATCH,
+                  null);
+        }
         return new CoreV1Api(client)
             .listNamespacedServiceCall(
                 namespace,
@@ -252,6 +283,21 @@ public class WatchBuilder {
       configureClient(client);
 
       try {
+        if (namespace == null) {
+          return new CoreV1Api(client)
+              .listPodForAllNamespacesCall(
+                  ALLOW_BOOKMARKS,
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getPretty(),
+                  callParams.getResourceVersion(),
+                  RESOURCE_VERSION_MATCH_UNSET,
+                  callParams.getTimeoutSeconds(),
+                  WATCH,
+                  null);
+        }
         return new CoreV1Api(client)
             .listNamespacedPodCall(
                 namespace,
@@ -284,6 +330,21 @@ public class WatchBuilder {
       configureClient(client);
 
       try {
+        if (namespace == null) {
+          return new BatchV1Api(client)
+              .listJobForAllNamespacesCall(
+                  ALLOW_BOOKMARKS,
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getPretty(),
+                  callParams.getResourceVersion(),
+                  RESOURCE_VERSION_MATCH_UNSET,
+                  callParams.getTimeoutSeconds(),
+                  WATCH,
+                  null);
+        }
         return new BatchV1Api(client)
             .listNamespacedJobCall(
                 namespace,
@@ -316,6 +377,21 @@ public class WatchBuilder {
       configureClient(client);
 
       try {
+        if (namespace == null) {
+          return new CoreV1Api(client)
+              .listEventForAllNamespacesCall(
+                  ALLOW_BOOKMARKS,
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getPretty(),
+                  callParams.getResourceVersion(),
+                  RESOURCE_VERSION_MATCH_UNSET,
+                  callParams.getTimeoutSeconds(),
+                  WATCH,
+                  null);
+        }
         return new CoreV1Api(client)
             .listNamespacedEventCall(
                 namespace,
@@ -348,6 +424,21 @@ public class WatchBuilder {
       configureClient(client);
 
       try {
+        if (namespace == null) {
+          return new PolicyV1beta1Api(client)
+              .listPodDisruptionBudgetForAllNamespacesCall(
+                  ALLOW_BOOKMARKS,
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getPretty(),
+                  callParams.getResourceVersion(),
+                  RESOURCE_VERSION_MATCH_UNSET,
+                  callParams.getTimeoutSeconds(),
+                  WATCH,
+                  null);
+        }
         return new PolicyV1beta1Api(client)
             .listNamespacedPodDisruptionBudgetCall(
                 namespace,
@@ -384,6 +475,7 @@ public class WatchBuilder {
             .listNamespacedDomainCall(
                 namespace,
                 callParams.getPretty(),
+                ALLOW_BOOKMARKS,
                 START_LIST,
                 callParams.getFieldSelector(),
                 callParams.getLabelSelector(),
@@ -410,6 +502,21 @@ public class WatchBuilder {
       configureClient(client);
 
       try {
+        if (namespace == null) {
+          return new CoreV1Api(client)
+              .listConfigMapForAllNamespacesCall(
+                  ALLOW_BOOKMARKS,
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getPretty(),
+                  callParams.getResourceVersion(),
+                  RESOURCE_VERSION_MATCH_UNSET,
+                  callParams.getTimeoutSeconds(),
+                  WATCH,
+                  null);
+        }
         return new CoreV1Api(client)
             .listNamespacedConfigMapCall(
                 namespace,
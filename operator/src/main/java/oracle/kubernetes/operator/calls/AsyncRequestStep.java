@@ -9,6 +9,7 @@ import java.util.Optional;
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import javax.annotation.Nonnull;
 
@@ -24,6 +25,7 @@ import oracle.kubernetes.operator.logging.LoggingContext;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.work.AsyncFiber;
 import oracle.kubernetes.operator.work.Component;
 import oracle.kubernetes.operator.work.NextAction;
@@ -39,6 +41,7 @@ import static oracle.kubernetes.operator.KubernetesConstants.HTTP_INTERNAL_ERROR
 import static oracle.kubernetes.operator.KubernetesConstants.HTTP_NOT_FOUND;
 import static oracle.kubernetes.operator.KubernetesConstants.HTTP_TOO_MANY_REQUESTS;
 import static oracle.kubernetes.operator.KubernetesConstants.HTTP_UNAVAILABLE;
+import static oracle.kubernetes.operator.ProcessingConstants.REQUEST_PRIORITY;
 import static oracle.kubernetes.operator.calls.CallResponse.createFailure;
 import static oracle.kubernetes.operator.calls.CallResponse.createSuccess;
 import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorNamespace;
@@ -63,6 +66,7 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
 
   private final Pool<ApiClient> helper;
   private final RequestParams requestParams;
+  private final RequestRateLimiter.Priority priority;
   private final CallFactory<T> factory;
   private final int maxRetryCount;
   private final RetryStrategy customRetryStrategy;
@@ -129,6 +133,7 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     super(next);
     this.helper = helper;
     this.requestParams = requestParams;
+    this.priority = RequestRateLimiter.Priority.forCall(requestParams.call);
     this.factory = factory;
     this.customRetryStrategy = customRetryStrategy;
     this.timeoutSeconds = timeoutSeconds;
@@ -173,18 +178,20 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     final RetryStrategy retryStrategy;
     final String cont;
     final AtomicBoolean didResume = new AtomicBoolean(false);
-    final ApiClient client;
+    ApiClient client;
+    long startNanos;
 
     public AsyncRequestStepProcessing(Packet packet, RetryStrategy retry, String cont) {
       this.packet = packet;
       retryStrategy = Optional.ofNullable(retry)
             .orElse(new DefaultRetryStrategy(maxRetryCount, AsyncRequestStep.this, AsyncRequestStep.this));
       this.cont = Optional.ofNullable(cont).orElse("");
-      client = helper.take();
     }
 
     // Create a call to Kubernetes that we can cancel if it doesn't succeed in time.
-    private CancellableCall createCall(AsyncFiber fiber) throws ApiException {
+    private CancellableCall createCall(AsyncFiber fiber, ApiClient client) throws ApiException {
+      this.client = client;
+      this.startNanos = System.nanoTime();
       return factory.generate(requestParams, client, cont, new ApiCallbackImpl(this, fiber));
     }
 
@@ -192,11 +199,12 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     void onSuccess(AsyncFiber fiber, T result, int statusCode, Map<String, List<String>> responseHeaders) {
       removeExistingFailureCondition();
       if (firstTimeResumed()) {
+        recordDuration(Integer.toString(statusCode));
         if (LOGGER.isFinerEnabled()) {
           logSuccess(result, statusCode, responseHeaders);
         }
 
-        helper.recycle(client);
+        helper.recycleAsync(client);
         addResponseComponent(Component.createFor(
             createSuccess(requestParams, result, statusCode).withResponseHeaders(responseHeaders)));
         fiber.resume(packet);
@@ -214,6 +222,7 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     // add the failure into the packet and prepare to try again.
     void onFailure(AsyncFiber fiber, ApiException ae, int statusCode, Map<String, List<String>> responseHeaders) {
       if (firstTimeResumed()) {
+        recordDuration(Integer.toString(statusCode));
         if (statusCode != HTTP_NOT_FOUND) {
           addDomainFailureStatus(ae);
           if (LOGGER.isFineEnabled()) {
@@ -222,9 +231,9 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
         }
 
         if (ae.getCause() instanceof java.net.ProtocolException) {
-          helper.discard(client);
+          helper.discardAsync(client);
         } else {
-          helper.recycle(client);
+          helper.recycleAsync(client);
         }
 
         addResponseComponent(Component.createFor(
@@ -260,12 +269,14 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     }
 
     // If this is the first event after the fiber resumes, it indicates that we did not receive
-    // a callback within the timeout. So cancel the call and prepare to try again.
+    // a callback within the timeout. So cancel the call, recycle the client and prepare to try again.
     private void handleTimeout(AsyncFiber fiber, CancellableCall cc) {
       if (firstTimeResumed()) {
+        recordDuration("timeout");
         try {
           cc.cancel();
         } finally {
+          helper.recycleAsync(client);
           if (LOGGER.isFinerEnabled()) {
             logTimeout();
           }
@@ -275,14 +286,28 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
       }
     }
 
-    // A throwable occurred while attempting to set up the call. So prepare to try again.
-    private void resumeAfterThrowable(AsyncFiber fiber) {
+    // No client became available within the timeout, so report that and prepare to try again.
+    private void handleClientWaitTimeout(AsyncFiber fiber) {
       if (firstTimeResumed()) {
+        LOGGER.warning(MessageKeys.CLIENT_WAIT_TIMEOUT, timeoutSeconds, requestParams.call);
         addResponseComponent(Component.createFor(RetryStrategy.class, retryStrategy));
         fiber.resume(packet);
       }
     }
 
+    // A throwable occurred while attempting to set up the call. So recycle the client and prepare to try again.
+    private void resumeAfterThrowable(AsyncFiber fiber, ApiClient client) {
+      if (firstTimeResumed()) {
+        helper.recycleAsync(client);
+        addResponseComponent(Component.createFor(RetryStrategy.class, retryStrategy));
+        fiber.resume(packet);
+      }
+    }
+
+    private void recordDuration(String code) {
+      OperatorMetrics.API_CALL_DURATION.labels(requestParams.call, code).observeNanos(System.nanoTime() - startNanos);
+    }
+
     private void addResponseComponent(Component component) {
       packet.getComponents().put(RESPONSE_COMPONENT_NAME, component);
     }
@@ -334,19 +359,38 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     }
 
     AsyncRequestStepProcessing processing = new AsyncRequestStepProcessing(packet, retry, cont);
-    return doSuspend(
-        (fiber) -> {
-          try {
-            CancellableCall cc = processing.createCall(fiber);
-            scheduleTimeoutCheck(fiber, timeoutSeconds, () -> processing.handleTimeout(fiber, cc));
-          } catch (ApiException t) {
-            logAsyncFailure(t, t.getResponseBody());
-            processing.resumeAfterThrowable(fiber);
-          } catch (Throwable t) {
-            logAsyncFailure(t, "");
-            processing.resumeAfterThrowable(fiber);
-          }
-        });
+    return doSuspend(fiber -> RequestRateLimiter.getInstance().admit(getPriority(packet), fiber,
+          () -> takeClient(processing, fiber)));
+  }
+
+  private RequestRateLimiter.Priority getPriority(Packet packet) {
+    return Optional.ofNullable((RequestRateLimiter.Priority) packet.get(REQUEST_PRIORITY)).orElse(priority);
+  }
+
+  // Obtains a client from the pool with which to start the call, giving up if none becomes available in time.
+  private void takeClient(AsyncRequestStepProcessing processing, AsyncFiber fiber) {
+    final Consumer<ApiClient> clientConsumer = client -> startCall(processing, fiber, client);
+    if (helper.takeAsync(clientConsumer)) {
+      scheduleTimeoutCheck(fiber, timeoutSeconds, () -> {
+        if (helper.cancelWait(clientConsumer)) {
+          processing.handleClientWaitTimeout(fiber);
+        }
+      });
+    }
+  }
+
+  // Invoked once a client is available, which may be on the thread that returned it to the pool.
+  private void startCall(AsyncRequestStepProcessing processing, AsyncFiber fiber, ApiClient client) {
+    try {
+      CancellableCall cc = processing.createCall(fiber, client);
+      scheduleTimeoutCheck(fiber, timeoutSeconds, () -> processing.handleTimeout(fiber, cc));
+    } catch (ApiException t) {
+      logAsyncFailure(t, t.getResponseBody());
+      processing.resumeAfterThrowable(fiber, client);
+    } catch (Throwable t) {
+      logAsyncFailure(t, "");
+      processing.resumeAfterThrowable(fiber, client);
+    }
   }
 
   // Schedule the timeout check to happen on the fiber at some number of seconds in the future.
@@ -0,0 +1,217 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
+import oracle.kubernetes.operator.work.AsyncFiber;
+import oracle.kubernetes.utils.SystemClock;
+
+/**
+ * Limits the rate at which asynchronous Kubernetes requests are sent, so that a busy operator stays within the
+ * API server's priority and fairness limits rather than relying on retries after it is throttled.
+ *
+ * <p>Each request takes a token from a bucket which holds up to the burst size and is refilled at a fixed rate.
+ * When the bucket is empty, the request waits, without blocking a thread, in the lane for its priority.
+ * Waiting requests are admitted as tokens become available, from the highest priority lane first.
+ * A rate of zero disables the limit.
+ */
+public class RequestRateLimiter {
+
+  /**
+   * The order in which waiting requests are admitted.
+   */
+  public enum Priority {
+    /** Status updates and pod changes, which make visible progress on a domain. */
+    HIGH,
+    /** Other reads and writes. */
+    NORMAL,
+    /** Event writes, and requests made by background processing, such as the periodic recheck of namespaces. */
+    LOW;
+
+    private static final Set<String> HIGH_PRIORITY_CALLS
+          = Set.of("replaceDomainStatus", "patchDomainStatus", "createPod", "deletePod", "patchPod");
+
+    /**
+     * Returns the priority of the named Kubernetes call, unless the fiber making it specifies another.
+     * @param call the name of a call, as recorded in its request parameters
+     * @return the priority of the call
+     */
+    public static Priority forCall(String call) {
+      if (HIGH_PRIORITY_CALLS.contains(call)) {
+        return HIGH;
+      } else if (call.endsWith("Event")) {
+        return LOW;
+      } else {
+        return NORMAL;
+      }
+    }
+
+    String getLabel() {
+      return name().toLowerCase();
+    }
+  }
+
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // keep non-final for unit test
+  private static RequestRateLimiter instance = new RequestRateLimiter();
+
+  static {
+    OperatorMetrics.registerGauge("api_requests_waiting",
+          "Number of Kubernetes requests waiting for the client-side rate limit, by priority.",
+          () -> getInstance().getWaitingCounts(), "priority");
+  }
+
+  // guarded by this
+  private final Map<Priority, Queue<Waiter>> lanes = new EnumMap<>(Priority.class);
+  private double storedTokens;
+  private long lastRefillMillis;
+  private boolean drainScheduled;
+
+  private volatile int requestsPerSecond;
+  private volatile int burst;
+
+  RequestRateLimiter() {
+    for (Priority priority : Priority.values()) {
+      lanes.put(priority, new ArrayDeque<>());
+    }
+  }
+
+  public static RequestRateLimiter getInstance() {
+    return instance;
+  }
+
+  /**
+   * Sets the rate at which requests may be sent.
+   * @param requestsPerSecond the steady rate, or zero if there is no limit
+   * @param burst the number of requests which may be sent at once after a quiet period; at least one
+   */
+  public void configure(int requestsPerSecond, int burst) {
+    this.requestsPerSecond = Math.max(0, requestsPerSecond);
+    this.burst = Math.max(1, burst);
+  }
+
+  /**
+   * Runs the specified request once the rate limit permits. The calling thread is never blocked: if the request
+   * must wait, it will be started on a thread of the fiber's executor.
+   * @param priority the priority of the request
+   * @param fiber the suspended fiber which is making the request
+   * @param request the operation which sends the request
+   */
+  public void admit(Priority priority, AsyncFiber fiber, Runnable request) {
+    if (requestsPerSecond <= 0) {
+      request.run();
+      return;
+    }
+
+    boolean mayRunNow = false;
+    long drainDelayMillis = -1;
+    synchronized (this) {
+      refill();
+      if (!hasWaiters() && storedTokens >= 1) {
+        storedTokens--;
+        mayRunNow = true;
+      } else {
+        lanes.get(priority).add(new Waiter(priority, fiber, request));
+        if (!drainScheduled) {
+          drainScheduled = true;
+          drainDelayMillis = getMillisUntilNextToken();
+        }
+      }
+    }
+
+    if (mayRunNow) {
+      recordWait(priority, 0);
+      request.run();
+    } else if (drainDelayMillis >= 0) {
+      fiber.scheduleOnce(drainDelayMillis, TimeUnit.MILLISECONDS, this::drain);
+    }
+  }
+
+  // Admits as many waiting requests as there are tokens, and schedules another drain if any requests remain.
+  private void drain() {
+    List<Waiter> admitted = new ArrayList<>();
+    Waiter next;
+    synchronized (this) {
+      dropCancelledWaiters();
+      refill();
+      while (storedTokens >= 1 && (next = pollWaiter()) != null) {
+        storedTokens--;
+        admitted.add(next);
+      }
+
+      next = peekWaiter();
+      drainScheduled = next != null;
+    }
+
+    if (next != null) {
+      next.fiber.scheduleOnce(getMillisUntilNextToken(), TimeUnit.MILLISECONDS, this::drain);
+    }
+    for (Waiter waiter : admitted) {
+      recordWait(waiter.priority, System.nanoTime() - waiter.queuedNanos);
+      waiter.request.run();
+    }
+  }
+
+  // A request whose fiber has been cancelled would not be resumed, so need not be sent.
+  private void dropCancelledWaiters() {
+    lanes.values().forEach(lane -> lane.removeIf(waiter -> waiter.fiber.isCancelled()));
+  }
+
+  private void refill() {
+    final long now = SystemClock.now().toInstant().toEpochMilli();
+    if (now > lastRefillMillis) {
+      storedTokens = Math.min(burst, storedTokens + (now - lastRefillMillis) * requestsPerSecond / 1000.0);
+      lastRefillMillis = now;
+    }
+  }
+
+  private synchronized long getMillisUntilNextToken() {
+    return Math.max(0, (long) Math.ceil((1 - storedTokens) * 1000.0 / requestsPerSecond));
+  }
+
+  private boolean hasWaiters() {
+    return peekWaiter() != null;
+  }
+
+  private Waiter peekWaiter() {
+    return lanes.values().stream().map(Queue::peek).filter(Objects::nonNull).findFirst().orElse(null);
+  }
+
+  private Waiter pollWaiter() {
+    return lanes.values().stream().filter(q -> !q.isEmpty()).findFirst().map(Queue::poll).orElse(null);
+  }
+
+  private void recordWait(Priority priority, long nanos) {
+    OperatorMetrics.API_REQUEST_QUEUE_WAIT.labels(priority.getLabel()).observeNanos(nanos);
+  }
+
+  synchronized Map<List<String>, Integer> getWaitingCounts() {
+    Map<List<String>, Integer> counts = new HashMap<>();
+    lanes.forEach((priority, lane) -> counts.put(List.of(priority.getLabel()), lane.size()));
+    return counts;
+  }
+
+  private static class Waiter {
+    private final Priority priority;
+    private final AsyncFiber fiber;
+    private final Runnable request;
+    private final long queuedNanos = System.nanoTime();
+
+    Waiter(Priority priority, AsyncFiber fiber, Runnable request) {
+      this.priority = priority;
+      this.fiber = fiber;
+      this.request = request;
+    }
+  }
+}
@@ -0,0 +1,17 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Parses the body of a response as it is read from the connection.
+ *
+ * @param <T> the type of the parsed result
+ */
+@FunctionalInterface
+public interface ResponseBodyParser<T> {
+  T parse(Reader body) throws IOException;
+}
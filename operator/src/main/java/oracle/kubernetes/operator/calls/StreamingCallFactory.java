@@ -0,0 +1,14 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+/**
+ * A factory for calls whose response bodies are parsed as they are read, rather than read whole into a string
+ * and then deserialized.
+ *
+ * @param <T> the type of the parsed result
+ */
+public interface StreamingCallFactory<T> extends CallFactory<T> {
+  ResponseBodyParser<T> getBodyParser();
+}
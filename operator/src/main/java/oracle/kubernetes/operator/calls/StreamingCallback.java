@@ -0,0 +1,53 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nonnull;
+
+import io.kubernetes.client.openapi.ApiCallback;
+import io.kubernetes.client.openapi.ApiException;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * Receives an HTTP response, parses its body as it is read, and reports the result to an API callback
+ * in the same way as the generated Kubernetes client does.
+ *
+ * @param <T> the type of the parsed result
+ */
+public class StreamingCallback<T> implements Callback {
+  private final ResponseBodyParser<T> parser;
+  private final ApiCallback<T> callback;
+
+  public StreamingCallback(ResponseBodyParser<T> parser, ApiCallback<T> callback) {
+    this.parser = parser;
+    this.callback = callback;
+  }
+
+  @Override
+  public void onFailure(@Nonnull Call call, @Nonnull IOException e) {
+    callback.onFailure(new ApiException(e), 0, null);
+  }
+
+  @Override
+  public void onResponse(@Nonnull Call call, @Nonnull Response response) {
+    Map<String, List<String>> headers = response.headers().toMultimap();
+    try (ResponseBody body = response.body()) {
+      if (!response.isSuccessful()) {
+        String message = body == null ? null : body.string();
+        callback.onFailure(new ApiException(response.message(), response.code(), headers, message),
+              response.code(), headers);
+      } else {
+        callback.onSuccess(body == null ? null : parser.parse(body.charStream()), response.code(), headers);
+      }
+    } catch (IOException e) {
+      callback.onFailure(new ApiException(e), response.code(), headers);
+    }
+  }
+}
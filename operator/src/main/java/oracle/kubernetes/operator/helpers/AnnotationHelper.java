@@ -3,24 +3,53 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.util.Yaml;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.codec.digest.DigestUtils;
 
 /** Annotates pods, services with details about the Domain instance and checks these annotations. */
 public class AnnotationHelper {
   static final String SHA256_ANNOTATION = "weblogic.sha256";
+  static final String SPEC_SHA256_ANNOTATION = "weblogic.specSha256";
   private static final boolean DEBUG = false;
   private static final String HASHED_STRING = "hashedString";
+  private static final int MAX_CACHED_POD_HASHES = 1000;
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
-  private static Function<Object, String> HASH_FUNCTION = o -> DigestUtils.sha256Hex(Yaml.dump(o));
+  private static Function<Object, String> HASH_FUNCTION = AnnotationHelper::computeHash;
+
+  // Hashes of the YAML of recently seen pod recipes, keyed by the hashes of their JSON, which are much cheaper
+  // to compute. Keep non-final for unit tests.
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
+  private static Map<String, String> POD_HASHES = createPodHashCache();
+
+  static Map<String, String> createPodHashCache() {
+    return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+        return size() > MAX_CACHED_POD_HASHES;
+      }
+    });
+  }
 
   /**
    * Marks metadata with annotations that let Prometheus know how to retrieve metrics from the
@@ -69,10 +98,50 @@ public class AnnotationHelper {
     return HASH_FUNCTION.apply(objectToHash);
   }
 
+  static String computeHash(Object objectToHash) {
+    return objectToHash instanceof V1Pod ? computePodHash((V1Pod) objectToHash) : computeYamlHash(objectToHash);
+  }
+
+  // Pod recipes are rebuilt on every make-right, but rarely change, so their hashes are remembered.
+  private static String computePodHash(V1Pod pod) {
+    final String key = computeJsonHash(pod);
+    String hash = POD_HASHES.get(key);
+    if (hash == null) {
+      hash = computeYamlHash(pod);
+      POD_HASHES.put(key, hash);
+    }
+    return hash;
+  }
+
+  private static String computeJsonHash(Object objectToHash) {
+    return computeDigest(writer -> LoggingFactory.getJson().getGson().toJson(objectToHash, writer));
+  }
+
+  // Computes the SHA-256 hash of the YAML form of the object, streaming the YAML directly into the digest
+  // rather than building it as a string. The result is the same as hashing the string returned by Yaml.dump.
+  private static String computeYamlHash(Object objectToHash) {
+    return computeDigest(writer -> Yaml.dump(objectToHash, writer));
+  }
+
+  private static String computeDigest(Consumer<Writer> serializer) {
+    MessageDigest digest = DigestUtils.getSha256Digest();
+    try (Writer writer = new OutputStreamWriter(
+          new DigestOutputStream(OutputStream.nullOutputStream(), digest), StandardCharsets.UTF_8)) {
+      serializer.accept(writer);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return Hex.encodeHexString(digest.digest());
+  }
+
   static String getHash(KubernetesObject kubernetesObject) {
     return getAnnotation(kubernetesObject.getMetadata(), AnnotationHelper::getSha256Annotation);
   }
 
+  static String getSpecHash(KubernetesObject kubernetesObject) {
+    return getAnnotation(kubernetesObject.getMetadata(), annotations -> annotations.get(SPEC_SHA256_ANNOTATION));
+  }
+
   static String getDebugString(V1Pod pod) {
     return getAnnotation(pod.getMetadata(), AnnotationHelper::getDebugHashAnnotation);
   }
@@ -86,6 +86,21 @@ public class AuthorizationProxy {
     return result;
   }
 
+  /**
+   * Check if the operator is allowed to perform the specified operation on the specified resource in the
+   * specified scope.
+   *
+   * @param operation The operation to be authorized.
+   * @param resource The kind of resource on which the operation is to be authorized.
+   * @param scope The scope of the operation (cluster or namespace).
+   * @param namespaceName name of the namespace if scope is namespace else null.
+   * @return true if the operation is allowed, or false if not.
+   */
+  public boolean checkSelf(Operation operation, Resource resource, Scope scope, String namespaceName) {
+    return Boolean.TRUE.equals(createSelfSubjectAccessReview(
+        prepareSelfSubjectAccessReview(operation, resource, null, scope, namespaceName)));
+  }
+
   private Boolean createSelfSubjectAccessReview(V1SelfSubjectAccessReview subjectAccessReview) {
     try {
       subjectAccessReview = new CallBuilder().createSelfSubjectAccessReview(subjectAccessReview);
@@ -228,6 +243,7 @@ public class AuthorizationProxy {
     SERVICES("services", ""),
     NAMESPACES("namespaces", ""),
     JOBS("jobs", "batch"),
+    PODDISRUPTIONBUDGETS("poddisruptionbudgets", "policy"),
     CRDS("customresourcedefinitions", "apiextensions.k8s.io"),
     DOMAINS("domains", "weblogic.oracle"),
     DOMAINSTATUSES("domains", "status", "weblogic.oracle"),
@@ -62,7 +62,10 @@ import oracle.kubernetes.operator.calls.CallFactory;
 import oracle.kubernetes.operator.calls.CallWrapper;
 import oracle.kubernetes.operator.calls.CancellableCall;
 import oracle.kubernetes.operator.calls.RequestParams;
+import oracle.kubernetes.operator.calls.ResponseBodyParser;
 import oracle.kubernetes.operator.calls.RetryStrategy;
+import oracle.kubernetes.operator.calls.StreamingCallFactory;
+import oracle.kubernetes.operator.calls.StreamingCallback;
 import oracle.kubernetes.operator.calls.SynchronousCallDispatcher;
 import oracle.kubernetes.operator.calls.SynchronousCallFactory;
 import oracle.kubernetes.operator.logging.LoggingFacade;
@@ -133,6 +136,15 @@ public class CallBuilder {
                   requestParams.namespace,
                   (Domain) requestParams.body,
                   callback));
+  private final CallFactory<Domain> patchDomainStatus =
+      (requestParams, usage, cont, callback) ->
+          wrap(
+              patchDomainStatusAsync(
+                  usage,
+                  requestParams.name,
+                  requestParams.namespace,
+                  (V1Patch) requestParams.body,
+                  callback));
   private final CallFactory<V1CustomResourceDefinition> createCrd =
       (requestParams, usage, cont, callback) ->
           wrap(
@@ -218,6 +230,15 @@ public class CallBuilder {
           wrap(
               createServiceAsync(
                   usage, requestParams.namespace, (V1Service) requestParams.body, callback));
+  private final CallFactory<V1Service> patchService =
+      (requestParams, usage, cont, callback) ->
+          wrap(
+              patchServiceAsync(
+                  usage,
+                  requestParams.name,
+                  requestParams.namespace,
+                  (V1Patch) requestParams.body,
+                  callback));
   private final CallFactory<V1SubjectAccessReview> createSubjectaccessreview =
       (requestParams, usage, cont, callback) ->
           wrap(
@@ -759,6 +780,30 @@ public class CallBuilder {
         patchDomain);
   }
 
+  private Call patchDomainStatusAsync(
+      ApiClient client, String name, String namespace, V1Patch patch, ApiCallback<Domain> callback)
+      throws ApiException {
+    return new WeblogicApi(client)
+        .patchNamespacedDomainStatusAsync(name, namespace, patch, callback);
+  }
+
+  /**
+   * Asynchronous step for patching domain status.
+   *
+   * @param name Name
+   * @param namespace Namespace
+   * @param patchBody instructions on what to patch, relative to the domain
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step patchDomainStatusAsync(
+      String name, String namespace, V1Patch patchBody, ResponseStep<Domain> responseStep) {
+    return createRequestAsync(
+        responseStep,
+        new RequestParams("patchDomainStatus", namespace, name, patchBody, name),
+        patchDomainStatus);
+  }
+
   private Call replaceDomainStatusAsync(
       ApiClient client, String name, String namespace, Domain body, ApiCallback<Domain> callback)
       throws ApiException {
@@ -1597,6 +1642,31 @@ public class CallBuilder {
         createService);
   }
 
+  private Call patchServiceAsync(
+      ApiClient client, String name, String namespace, V1Patch patch, ApiCallback<V1Service> callback)
+      throws ApiException {
+    return new CoreV1Api(client)
+        .patchNamespacedServiceAsync(name, namespace, patch, pretty, null, null, null, callback);
+  }
+
+  /**
+   * Asynchronous step for patching a service.
+   *
+   * @param name Name
+   * @param namespace Namespace
+   * @param domainUid Identifier of the domain that the service is associated with
+   * @param patchBody instructions on what to patch
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step patchServiceAsync(
+      String name, String namespace, String domainUid, V1Patch patchBody, ResponseStep<V1Service> responseStep) {
+    return createRequestAsync(
+        responseStep,
+        new RequestParams("patchService", namespace, name, patchBody, domainUid),
+        patchService);
+  }
+
   private Call deleteServiceAsync(
       ApiClient client,
       String name,
@@ -2057,6 +2127,46 @@ public class CallBuilder {
         responseStep, new RequestParams("readPodLog", namespace, name, null, domainUid), readPodLog);
   }
 
+  /**
+   * Asynchronously reads the log of a pod, parsing it as it is received rather than holding the whole log in memory.
+   *
+   * @param name the name of the pod
+   * @param namespace the namespace of the pod
+   * @param domainUid the UID of the domain with which the pod is associated
+   * @param parser a parser of the log
+   * @param responseStep the step to receive the parsed log
+   * @param <T> the type of the parsed log
+   * @return Asynchronous step
+   */
+  public <T> Step readPodLogAsync(String name, String namespace, String domainUid,
+                                  ResponseBodyParser<T> parser, ResponseStep<T> responseStep) {
+    return createRequestAsync(
+        responseStep, new RequestParams("readPodLog", namespace, name, null, domainUid), new PodLogReader<>(parser));
+  }
+
+  private class PodLogReader<T> implements StreamingCallFactory<T> {
+    private final ResponseBodyParser<T> parser;
+
+    PodLogReader(ResponseBodyParser<T> parser) {
+      this.parser = parser;
+    }
+
+    @Override
+    public ResponseBodyParser<T> getBodyParser() {
+      return parser;
+    }
+
+    @Override
+    public CancellableCall generate(RequestParams requestParams, ApiClient client, String cont,
+                                    ApiCallback<T> callback) throws ApiException {
+      Call call = new CoreV1Api(client).readNamespacedPodLogCall(
+            requestParams.name, requestParams.namespace, container,
+            null, null, null, pretty, null, null, null, null, null);
+      call.enqueue(new StreamingCallback<>(parser, callback));
+      return wrap(call);
+    }
+  }
+
   private Call readPodLogAsync(
       ApiClient client,
       String name,
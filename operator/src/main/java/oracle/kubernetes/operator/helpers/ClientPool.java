@@ -4,6 +4,9 @@
 package oracle.kubernetes.operator.helpers;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
@@ -15,11 +18,14 @@ import java.util.concurrent.atomic.AtomicReference;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.Configuration;
 import io.kubernetes.client.util.ClientBuilder;
+import okhttp3.ConnectionPool;
 import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
+import oracle.kubernetes.operator.TuningParameters.CallBuilderTuning;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.work.Container;
 import oracle.kubernetes.operator.work.ContainerResolver;
 
@@ -30,6 +36,21 @@ public class ClientPool extends Pool<ApiClient> {
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
   private static ClientPool SINGLETON = new ClientPool();
   private static ThreadFactory threadFactory;
+
+  static {
+    OperatorMetrics.registerGauge("client_pool_in_use", "Number of Kubernetes clients lent out by the pool.",
+          () -> Map.of(List.of(), getInstance().getStatistics().getInUse()));
+    OperatorMetrics.registerGauge("client_pool_waiting", "Number of requests waiting for a Kubernetes client.",
+          () -> Map.of(List.of(), getInstance().getStatistics().getWaiting()));
+    OperatorMetrics.registerCounter("client_pool_wait_seconds_total",
+          "Total time that requests have waited for a Kubernetes client.",
+          () -> Map.of(List.of(), getInstance().getStatistics().getTotalWaitNanos() / 1e9));
+    OperatorMetrics.registerGauge("client_connections", "Number of HTTP connections open to Kubernetes, by state.",
+          () -> Map.of(List.of("active"), getInstance().getConnectionCount() - getInstance().getIdleConnectionCount(),
+                       List.of("idle"), getInstance().getIdleConnectionCount()),
+          "state");
+  }
+
   private final AtomicBoolean isFirst = new AtomicBoolean(true);
 
   // With OKHttp3, each client has it's own connection pool, so instance will be shared
@@ -65,11 +86,42 @@ public class ClientPool extends Pool<ApiClient> {
   }
 
   @Override
-  public void discard(ApiClient client) {
-    client = null;
+  protected void onDiscard(ApiClient client) {
     instance.updateAndGet(newClient -> getApiClient());
   }
 
+  /**
+   * Applies the pool limits from the specified tuning parameters. As the pooled client is shared,
+   * the maximum size limits the number of asynchronous requests in flight at one time.
+   * @param tuning the call builder tuning parameters
+   */
+  public void configure(CallBuilderTuning tuning) {
+    setMaxAsyncSize(tuning.clientPoolMaxAsyncSize);
+    setMaxIdleSeconds(tuning.clientPoolMaxIdleSeconds);
+  }
+
+  /**
+   * Returns the number of HTTP connections held open by the shared client.
+   * @return the number of open connections, or zero if no client has been created
+   */
+  public int getConnectionCount() {
+    return Optional.ofNullable(instance.get()).map(this::getConnectionPool).map(ConnectionPool::connectionCount)
+          .orElse(0);
+  }
+
+  /**
+   * Returns the number of HTTP connections held open by the shared client which are available for reuse.
+   * @return the number of idle connections, or zero if no client has been created
+   */
+  public int getIdleConnectionCount() {
+    return Optional.ofNullable(instance.get()).map(this::getConnectionPool).map(ConnectionPool::idleConnectionCount)
+          .orElse(0);
+  }
+
+  private ConnectionPool getConnectionPool(ApiClient client) {
+    return Optional.ofNullable(client.getHttpClient()).map(OkHttpClient::connectionPool).orElse(null);
+  }
+
   private ApiClient getApiClient() {
     LOGGER.entering();
 
@@ -16,6 +16,7 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import javax.annotation.Nonnull;
 
 import oracle.kubernetes.operator.logging.LoggingFacade;
@@ -30,7 +31,7 @@ import oracle.kubernetes.operator.logging.MessageKeys;
 public class ConfigMapConsumer implements Map<String, String> {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
-  private final ScheduledExecutorService threadPool;
+  private final Supplier<ScheduledExecutorService> threadPool;
   private final AtomicReference<ScheduledFuture<?>> future = new AtomicReference<>(null);
   private File mountPointDir;
   private Runnable onUpdate;
@@ -40,7 +41,16 @@ public class ConfigMapConsumer implements Map<String, String> {
    * @param executorService executor
    */
   public ConfigMapConsumer(ScheduledExecutorService executorService) {
-    this.threadPool = executorService;
+    this(() -> executorService);
+  }
+
+  /**
+   * Construct config map consumer whose executor is not obtained until updates are first scheduled,
+   * after the initial contents have been read.
+   * @param executorSupplier supplier of the executor
+   */
+  public ConfigMapConsumer(Supplier<ScheduledExecutorService> executorSupplier) {
+    this.threadPool = executorSupplier;
   }
 
   protected void scheduleUpdates(String mountPoint, Runnable onUpdate) {
@@ -57,7 +67,7 @@ public class ConfigMapConsumer implements Map<String, String> {
     long initialDelay = readTuningParameter("configMapUpdateInitialDelay", 3);
     long delay = readTuningParameter("configMapUpdateDelay", 10);
     ScheduledFuture<?> old =
-        future.getAndSet(threadPool.scheduleWithFixedDelay(onUpdate, initialDelay, delay, TimeUnit.SECONDS));
+        future.getAndSet(threadPool.get().scheduleWithFixedDelay(onUpdate, initialDelay, delay, TimeUnit.SECONDS));
     if (old != null) {
       old.cancel(true);
     }
@@ -3,14 +3,10 @@
 
 package oracle.kubernetes.operator.helpers;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -18,7 +14,6 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 
-import com.google.gson.Gson;
 import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.models.V1ConfigMap;
 import io.kubernetes.client.openapi.models.V1ConfigMapList;
@@ -46,7 +41,6 @@ import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.utils.SystemClock;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
-import org.yaml.snakeyaml.Yaml;
 
 import static java.lang.System.lineSeparator;
 import static oracle.kubernetes.operator.DomainFailureReason.DomainInvalid;
@@ -56,10 +50,12 @@ import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.DOMAIN_R
 import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.NUM_CONFIG_MAPS;
 import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.SECRETS_MD_5;
 import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.SIT_CONFIG_FILE_PREFIX;
+import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.TOPOLOGY_YAML;
 import static oracle.kubernetes.operator.KubernetesConstants.SCRIPT_CONFIG_MAP_NAME;
 import static oracle.kubernetes.operator.LabelConstants.INTROSPECTION_DOMAIN_SPEC_GENERATION;
 import static oracle.kubernetes.operator.LabelConstants.INTROSPECTION_STATE_LABEL;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_VALIDATION_ERRORS;
+import static oracle.kubernetes.operator.helpers.AnnotationHelper.SHA256_ANNOTATION;
 import static oracle.kubernetes.operator.helpers.KubernetesUtils.getDomainUidLabel;
 import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorNamespace;
 
@@ -68,10 +64,11 @@ public class ConfigMapHelper {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
   private static final String SCRIPT_LOCATION = "/scripts";
-  private static final String UPDATEDOMAINRESULT = "UPDATEDOMAINRESULT";
+  static final String UPDATEDOMAINRESULT = "UPDATEDOMAINRESULT";
   private static final ConfigMapComparator COMPARATOR = new ConfigMapComparator();
 
   private static final FileGroupReader scriptReader = new FileGroupReader(SCRIPT_LOCATION);
+  private static ScriptBundle scriptBundle;
 
   private ConfigMapHelper() {
   }
@@ -86,57 +83,6 @@ public class ConfigMapHelper {
     return new ScriptConfigMapStep(domainNamespace, productVersion);
   }
 
-  static Map<String, String> parseIntrospectorResult(String text, String domainUid) {
-    Map<String, String> map = new HashMap<>();
-    String updateResultToken = ">>>  updatedomainResult=";
-
-    try (BufferedReader reader = new BufferedReader(new StringReader(text))) {
-      String line = reader.readLine();
-      while (line != null) {
-        if (line.contains(updateResultToken)) {
-          int index = line.indexOf(updateResultToken);
-          int beg = index + 1 + updateResultToken.length();
-          map.put(UPDATEDOMAINRESULT, line.substring(beg - 1));
-        }
-        if (line.startsWith(">>>") && !line.endsWith("EOF")) {
-          String filename = extractFilename(line);
-          readFile(reader, filename, map, domainUid);
-        }
-        line = reader.readLine();
-      }
-    } catch (IOException exc) {
-      LOGGER.warning(MessageKeys.CANNOT_PARSE_INTROSPECTOR_RESULT, domainUid, exc);
-    }
-
-    return map;
-  }
-
-  static void readFile(
-      BufferedReader reader, String fileName, Map<String, String> map, String domainUid) {
-    StringBuilder stringBuilder = new StringBuilder();
-    try {
-      String line = reader.readLine();
-      while (line != null) {
-        if (line.startsWith(">>>") && line.endsWith("EOF")) {
-          map.put(fileName, stringBuilder.toString().trim());
-          return;
-        } else {
-          // add line to StringBuilder
-          stringBuilder.append(line);
-          stringBuilder.append(System.getProperty("line.separator"));
-        }
-        line = reader.readLine();
-      }
-    } catch (IOException ioe) {
-      LOGGER.warning(MessageKeys.CANNOT_PARSE_INTROSPECTOR_FILE, fileName, domainUid, ioe);
-    }
-  }
-
-  static String extractFilename(String line) {
-    int lastSlash = line.lastIndexOf('/');
-    return line.substring(lastSlash + 1);
-  }
-
   /**
    * getModelInImageSpecHash returns the hash for the fields that should be compared for changes.
    *
@@ -186,25 +132,70 @@ public class ConfigMapHelper {
   }
 
   static class ScriptConfigMapContext extends ConfigMapContext {
+    private final ScriptBundle bundle;
+
     ScriptConfigMapContext(Step conflictStep, String domainNamespace, SemanticVersion productVersion) {
-      super(conflictStep, SCRIPT_CONFIG_MAP_NAME, domainNamespace,
-          loadScriptsFromClasspath(domainNamespace), null, productVersion);
+      this(conflictStep, domainNamespace, productVersion, getScriptBundle());
+    }
+
+    private ScriptConfigMapContext(Step conflictStep, String domainNamespace, SemanticVersion productVersion,
+                                   ScriptBundle bundle) {
+      super(conflictStep, SCRIPT_CONFIG_MAP_NAME, domainNamespace, bundle.getScripts(), null, productVersion);
+      this.bundle = bundle;
 
       addLabel(LabelConstants.OPERATORNAME_LABEL, getOperatorNamespace());
     }
 
+    @Override
+    String createContentHash(Map<String, String> data) {
+      return bundle.getHash();
+    }
+
     @Override
     void recordCurrentMap(Packet packet, V1ConfigMap configMap) {
       packet.put(ProcessingConstants.SCRIPT_CONFIG_MAP, configMap);
     }
   }
 
-  static synchronized Map<String, String> loadScriptsFromClasspath(String domainNamespace) {
-    Map<String, String> scripts = scriptReader.loadFilesFromClasspath();
+  static Map<String, String> loadScriptsFromClasspath(String domainNamespace) {
+    Map<String, String> scripts = getScriptBundle().getScripts();
     LOGGER.finer(MessageKeys.SCRIPT_LOADED, domainNamespace);
     return scripts;
   }
 
+  static synchronized ScriptBundle getScriptBundle() {
+    if (scriptBundle == null) {
+      scriptBundle = new ScriptBundle(scriptReader.loadFilesFromClasspath());
+    }
+    return scriptBundle;
+  }
+
+  /**
+   * The scripts to be placed in the script config map of each domain namespace. As they cannot change while the
+   * operator runs, they are read only once, and their hash is computed once for comparison with existing maps.
+   */
+  static class ScriptBundle {
+    private final Map<String, String> scripts;
+    private final String hash;
+
+    ScriptBundle(Map<String, String> scripts) {
+      this.scripts = Collections.unmodifiableMap(scripts);
+      this.hash = AnnotationHelper.createHash(scripts);
+    }
+
+    /**
+     * Returns a copy of the scripts, keyed by file name.
+     * @return a map of file names to contents
+     */
+    Map<String, String> getScripts() {
+      return new HashMap<>(scripts);
+    }
+
+    String getHash() {
+      return hash;
+    }
+  }
+
   abstract static class ConfigMapContext extends StepContextBase {
     private final Map<String, String> contents;
     private final Step conflictStep;
@@ -257,8 +248,18 @@ public class ConfigMapHelper {
     }
 
     protected final V1ConfigMap createModel(Map<String, String> data) {
-      return AnnotationHelper.withSha256Hash(
-          new V1ConfigMap().kind("ConfigMap").apiVersion("v1").metadata(createMetadata()).data(data), data);
+      V1ObjectMeta metadata = createMetadata().putAnnotationsItem(SHA256_ANNOTATION, createContentHash(data));
+      return new V1ConfigMap().kind("ConfigMap").apiVersion("v1").metadata(metadata).data(data);
+    }
+
+    /**
+     * Returns the hash of the specified map contents, to be compared with that of any existing map.
+     * Subclasses whose contents are fixed may override it to return a precomputed hash.
+     * @param data the map contents
+     * @return a hash string
+     */
+    String createContentHash(Map<String, String> data) {
+      return AnnotationHelper.createHash(data);
     }
 
     private V1ObjectMeta createMetadata() {
@@ -291,7 +292,9 @@ public class ConfigMapHelper {
      * @return the new step to run
      */
     Step verifyConfigMap(Step next) {
-      return new CallBuilder().readConfigMapAsync(getName(), namespace, null, new ReadResponseStep(next));
+      ReadResponseStep responseStep = new ReadResponseStep(next);
+      return ResourceCache.CONFIG_MAPS.createReadStep(namespace, getName(), null,
+            new CallBuilder().readConfigMapAsync(getName(), namespace, null, responseStep), responseStep);
     }
 
     boolean isOutdated(V1ConfigMap existingMap) {
@@ -419,6 +422,7 @@ public class ConfigMapHelper {
       @Override
       public NextAction onSuccess(Packet packet, CallResponse<V1ConfigMap> callResponse) {
         LOGGER.info(MessageKeys.CM_CREATED, getResourceName(), namespace);
+        ResourceCache.CONFIG_MAPS.add(callResponse.getResult());
         recordCurrentMap(packet, callResponse.getResult());
         return doNext(packet);
       }
@@ -441,6 +445,7 @@ public class ConfigMapHelper {
       @Override
       public NextAction onSuccess(Packet packet, CallResponse<V1ConfigMap> callResponse) {
         LOGGER.info(MessageKeys.CM_REPLACED, getResourceName(), namespace);
+        ResourceCache.CONFIG_MAPS.add(callResponse.getResult());
         recordCurrentMap(packet, callResponse.getResult());
         return doNext(packet);
       }
@@ -460,6 +465,7 @@ public class ConfigMapHelper {
       @Override
       public NextAction onSuccess(Packet packet, CallResponse<V1ConfigMap> callResponse) {
         LOGGER.info(MessageKeys.CM_PATCHED, getResourceName(), namespace);
+        ResourceCache.CONFIG_MAPS.add(callResponse.getResult());
         return doNext(packet);
       }
     }
@@ -525,14 +531,18 @@ public class ConfigMapHelper {
     }
 
     private void parseIntrospectorResult() {
-      String result = (String) packet.remove(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT);
-      data = ConfigMapHelper.parseIntrospectorResult(result, info.getDomainUid());
+      data = Optional.ofNullable((IntrospectorResult) packet.remove(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT))
+            .map(IntrospectorResult::getFiles)
+            .orElseGet(HashMap::new);
       Optional.ofNullable(data.get(IntrospectorConfigMapConstants.TOPOLOGY_YAML))
-              .map(t -> data.put(IntrospectorConfigMapConstants.TOPOLOGY_JSON, convertToJson(t)));
+              .map(DomainTopology::convertToJson)
+              .ifPresent(json -> data.put(IntrospectorConfigMapConstants.TOPOLOGY_JSON, json));
 
-      LOGGER.fine("================");
-      LOGGER.fine(data.toString());
-      LOGGER.fine("================");
+      if (LOGGER.isFineEnabled()) {
+        LOGGER.fine("================");
+        LOGGER.fine(data.toString());
+        LOGGER.fine("================");
+      }
 
       wlsDomainConfig = Optional.ofNullable(data.get(IntrospectorConfigMapConstants.TOPOLOGY_YAML))
             .map(this::getDomainTopology)
@@ -553,10 +563,6 @@ public class ConfigMapHelper {
       }
     }
 
-    public static String convertToJson(String yaml) {
-      return new Gson().toJson(new Yaml().load(yaml), LinkedHashMap.class);
-    }
-
     boolean isTopologyNotValid() {
       return packet.containsKey(DOMAIN_VALIDATION_ERRORS);
     }
@@ -593,19 +599,35 @@ public class ConfigMapHelper {
 
       IntrospectionConfigMapStep(Map<String, String> data, Step next) {
         super(next);
-        this.splitter = new ConfigMapSplitter<>(IntrospectionLoader.this::createIntrospectorConfigMapContext);
+        this.splitter = new ConfigMapSplitter<>(IntrospectionLoader.this::createIntrospectorConfigMapContext)
+              .keepInFirstMap(TOPOLOGY_YAML, SECRETS_MD_5, DOMAINZIP_HASH, DOMAIN_RESTART_VERSION, DOMAIN_INPUTS_HASH);
         this.data = data;
       }
 
       @Override
       public NextAction apply(Packet packet) {
-        Collection<StepAndPacket> startDetails = splitter.split(data).stream()
+        Collection<StepAndPacket> startDetails = splitter.split(data, getPreviousLocations()).stream()
               .map(c -> c.createStepAndPacket(packet))
               .collect(Collectors.toList());
         packet.put(NUM_CONFIG_MAPS, Integer.toString(startDetails.size()));
         return doForkJoin(getNext(), packet, startDetails);
       }
 
+      // The placement of entries in the cached introspector config maps, so that unchanged maps need not be replaced.
+      private Map<String, Integer> getPreviousLocations() {
+        List<Map<String, String>> previousData = new ArrayList<>();
+        Optional<Map<String, String>> configMapData;
+        while ((configMapData = readCachedData(previousData.size())).isPresent()) {
+          previousData.add(configMapData.get());
+        }
+        return ConfigMapSplitter.getLocations(previousData);
+      }
+
+      private Optional<Map<String, String>> readCachedData(int index) {
+        return ResourceCache.CONFIG_MAPS.read(info.getNamespace(),
+              IntrospectorConfigMapConstants.getIntrospectorConfigMapName(info.getDomainUid(), index),
+              configMap -> Optional.ofNullable(configMap.getData()).orElse(Collections.emptyMap()));
+      }
     }
 
     private IntrospectorConfigMapContext createIntrospectorConfigMapContext() {
@@ -639,7 +661,9 @@ public class ConfigMapHelper {
     }
 
     private DomainTopology getDomainTopology(String topologyYaml) {
-      LOGGER.fine("topology.yaml: " + topologyYaml);
+      if (LOGGER.isFineEnabled()) {
+        LOGGER.fine("topology.yaml: " + topologyYaml);
+      }
       return DomainTopology.parseDomainTopologyYaml(topologyYaml, this::reportValidationErrors);
     }
 
@@ -747,7 +771,7 @@ public class ConfigMapHelper {
     public NextAction apply(Packet packet) {
       Step step = new CallBuilder()
             .withLabelSelectors(LabelConstants.getCreatedByOperatorSelector())
-            .listConfigMapsAsync(namespace, new SelectConfigMapsToDeleteStep(domainUid, namespace));
+            .listConfigMapsAsync(namespace, new SelectConfigMapsToDeleteStep(domainUid, namespace, getNext()));
 
       return doNext(step, packet);
     }
@@ -757,7 +781,8 @@ public class ConfigMapHelper {
     private final String domainUid;
     private final String namespace;
 
-    public SelectConfigMapsToDeleteStep(String domainUid, String namespace) {
+    public SelectConfigMapsToDeleteStep(String domainUid, String namespace, Step next) {
+      super(next);
       this.domainUid = domainUid;
       this.namespace = namespace;
     }
@@ -823,6 +848,7 @@ public class ConfigMapHelper {
 
     private Step deleteIntrospectorConfigMap(Step next) {
       logConfigMapDeleted();
+      ResourceCache.CONFIG_MAPS.forget(namespace, configMapName);
       return new CallBuilder()
           .deleteConfigMapAsync(configMapName, namespace, domainUid,
               new V1DeleteOptions(), new DefaultResponseStep<>(next));
@@ -842,8 +868,7 @@ public class ConfigMapHelper {
    * @return a step to do the processing.
    */
   public static Step readExistingIntrospectorConfigMap(String ns, String domainUid) {
-    String configMapName = getIntrospectorConfigMapName(domainUid);
-    return new CallBuilder().readConfigMapAsync(configMapName, ns, domainUid, new ReadIntrospectorConfigMapStep());
+    return readConfigMap(ns, domainUid, new ReadIntrospectorConfigMapStep());
   }
 
   private static class ReadIntrospectorConfigMapStep extends DefaultResponseStep<V1ConfigMap> {
@@ -924,8 +949,15 @@ public class ConfigMapHelper {
    * @return a step to do the processing.
    */
   public static Step readIntrospectionVersionStep(String ns, String domainUid) {
+    return readConfigMap(ns, domainUid, new ReadIntrospectionVersionStep());
+  }
+
+  // Reads the introspector config map from the cache, if present; otherwise from Kubernetes.
+  // The response step only extracts values from the map, so it is given the cached map itself.
+  private static Step readConfigMap(String ns, String domainUid, ResponseStep<V1ConfigMap> responseStep) {
     String configMapName = getIntrospectorConfigMapName(domainUid);
-    return new CallBuilder().readConfigMapAsync(configMapName, ns, domainUid, new ReadIntrospectionVersionStep());
+    return ResourceCache.CONFIG_MAPS.createReadOnlyStep(ns, configMapName, domainUid,
+          new CallBuilder().readConfigMapAsync(configMapName, ns, domainUid, responseStep), responseStep);
   }
 
   private static class ReadIntrospectionVersionStep extends DefaultResponseStep<V1ConfigMap> {
@@ -4,9 +4,14 @@
 package oracle.kubernetes.operator.helpers;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
@@ -29,9 +34,9 @@ public class ConfigMapSplitter<T extends SplitterTarget> {
 
   private final BiFunction<Map<String, String>, Integer, T> factory;
 
-  private final List<T> result = new ArrayList<>();
-  private Map<String, String> current;
-  private int remainingRoom;
+  private final List<SplitResult> splitResults = new ArrayList<>();
+
+  private final Set<String> firstMapKeys = new HashSet<>();
 
   /**
    * Constructs a splitter object.
@@ -42,6 +47,40 @@ public class ConfigMapSplitter<T extends SplitterTarget> {
     this.factory = factory;
   }
 
+  /**
+   * Specifies keys whose entries must be placed in the first map, because they are read from it alone.
+   * These entries are placed before any others, so that they are moved from the first map only if they are
+   * together too large for one map.
+   *
+   * @param keys the keys to keep in the first map
+   * @return this splitter
+   */
+  public ConfigMapSplitter<T> keepInFirstMap(String... keys) {
+    firstMapKeys.addAll(Arrays.asList(keys));
+    return this;
+  }
+
+  /**
+   * Returns the index of the map holding each key which appears in exactly one of the specified maps. Keys whose
+   * values were split across maps are omitted.
+   *
+   * @param maps the data of previously created maps, in index order
+   * @return a map of keys to map indices
+   */
+  public static Map<String, Integer> getLocations(List<Map<String, String>> maps) {
+    Map<String, Integer> locations = new HashMap<>();
+    Set<String> splitKeys = new HashSet<>();
+    for (int i = 0; i < maps.size(); i++) {
+      for (String key : Optional.ofNullable(maps.get(i)).map(Map::keySet).orElse(Collections.emptySet())) {
+        if (locations.put(key, i) != null) {
+          splitKeys.add(key);
+        }
+      }
+    }
+    splitKeys.forEach(locations::remove);
+    return locations;
+  }
+
   /**
    * Given a map, splits it so that no map has more total data than the specified limit, and returns a list of
    * target objects built from the resultant maps. This may result in some maps receiving partial value for the largest
@@ -51,12 +90,45 @@ public class ConfigMapSplitter<T extends SplitterTarget> {
    * @param data the map to split.
    */
   public List<T> split(Map<String, String> data) {
-    startSplitResult();
-    for (DataEntry dataEntry : getSortedEntrySizes(data)) {
-      addToSplitResult(dataEntry);
+    return split(data, Collections.emptyMap());
+  }
+
+  /**
+   * Splits a map as {@link #split(Map)} does, but keeps each entry in the map which held it before, as long as it
+   * still fits there. Entries which are new, or have grown too large for their previous map, are added to the first
+   * map with room for them; only values which fit in no map are split, across the last maps. As a result,
+   * a change to one entry normally changes the contents of only one map. Entries whose keys must be kept
+   * in the first map are placed there before any others.
+   *
+   * @param data the map to split.
+   * @param previousLocations the index of the map which previously held each key, as returned by getLocations
+   */
+  public List<T> split(Map<String, String> data, Map<String, Integer> previousLocations) {
+    splitResults.clear();
+    splitResults.add(new SplitResult());
+
+    List<DataEntry> unplaced = new ArrayList<>();
+    List<DataEntry> entries = getSortedEntrySizes(data);
+    for (DataEntry entry : entries) {
+      if (firstMapKeys.contains(entry.key) && !splitResults.get(0).addIfFits(entry)) {
+        unplaced.add(entry);
+      }
+    }
+    for (DataEntry entry : entries) {
+      if (!firstMapKeys.contains(entry.key) && !addAtPreviousLocation(entry, previousLocations.get(entry.key))) {
+        unplaced.add(entry);
+      }
+    }
+    for (DataEntry entry : unplaced) {
+      if (!addToFirstFit(entry)) {
+        addToLastSplitResults(entry);
+      }
     }
-    recordSplitResult();
 
+    List<T> result = new ArrayList<>();
+    for (SplitResult splitResult : splitResults) {
+      result.add(factory.apply(splitResult.data, result.size()));
+    }
     recordTargetInfo(result.get(0), result.size());
     return result;
   }
@@ -66,37 +138,72 @@ public class ConfigMapSplitter<T extends SplitterTarget> {
     return data.entrySet().stream().map(DataEntry::new).sorted().collect(Collectors.toList());
   }
 
-  private void startSplitResult() {
-    current = new HashMap<>();
-    remainingRoom = DATA_LIMIT;
+  private boolean addAtPreviousLocation(DataEntry entry, Integer index) {
+    if (index == null || index < 0 || entry.getRemainingLength() > DATA_LIMIT) {
+      return false;
+    }
+
+    while (splitResults.size() <= index) {
+      splitResults.add(new SplitResult());
+    }
+    return splitResults.get(index).addIfFits(entry);
+  }
+
+  private boolean addToFirstFit(DataEntry entry) {
+    for (SplitResult splitResult : splitResults) {
+      if (splitResult.addIfFits(entry)) {
+        return true;
+      }
+    }
+    return false;
   }
 
   /**
-   * Adds the specified data entry to one or more split results, recording its location if it is not wholly
-   * in the first split result.
+   * Adds the specified data entry to a new split result if it will fit in one; otherwise, adds it to the last split
+   * result and as many new ones as are needed to hold it, so that its slices are in consecutive maps.
    * @param entry a data entry
    */
-  private void addToSplitResult(DataEntry entry) {
+  private void addToLastSplitResults(DataEntry entry) {
+    SplitResult current = splitResults.get(splitResults.size() - 1);
+    if (entry.getRemainingLength() <= DATA_LIMIT) {
+      current = new SplitResult();
+      splitResults.add(current);
+    }
     while (entry.getRemainingLength() > 0) {
-      remainingRoom -= entry.addToMap(current, remainingRoom);
-      if (remainingRoom == 0) {
-        recordSplitResult();
-        startSplitResult();
+      if (current.remainingRoom == 0) {
+        current = new SplitResult();
+        splitResults.add(current);
       }
+      current.add(entry);
     }
   }
 
-  private void recordSplitResult() {
-    result.add(factory.apply(current, result.size()));
-  }
-
   private void recordTargetInfo(T target, int size) {
     target.recordNumTargets(size);
   }
 
+  static class SplitResult {
+    private final Map<String, String> data = new HashMap<>();
+    private int remainingRoom = DATA_LIMIT;
+
+    private boolean addIfFits(DataEntry entry) {
+      if (entry.getRemainingLength() > remainingRoom) {
+        return false;
+      }
+
+      add(entry);
+      return true;
+    }
+
+    private void add(DataEntry entry) {
+      remainingRoom -= entry.addToMap(data, remainingRoom);
+    }
+  }
+
   static class DataEntry implements Comparable<DataEntry> {
     private final String key;
-    private String value;
+    private final String value;
+    private int offset;
 
     public DataEntry(Map.Entry<String, String> mapEntry) {
       key = mapEntry.getKey();
@@ -104,26 +211,28 @@ public class ConfigMapSplitter<T extends SplitterTarget> {
     }
 
     /**
-     * Adds to the specified map, as much of this entry as will fit, removing it from the string
-     * still to be added. Returns the number of characters added.
+     * Adds to the specified map, as much of this entry as will fit, advancing past the characters
+     * added, so that each character of the value is copied only once. Returns the number of characters added.
      * @param map the map to update
      * @param limit the maximum number of characters to add
      */
     int addToMap(Map<String, String> map, int limit) {
-      final int numCharsAdded = Math.min(limit, value.length());
-      map.put(key, value.substring(0, numCharsAdded));
-      value = value.substring(numCharsAdded);
+      final int numCharsAdded = Math.min(limit, getRemainingLength());
+      map.put(key, offset == 0 && numCharsAdded == value.length()
+            ? value : value.substring(offset, offset + numCharsAdded));
+      offset += numCharsAdded;
 
       return numCharsAdded;
     }
 
     private int getRemainingLength() {
-      return value.length();
+      return value.length() - offset;
     }
 
     @Override
     public int compareTo(@Nonnull DataEntry o) {
-      return Integer.compare(getRemainingLength(), o.getRemainingLength());
+      final int result = Integer.compare(getRemainingLength(), o.getRemainingLength());
+      return result != 0 ? result : key.compareTo(o.key);
     }
   }
 
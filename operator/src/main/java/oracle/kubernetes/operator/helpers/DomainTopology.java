@@ -3,17 +3,23 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 
@@ -22,6 +28,18 @@ import org.apache.commons.lang3.builder.ToStringStyle;
  */
 public class DomainTopology {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final ObjectMapper YAML_MAPPER = new ObjectMapper(new YAMLFactory());
+  private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+  private static final int MAX_CACHED_TOPOLOGIES = 100;
+
+  // Parsed topology documents, keyed by the SHA-256 hash of their YAML. The trees are never modified.
+  private static final Map<String, JsonNode> TOPOLOGY_TREES
+        = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, JsonNode> eldest) {
+            return size() > MAX_CACHED_TOPOLOGIES;
+          }
+        });
 
   private boolean domainValid;
   private WlsDomainConfig domain;
@@ -58,13 +76,12 @@ public class DomainTopology {
    * @return parsed object hierarchy
    */
   public static DomainTopology parseDomainTopologyYaml(String topologyYaml) {
-    ObjectMapper mapper = new ObjectMapper(new YAMLFactory());
-
     try {
-      DomainTopology domainTopology = mapper.readValue(topologyYaml, DomainTopology.class);
+      DomainTopology domainTopology = YAML_MAPPER.treeToValue(getTopologyTree(topologyYaml), DomainTopology.class);
 
-      LOGGER.fine(
-          ReflectionToStringBuilder.toString(domainTopology, ToStringStyle.MULTI_LINE_STYLE));
+      if (LOGGER.isFineEnabled()) {
+        LOGGER.fine(ReflectionToStringBuilder.toString(domainTopology, ToStringStyle.MULTI_LINE_STYLE));
+      }
 
       return domainTopology;
 
@@ -75,6 +92,32 @@ public class DomainTopology {
     return null;
   }
 
+  /**
+   * Converts a topology yaml to the equivalent JSON.
+   * @param topologyYaml the YAML to convert
+   * @return the JSON form of the topology, or null if the YAML cannot be parsed
+   */
+  public static String convertToJson(String topologyYaml) {
+    try {
+      return JSON_MAPPER.writeValueAsString(getTopologyTree(topologyYaml));
+    } catch (IOException e) {
+      LOGGER.warning(MessageKeys.CANNOT_PARSE_TOPOLOGY, e);
+      return null;
+    }
+  }
+
+  // The same topology is typically parsed several times: once to generate the JSON form, once to build
+  // the domain configuration, and again on each make-right that reuses the introspector config map.
+  private static JsonNode getTopologyTree(String topologyYaml) throws JsonProcessingException {
+    String key = DigestUtils.sha256Hex(topologyYaml);
+    JsonNode tree = TOPOLOGY_TREES.get(key);
+    if (tree == null) {
+      tree = YAML_MAPPER.readTree(topologyYaml);
+      TOPOLOGY_TREES.put(key, tree);
+    }
+    return tree;
+  }
+
   /**
    * check if domain is valid.
    * @return true, if valid
@@ -21,6 +21,7 @@ import oracle.kubernetes.operator.calls.UnrecoverableErrorBuilder;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -128,7 +129,45 @@ public class EventHelper {
 
     @Override
     public NextAction apply(Packet packet) {
-      return doNext(createEventAPICall(createEventModel(packet, eventData)), packet);
+      CoreV1Event event = createEventModel(packet, eventData);
+      if (!eventData.eventItem.mayBeThrottled()) {
+        return doNext(createEventAPICall(event), packet);
+      }
+
+      EventThrottle throttle = EventThrottle.getInstance();
+      long waitMillis = throttle.admit(event, this::createQueuedWriteStep);
+      throttle.writePendingEvents();
+      if (waitMillis == EventThrottle.MERGED) {
+        LOGGER.fine(MessageKeys.EVENT_MERGED, eventData.eventItem);
+        return doNext(packet);
+      } else if (waitMillis == EventThrottle.SHED) {
+        LOGGER.fine(MessageKeys.EVENT_SHED, eventData.eventItem);
+        OperatorMetrics.EVENTS_SHED.labels(event.getReason()).increment();
+        return doNext(packet);
+      } else if (waitMillis > 0) {
+        return doNext(packet); // the throttle will write the event once it may
+      } else {
+        return doNext(createEventAPICall(event), packet);
+      }
+    }
+
+    // Creates the steps with which the throttle's own fiber writes an event which had to wait for it.
+    private Step createQueuedWriteStep(CoreV1Event event, Step next) {
+      return new CreateEventStep(domainNamespaces, eventData, next).new WriteEventStep(event);
+    }
+
+    // Writes an event which had to wait for the event throttle.
+    private class WriteEventStep extends Step {
+      private final CoreV1Event event;
+
+      WriteEventStep(CoreV1Event event) {
+        this.event = event;
+      }
+
+      @Override
+      public NextAction apply(Packet packet) {
+        return doNext(createEventAPICall(event), packet);
+      }
     }
 
     private Step createEventAPICall(CoreV1Event event) {
@@ -148,14 +187,15 @@ public class EventHelper {
 
     private Step createReplaceEventCall(CoreV1Event event, @NotNull CoreV1Event existingEvent) {
       LOGGER.fine(MessageKeys.REPLACING_EVENT, eventData.eventItem);
-      existingEvent.count(Optional.ofNullable(existingEvent.getCount()).map(c -> c + 1).orElse(1));
+      final int increment = Optional.ofNullable(event.getCount()).orElse(1);
+      existingEvent.count(Optional.ofNullable(existingEvent.getCount()).map(c -> c + increment).orElse(increment));
       existingEvent.lastTimestamp(event.getLastTimestamp());
       return new CallBuilder()
           .replaceEventAsync(
               existingEvent.getMetadata().getName(),
               existingEvent.getMetadata().getNamespace(),
               existingEvent,
-              new ReplaceEventResponseStep(this, existingEvent, getNext()));
+              new ReplaceEventResponseStep(this, existingEvent, increment, getNext()));
     }
 
     private CoreV1Event getExistingEvent(CoreV1Event event) {
@@ -211,11 +251,13 @@ public class EventHelper {
     private class ReplaceEventResponseStep extends ResponseStep<CoreV1Event> {
       Step replaceEventStep;
       CoreV1Event existingEvent;
+      int increment;
 
-      ReplaceEventResponseStep(Step replaceEventStep, CoreV1Event existingEvent, Step next) {
+      ReplaceEventResponseStep(Step replaceEventStep, CoreV1Event existingEvent, int increment, Step next) {
         super(next);
         this.existingEvent = existingEvent;
         this.replaceEventStep = replaceEventStep;
+        this.increment = increment;
       }
 
       @Override
@@ -243,7 +285,7 @@ public class EventHelper {
         if (existingEvent == null || existingEvent.getCount() == null) {
           return;
         }
-        existingEvent.count(existingEvent.getCount() - 1);
+        existingEvent.count(existingEvent.getCount() - increment);
       }
 
       Step createRetry(CoreV1Event event) {
@@ -482,6 +524,11 @@ public class EventHelper {
       }
     },
     NAMESPACE_WATCHING_STARTED {
+      @Override
+      boolean mayBeThrottled() {
+        return false;
+      }
+
       @Override
       public String getReason() {
         return EventConstants.NAMESPACE_WATCHING_STARTED_EVENT;
@@ -503,6 +550,11 @@ public class EventHelper {
       }
     },
     NAMESPACE_WATCHING_STOPPED {
+      @Override
+      boolean mayBeThrottled() {
+        return false;
+      }
+
       @Override
       public String getReason() {
         return NAMESPACE_WATCHING_STOPPED_EVENT;
@@ -681,6 +733,14 @@ public class EventHelper {
       return EVENT_NORMAL;
     }
 
+    /**
+     * Returns true if an event of this kind may be merged into an identical earlier event, or shed when too many
+     * events are waiting to be written.
+     */
+    boolean mayBeThrottled() {
+      return true;
+    }
+
     public abstract String getPattern();
 
     public abstract String getReason();
@@ -0,0 +1,351 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.function.UnaryOperator;
+
+import io.kubernetes.client.openapi.models.CoreV1Event;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1ObjectReference;
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.SystemClock;
+
+import static oracle.kubernetes.operator.EventConstants.EVENT_NORMAL;
+
+/**
+ * Limits the rate at which the operator writes Kubernetes events, so that a burst of events, such as those
+ * reported during a rolling restart of many servers, does not compete with make-right calls for the API server.
+ *
+ * <p>An event identical to one written to the same namespace within the aggregation window is not written;
+ * instead, it is counted, and the count is written when the window ends, either with the next such event or on its
+ * own. Other events take a token from a bucket refilled at a fixed rate. Events which must wait for a token are
+ * queued and written by a fiber of their own, so that the fiber which reported them need not wait. Normal events
+ * are shed rather than queued when too many events are already waiting. Each limit is disabled by a zero tuning
+ * parameter.
+ */
+class EventThrottle {
+
+  /**
+   * Returned by {@link #admit(CoreV1Event, EventWriter)} when an event is merged into one already written.
+   */
+  static final long MERGED = -2;
+
+  /**
+   * Returned by {@link #admit(CoreV1Event, EventWriter)} and {@link #reserve(boolean)} when an event should be shed.
+   */
+  static final long SHED = -1;
+
+  private static final int MAX_AGGREGATES = 1000;
+
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // keep non-final for unit test
+  private static EventThrottle instance = new EventThrottle(EventThrottle::getOperatorTuning);
+
+  private final Supplier<TuningParameters.MainTuning> tuning;
+  private final Map<EventKey, Aggregate> aggregates = new HashMap<>();
+  private final Queue<PendingWrite> pendingWrites = new PriorityQueue<>(Comparator.comparingLong(w -> w.dueMillis));
+  private double storedTokens;
+  private long nextFreeMillis;
+  private boolean writerRunning;
+
+  EventThrottle(Supplier<TuningParameters.MainTuning> tuning) {
+    this.tuning = tuning;
+  }
+
+  private static TuningParameters.MainTuning getOperatorTuning() {
+    return Optional.ofNullable(TuningParameters.getInstance()).map(TuningParameters::getMainTuning).orElse(null);
+  }
+
+  static EventThrottle getInstance() {
+    return instance;
+  }
+
+  /**
+   * Decides whether an event may be written now. An event identical to one written to the same namespace within
+   * the aggregation window is merged into that one. Otherwise, the event takes a token, and has the number of
+   * identical events merged since the last one written added to its count. If it must wait for its token,
+   * the event is queued, to be written with the specified writer once the token is available.
+   * @param event the event to write
+   * @param writer creates the steps to write this event, or the merged count of identical events
+   * @return {@link #MERGED} or {@link #SHED} if the event should not be written by the caller,
+   *     otherwise the number of milliseconds for which it was queued, or zero if the caller should write it now
+   */
+  synchronized long admit(CoreV1Event event, EventWriter writer) {
+    final long windowMillis = getTuningValue(t -> t.eventAggregationSeconds) * 1000L;
+    final long now = getCurrentMillis();
+    final EventKey key = new EventKey(event);
+    final Aggregate aggregate = windowMillis <= 0 ? null : aggregates.get(key);
+    if (aggregate != null && now - aggregate.writtenMillis < windowMillis) {
+      merge(aggregate, windowMillis);
+      OperatorMetrics.EVENTS_MERGED.labels(event.getReason()).increment();
+      return MERGED;
+    }
+
+    final long waitMillis = reserve(EVENT_NORMAL.equals(event.getType()));
+    if (waitMillis == SHED) {
+      return SHED;
+    }
+
+    event.count(1 + Optional.ofNullable(aggregate).map(a -> a.numMerged).orElse(0));
+    if (windowMillis > 0) {
+      removeExpiredAggregates(now, windowMillis);
+      aggregates.put(key, new Aggregate(now, key, event, writer));
+    }
+    if (waitMillis > 0) {
+      pendingWrites.add(new PendingWrite(now + waitMillis, next -> writer.createWriteStep(event, next)));
+    }
+    return waitMillis;
+  }
+
+  // The first event merged into an aggregate queues a write of the merged count when the window ends,
+  // in case no identical event follows to carry it.
+  private void merge(Aggregate aggregate, long windowMillis) {
+    if (aggregate.numMerged++ == 0) {
+      pendingWrites.add(new PendingWrite(aggregate.writtenMillis + windowMillis, next -> flush(aggregate, next)));
+    }
+  }
+
+  // Writes the count of events merged into an aggregate whose window has ended, unless a later identical
+  // event has already written it.
+  private synchronized Step flush(Aggregate aggregate, Step next) {
+    if (aggregates.get(aggregate.key) != aggregate || aggregate.numMerged == 0) {
+      return next;
+    }
+
+    final long now = getCurrentMillis();
+    final CoreV1Event event = copyEvent(aggregate.event).count(aggregate.numMerged);
+    aggregates.put(aggregate.key, new Aggregate(now, aggregate.key, event, aggregate.writer));
+    final long waitMillis = reserve(false);
+    if (waitMillis > 0) {
+      pendingWrites.add(new PendingWrite(now + waitMillis, n -> aggregate.writer.createWriteStep(event, n)));
+      return next;
+    }
+    return aggregate.writer.createWriteStep(event, next);
+  }
+
+  private CoreV1Event copyEvent(CoreV1Event event) {
+    return new CoreV1Event()
+          .metadata(new V1ObjectMeta()
+                .name(event.getMetadata().getName())
+                .namespace(event.getMetadata().getNamespace())
+                .labels(Optional.ofNullable(event.getMetadata().getLabels()).map(HashMap::new).orElse(null)))
+          .reportingComponent(event.getReportingComponent())
+          .reportingInstance(event.getReportingInstance())
+          .lastTimestamp(SystemClock.now())
+          .type(event.getType())
+          .reason(event.getReason())
+          .message(event.getMessage())
+          .involvedObject(event.getInvolvedObject());
+  }
+
+  /**
+   * Starts the fiber which writes queued events, if there are any and it is not already running. The new fiber
+   * runs on the engine of the current fiber, but is not its child, and so is not cancelled with it.
+   */
+  void writePendingEvents() {
+    final Fiber current = Fiber.getCurrentIfSet();
+    synchronized (this) {
+      if (current == null || writerRunning || pendingWrites.isEmpty()) {
+        return;
+      }
+      writerRunning = true;
+    }
+
+    current.createDetachedFiber().start(new WritePendingEventsStep(), new Packet(), new WriterCompletion());
+  }
+
+  private synchronized void writerStopped() {
+    writerRunning = false;
+  }
+
+  private void removeExpiredAggregates(long now, long windowMillis) {
+    if (aggregates.size() >= MAX_AGGREGATES) {
+      Iterator<Aggregate> iterator = aggregates.values().iterator();
+      while (iterator.hasNext()) {
+        if (isExpiredAndFlushed(iterator.next(), now, windowMillis)) {
+          iterator.remove();
+        }
+      }
+    }
+  }
+
+  // An aggregate with merged events must remain until its count is written.
+  private boolean isExpiredAndFlushed(Aggregate aggregate, long now, long windowMillis) {
+    return now - aggregate.writtenMillis >= windowMillis && aggregate.numMerged == 0;
+  }
+
+  /**
+   * Reserves a token with which to write an event.
+   * @param mayBeShed true if the event may be shed when too many events are waiting
+   * @return the number of milliseconds to wait before writing the event, or {@link #SHED} if it should not be written
+   */
+  synchronized long reserve(boolean mayBeShed) {
+    final int eventsPerSecond = getTuningValue(t -> t.eventsPerSecond);
+    if (eventsPerSecond <= 0) {
+      return 0;
+    }
+
+    final long now = getCurrentMillis();
+    final double millisPerToken = 1000.0 / eventsPerSecond;
+    if (now > nextFreeMillis) {
+      storedTokens = Math.min(eventsPerSecond, storedTokens + (now - nextFreeMillis) / millisPerToken);
+      nextFreeMillis = now;
+    }
+
+    final long waitMillis = nextFreeMillis - now;
+    if (mayBeShed && isQueueFull(waitMillis / millisPerToken)) {
+      return SHED;
+    }
+
+    if (storedTokens >= 1) {
+      storedTokens--;
+    } else {
+      nextFreeMillis += (long) Math.ceil(millisPerToken);
+    }
+    return waitMillis;
+  }
+
+  private boolean isQueueFull(double numWaiting) {
+    final int capacity = getTuningValue(t -> t.eventQueueCapacity);
+    return capacity > 0 && numWaiting >= capacity;
+  }
+
+  private int getTuningValue(ToIntFunction<TuningParameters.MainTuning> getter) {
+    return Optional.ofNullable(tuning.get()).map(getter::applyAsInt).orElse(0);
+  }
+
+  private long getCurrentMillis() {
+    return SystemClock.now().toInstant().toEpochMilli();
+  }
+
+  /**
+   * Creates the steps to write an event which was queued by the throttle.
+   */
+  interface EventWriter {
+
+    /**
+     * Creates the steps to write the specified event.
+     * @param event the event to write
+     * @param next the step to run after the event is written
+     * @return the first step
+     */
+    Step createWriteStep(CoreV1Event event, Step next);
+  }
+
+  private static class Aggregate {
+    private final long writtenMillis;
+    private final EventKey key;
+    private final CoreV1Event event;
+    private final EventWriter writer;
+    private int numMerged;
+
+    Aggregate(long writtenMillis, EventKey key, CoreV1Event event, EventWriter writer) {
+      this.writtenMillis = writtenMillis;
+      this.key = key;
+      this.event = event;
+      this.writer = writer;
+    }
+  }
+
+  private static class PendingWrite {
+    private final long dueMillis;
+    private final UnaryOperator<Step> stepFactory;
+
+    PendingWrite(long dueMillis, UnaryOperator<Step> stepFactory) {
+      this.dueMillis = dueMillis;
+      this.stepFactory = stepFactory;
+    }
+  }
+
+  // Writes the queued events as they become due, and ends when none remain.
+  private class WritePendingEventsStep extends Step {
+
+    @Override
+    public NextAction apply(Packet packet) {
+      synchronized (EventThrottle.this) {
+        final PendingWrite write = pendingWrites.peek();
+        if (write == null) {
+          writerRunning = false;
+          return doEnd(packet);
+        }
+
+        final long waitMillis = write.dueMillis - getCurrentMillis();
+        if (waitMillis > 0) {
+          return doDelay(this, packet, waitMillis, TimeUnit.MILLISECONDS);
+        }
+
+        pendingWrites.poll();
+        return doNext(write.stepFactory.apply(this), packet);
+      }
+    }
+  }
+
+  // Allows a new writer to be started if this one fails or is cancelled before writing all queued events.
+  private class WriterCompletion implements Fiber.CompletionCallback {
+
+    @Override
+    public void onCompletion(Packet packet) {
+      writerStopped();
+    }
+
+    @Override
+    public void onThrowable(Packet packet, Throwable throwable) {
+      writerStopped();
+    }
+
+    @Override
+    public void onCancelled() {
+      writerStopped();
+    }
+  }
+
+  private static class EventKey {
+    private final String namespace;
+    private final String reason;
+    private final String message;
+    private final V1ObjectReference involvedObject;
+
+    EventKey(CoreV1Event event) {
+      namespace = event.getMetadata().getNamespace();
+      reason = event.getReason();
+      message = event.getMessage();
+      involvedObject = event.getInvolvedObject();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof EventKey)) {
+        return false;
+      }
+      EventKey that = (EventKey) o;
+      return Objects.equals(namespace, that.namespace)
+            && Objects.equals(reason, that.reason)
+            && Objects.equals(message, that.message)
+            && Objects.equals(involvedObject, that.involvedObject);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(namespace, reason, message, involvedObject);
+    }
+  }
+}
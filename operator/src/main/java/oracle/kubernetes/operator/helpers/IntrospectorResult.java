@@ -0,0 +1,138 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static oracle.kubernetes.operator.helpers.ConfigMapHelper.UPDATEDOMAINRESULT;
+
+/**
+ * The result of a domain introspection, parsed from the log of the introspector job pod line by line as it is read,
+ * so that the whole log need never be held in memory.
+ *
+ * <p>The log contains job log messages, each starting with '@[', and files, each starting with a line '>>> /path'
+ * and ending with a line '>>> EOF'. Lines outside the files which do not start a message continue
+ * the previous message. Lines before the first message are ignored.
+ */
+public class IntrospectorResult {
+  private static final String JOB_LOG_MESSAGE_START = "@[";
+  private static final String FILE_DELIMITER = ">>>";
+  private static final String FILE_END = "EOF";
+  private static final String UPDATE_RESULT_TOKEN = ">>>  updatedomainResult=";
+
+  private final Map<String, String> files = new HashMap<>();
+  private final List<String> jobLogMessages = new ArrayList<>();
+  private StringBuilder jobLogMessage;
+  private String fileName;
+  private StringBuilder fileContents;
+
+  private IntrospectorResult() {
+  }
+
+  /**
+   * Parses the introspector job pod log from the specified reader.
+   * @param reader a reader of the log
+   * @return the parsed result
+   * @throws IOException if the log cannot be read
+   */
+  public static IntrospectorResult parse(Reader reader) throws IOException {
+    IntrospectorResult result = new IntrospectorResult();
+    BufferedReader bufferedReader = new BufferedReader(reader);
+    String line;
+    while ((line = bufferedReader.readLine()) != null) {
+      result.addLine(line);
+    }
+    result.endJobLogMessage();
+    return result;
+  }
+
+  /**
+   * Parses an introspector job pod log held as a string.
+   * @param log the log
+   * @return the parsed result
+   */
+  public static IntrospectorResult parse(String log) {
+    try {
+      return parse(new StringReader(log));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Returns the files found in the log, keyed by name, along with the result of any online update
+   * of the domain. The map may be modified by the caller.
+   * @return a map of file names to contents
+   */
+  public Map<String, String> getFiles() {
+    return files;
+  }
+
+  /**
+   * Returns the job log messages found in the log, in order. A message which spans several lines
+   * has its lines trimmed and separated by the system line separator.
+   * @return a list of messages
+   */
+  public List<String> getJobLogMessages() {
+    return Collections.unmodifiableList(jobLogMessages);
+  }
+
+  private void addLine(String line) {
+    if (fileName != null) {
+      addFileLine(line);
+      return;
+    }
+
+    if (line.contains(UPDATE_RESULT_TOKEN)) {
+      files.put(UPDATEDOMAINRESULT, line.substring(line.indexOf(UPDATE_RESULT_TOKEN) + UPDATE_RESULT_TOKEN.length()));
+    }
+    if (line.startsWith(FILE_DELIMITER)) {
+      startFileIfNamed(line);
+    } else if (line.startsWith(JOB_LOG_MESSAGE_START)) {
+      endJobLogMessage();
+      jobLogMessage = new StringBuilder(line.trim());
+    } else if (jobLogMessage != null) {
+      jobLogMessage.append(System.lineSeparator()).append(line.trim());
+    }
+  }
+
+  private void startFileIfNamed(String line) {
+    if (!line.endsWith(FILE_END)) {
+      fileName = line.substring(line.lastIndexOf('/') + 1);
+      fileContents = new StringBuilder();
+    }
+  }
+
+  // A file which is not terminated is discarded.
+  private void addFileLine(String line) {
+    if (line.startsWith(FILE_DELIMITER) && line.endsWith(FILE_END)) {
+      files.put(fileName, fileContents.toString().trim());
+      fileName = null;
+      fileContents = null;
+    } else {
+      fileContents.append(line).append(System.lineSeparator());
+    }
+  }
+
+  private void endJobLogMessage() {
+    if (jobLogMessage != null) {
+      jobLogMessages.add(jobLogMessage.toString());
+      jobLogMessage = null;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "IntrospectorResult{files=" + files.keySet() + ", jobLogMessages=" + jobLogMessages.size() + '}';
+  }
+}
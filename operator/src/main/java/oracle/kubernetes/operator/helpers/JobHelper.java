@@ -387,7 +387,8 @@ public class JobHelper {
       private Step readDomainIntrospectorPodLog(String jobPodName, Step next) {
         return new CallBuilder()
                 .readPodLogAsync(
-                        jobPodName, getNamespace(), getDomainUid(), new ReadPodLogResponseStep(next));
+                        jobPodName, getNamespace(), getDomainUid(),
+                        IntrospectorResult::parse, new ReadPodLogResponseStep(next));
       }
     }
 
@@ -414,9 +415,8 @@ public class JobHelper {
       return ConfigMapHelper.createIntrospectorConfigMapStep(null);
     }
 
-    private class ReadPodLogResponseStep extends ResponseStep<String> {
+    private class ReadPodLogResponseStep extends ResponseStep<IntrospectorResult> {
       public static final String INTROSPECTION_FAILED = "INTROSPECTION_FAILED";
-      private StringBuilder logMessage = new StringBuilder();
       private final List<String> severeStatuses = new ArrayList<>();
 
       ReadPodLogResponseStep(Step nextStep) {
@@ -424,7 +424,7 @@ public class JobHelper {
       }
 
       @Override
-      public NextAction onSuccess(Packet packet, CallResponse<String> callResponse) {
+      public NextAction onSuccess(Packet packet, CallResponse<IntrospectorResult> callResponse) {
         Optional.ofNullable(callResponse.getResult()).ifPresent(result -> processIntrospectionResult(packet, result));
 
         final V1Job domainIntrospectorJob = packet.getValue(DOMAIN_INTROSPECTOR_JOB);
@@ -435,9 +435,9 @@ public class JobHelper {
         }
       }
 
-      private void processIntrospectionResult(Packet packet, String result) {
-        LOGGER.fine("+++++ ReadDomainIntrospectorPodLogResponseStep: \n" + result);
-        convertJobLogsToOperatorLogs(result);
+      private void processIntrospectionResult(Packet packet, IntrospectorResult result) {
+        LOGGER.fine("+++++ ReadDomainIntrospectorPodLogResponseStep: " + result);
+        result.getJobLogMessages().forEach(this::logToOperator);
         if (!severeStatuses.isEmpty()) {
           updateStatusSynchronously();
         }
@@ -491,29 +491,8 @@ public class JobHelper {
               .orElse(OffsetDateTime.now());
       }
 
-      // Parse log messages out of a Job Log
-      //  - assumes each job log message starts with '@['
-      //  - assumes any lines that don't start with '@[' are part
-      //    of the previous log message
-      //  - ignores all lines in the log up to the first line that starts with '@['
-      private void convertJobLogsToOperatorLogs(String jobLogs) {
-        for (String line : jobLogs.split(EOL_PATTERN)) {
-          if (line.startsWith("@[")) {
-            logToOperator();
-            logMessage = new StringBuilder(INTROSPECTOR_LOG_PREFIX).append(line.trim());
-          } else if (logMessage.length() > 0) {
-            logMessage.append(System.lineSeparator()).append(line.trim());
-          }
-        }
-        logToOperator();
-      }
-
-      private void logToOperator() {
-        if (logMessage.length() == 0) {
-          return;
-        }
-
-        String logMsg = logMessage.toString();
+      private void logToOperator(String jobLogMessage) {
+        String logMsg = INTROSPECTOR_LOG_PREFIX + jobLogMessage;
         switch (getLogLevel(logMsg)) {
           case "SEVERE":
             addSevereStatus(logMsg); // fall through
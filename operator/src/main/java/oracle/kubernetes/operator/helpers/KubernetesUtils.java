@@ -78,10 +78,7 @@ public class KubernetesUtils {
         Map<String, String> required) {
 
     for (String name : required.keySet()) {
-      // We must encode each '/' and '~' in a JSON patch token using '~1' and '~0', otherwise
-      // the JSON patch will incorrectly treat '/' and '~' as special delimiters. (RFC 6901).
-      // The resulting patched JSON will have '/' and '~' within the token (not ~0 or ~1).
-      String encodedPath = basePath + name.replace("~","~0").replace("/","~1");
+      String encodedPath = getEncodedPath(basePath, name);
       if (!current.containsKey(name)) {
         patchBuilder.add(encodedPath, required.get(name));
       } else {
@@ -90,6 +87,35 @@ public class KubernetesUtils {
     }
   }
 
+  /**
+   * Adds patches to the specified patch builder to remove the entries of the current map which are not
+   * in the required map.
+   *
+   * @param patchBuilder a builder for the patches
+   * @param basePath     the base for the patch path (excluding the name)
+   * @param current      a map of the values found in a Kubernetes resource
+   * @param required     a map of the values specified for the resource by the domain
+   */
+  static void addRemovalPatches(
+        JsonPatchBuilder patchBuilder,
+        String basePath,
+        Map<String, String> current,
+        Map<String, String> required) {
+
+    for (String name : current.keySet()) {
+      if (!required.containsKey(name)) {
+        patchBuilder.remove(getEncodedPath(basePath, name));
+      }
+    }
+  }
+
+  // We must encode each '/' and '~' in a JSON patch token using '~1' and '~0', otherwise
+  // the JSON patch will incorrectly treat '/' and '~' as special delimiters. (RFC 6901).
+  // The resulting patched JSON will have '/' and '~' within the token (not ~0 or ~1).
+  private static String getEncodedPath(String basePath, String name) {
+    return basePath + name.replace("~","~0").replace("/","~1");
+  }
+
   /**
    * Returns the name of the resource, extracted from its metadata.
    *
@@ -3,28 +3,113 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import java.util.ArrayDeque;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.utils.SystemClock;
 
-/** General-purpose object pool. */
+/**
+ * General-purpose object pool. The number of objects lent to asynchronous callers may be bounded, in which case
+ * those callers wait, in order, for an object to be returned. Synchronous callers, which are typically long-lived
+ * watches, are never made to wait. Objects which remain unused in the pool longer than the configured idle time
+ * are dropped.
+ */
 public abstract class Pool<T> {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
   private final Queue<T> queue = new ConcurrentLinkedQueue<>();
 
+  // guarded by this
+  private final Queue<Long> idleSince = new ArrayDeque<>();
+  private final Queue<Waiter> waiters = new ArrayDeque<>();
+  private int asyncInUse;
+
+  private final AtomicInteger inUse = new AtomicInteger();
+  private final AtomicLong created = new AtomicLong();
+  private final AtomicLong discarded = new AtomicLong();
+  private final AtomicLong evicted = new AtomicLong();
+  private final AtomicLong waits = new AtomicLong();
+  private final AtomicLong totalWaitNanos = new AtomicLong();
+
+  private volatile int maxAsyncSize;
+  private volatile long maxIdleMillis;
+
+  /**
+   * Sets the maximum number of objects which may be lent to asynchronous callers at one time.
+   * @param maxAsyncSize the maximum number, or zero if there is no maximum
+   */
+  public void setMaxAsyncSize(int maxAsyncSize) {
+    this.maxAsyncSize = Math.max(0, maxAsyncSize);
+    admitWaiters();
+  }
+
+  /**
+   * Sets the time after which an unused object is dropped from the pool.
+   * @param maxIdleSeconds the maximum idle time, or zero if objects are never dropped
+   */
+  public void setMaxIdleSeconds(long maxIdleSeconds) {
+    this.maxIdleMillis = Math.max(0, maxIdleSeconds) * 1000;
+  }
+
   /**
    * Gets a new object from the pool. If no object is available in the pool, this method creates a
-   * new one.
+   * new one. The object should be returned with {@link #recycle(Object)} or {@link #discard(Object)}.
    *
    * @return always non-null.
    */
   public final T take() {
-    T instance = getQueue().poll();
+    inUse.incrementAndGet();
+    return obtain();
+  }
+
+  /**
+   * Passes an object from the pool to the specified consumer. If the maximum number of objects are already
+   * lent to asynchronous callers, the consumer will instead be invoked on the thread that next returns one,
+   * after any consumers that were already waiting; the calling thread is never blocked. The object must be
+   * returned with {@link #recycleAsync(Object)} or {@link #discardAsync(Object)}.
+   *
+   * @param consumer a consumer of the object
+   * @return true if the consumer must wait for an object, in which case the wait may be abandoned with
+   *     {@link #cancelWait(Consumer)}
+   */
+  public final boolean takeAsync(Consumer<T> consumer) {
+    synchronized (this) {
+      if (isAtMaximum()) {
+        waiters.add(new Waiter(consumer));
+        return true;
+      }
+      asyncInUse++;
+    }
+    inUse.incrementAndGet();
+    consumer.accept(obtain());
+    return false;
+  }
+
+  /**
+   * Abandons the wait of a consumer passed to {@link #takeAsync(Consumer)}.
+   *
+   * @param consumer the waiting consumer
+   * @return true if the consumer was still waiting, and so will not now be passed an object
+   */
+  public final synchronized boolean cancelWait(Consumer<T> consumer) {
+    return waiters.removeIf(waiter -> waiter.consumer == consumer);
+  }
+
+  private boolean isAtMaximum() {
+    return maxAsyncSize > 0 && asyncInUse >= maxAsyncSize;
+  }
+
+  private T obtain() {
+    T instance = poll();
     if (instance == null) {
       LOGGER.finer("Creating instance");
+      created.incrementAndGet();
       return create();
     }
 
@@ -35,26 +120,127 @@ public abstract class Pool<T> {
     return instance;
   }
 
+  private synchronized T poll() {
+    evictIdleInstances();
+    idleSince.poll();
+    return getQueue().poll();
+  }
+
+  // Instances are returned to the tail of the queue, so the longest-idle instance is always at the head.
+  private void evictIdleInstances() {
+    if (maxIdleMillis > 0) {
+      long cutoff = currentTimeMillis() - maxIdleMillis;
+      while (!idleSince.isEmpty() && idleSince.peek() < cutoff) {
+        idleSince.poll();
+        onEvict(getQueue().poll());
+        evicted.incrementAndGet();
+      }
+    }
+  }
+
+  private synchronized void addIdle(T instance) {
+    getQueue().offer(instance);
+    idleSince.offer(currentTimeMillis());
+  }
+
+  private long currentTimeMillis() {
+    return SystemClock.now().toInstant().toEpochMilli();
+  }
+
   protected Queue<T> getQueue() {
     return queue;
   }
 
   /**
-   * Returns an object back to the pool.
+   * Returns an object obtained by {@link #take()} back to the pool.
    *
    * @param instance Pool object to recycle
    */
   public final void recycle(T instance) {
-    getQueue().offer(onRecycle(instance));
+    inUse.decrementAndGet();
+    addIdle(onRecycle(instance));
     if (LOGGER.isFinerEnabled()) {
       LOGGER.finer("Recycling instance to pool, instances now in pool: " + getQueue().size());
     }
   }
 
+  /**
+   * Returns an object obtained by {@link #takeAsync(Consumer)} back to the pool. If another asynchronous caller
+   * is waiting, the object is passed directly to it.
+   *
+   * @param instance Pool object to recycle
+   */
+  public final void recycleAsync(T instance) {
+    T recycled = onRecycle(instance);
+    Waiter waiter;
+    synchronized (this) {
+      waiter = waiters.poll();
+      if (waiter == null) {
+        asyncInUse--;
+        addIdle(recycled);
+      }
+    }
+
+    if (waiter != null) {
+      waiter.accept(recycled);
+    } else {
+      inUse.decrementAndGet();
+    }
+  }
+
+  /**
+   * Discards an object obtained by {@link #take()}. This method will cause {@link #take()
+   * take} to return a different object from pool.
+   *
+   * @param instance the object to discard
+   */
+  public final void discard(T instance) {
+    inUse.decrementAndGet();
+    discarded.incrementAndGet();
+    onDiscard(instance);
+  }
+
+  /**
+   * Discards an object obtained by {@link #takeAsync(Consumer)}, allowing a waiting caller to obtain a new one.
+   *
+   * @param instance the object to discard
+   */
+  public final void discardAsync(T instance) {
+    discard(instance);
+    synchronized (this) {
+      asyncInUse--;
+    }
+    admitWaiters();
+  }
+
+  // Passes objects to waiting consumers, as long as the maximum permits.
+  private void admitWaiters() {
+    Waiter waiter;
+    while ((waiter = admitNextWaiter()) != null) {
+      inUse.incrementAndGet();
+      waiter.accept(obtain());
+    }
+  }
+
+  private synchronized Waiter admitNextWaiter() {
+    if (waiters.isEmpty() || isAtMaximum()) {
+      return null;
+    }
+    asyncInUse++;
+    return waiters.poll();
+  }
+
   protected T onRecycle(T instance) {
     return instance;
   }
 
+  /**
+   * Called when an idle object is dropped from the pool. By default, does nothing.
+   * @param instance the object being dropped
+   */
+  protected void onEvict(T instance) {
+  }
+
   /**
    * Creates a new instance of object. This method is used when someone wants to {@link #take()
    * take} an object from an empty pool. Also note that multiple threads may call this method
@@ -65,9 +251,105 @@ public abstract class Pool<T> {
   protected abstract T create();
 
   /**
-   * Discards the object instance. This method will cause {@link #take()
+   * Releases a discarded object instance. This method will cause {@link #take()
    * take} to return a different object from pool.
    *
+   * @param instance the object being discarded
+   */
+  protected abstract void onDiscard(T instance);
+
+  /**
+   * Returns a snapshot of the current pool usage.
+   * @return the pool statistics
    */
-  public abstract void discard(T client);
+  public synchronized Statistics getStatistics() {
+    return new Statistics(inUse.get(), getQueue().size(), waiters.size(), created.get(), discarded.get(),
+          evicted.get(), waits.get(), totalWaitNanos.get());
+  }
+
+  private class Waiter {
+    private final Consumer<T> consumer;
+    private final long startNanos = System.nanoTime();
+
+    Waiter(Consumer<T> consumer) {
+      this.consumer = consumer;
+    }
+
+    void accept(T instance) {
+      waits.incrementAndGet();
+      totalWaitNanos.addAndGet(System.nanoTime() - startNanos);
+      consumer.accept(instance);
+    }
+  }
+
+  /** A snapshot of the usage of a pool. */
+  public static class Statistics {
+    private final int inUse;
+    private final int idle;
+    private final int waiting;
+    private final long created;
+    private final long discarded;
+    private final long evicted;
+    private final long waits;
+    private final long totalWaitNanos;
+
+    Statistics(int inUse, int idle, int waiting, long created, long discarded, long evicted,
+               long waits, long totalWaitNanos) {
+      this.inUse = inUse;
+      this.idle = idle;
+      this.waiting = waiting;
+      this.created = created;
+      this.discarded = discarded;
+      this.evicted = evicted;
+      this.waits = waits;
+      this.totalWaitNanos = totalWaitNanos;
+    }
+
+    /** Returns the number of objects currently lent out. */
+    public int getInUse() {
+      return inUse;
+    }
+
+    /** Returns the number of objects available in the pool. */
+    public int getIdle() {
+      return idle;
+    }
+
+    /** Returns the number of asynchronous callers waiting for an object. */
+    public int getWaiting() {
+      return waiting;
+    }
+
+    /** Returns the number of objects created by the pool. */
+    public long getCreated() {
+      return created;
+    }
+
+    /** Returns the number of objects discarded as unusable. */
+    public long getDiscarded() {
+      return discarded;
+    }
+
+    /** Returns the number of objects dropped from the pool after being idle too long. */
+    public long getEvicted() {
+      return evicted;
+    }
+
+    /** Returns the number of asynchronous callers which had to wait for an object. */
+    public long getWaits() {
+      return waits;
+    }
+
+    /** Returns the total time that asynchronous callers have waited for objects, in nanoseconds. */
+    public long getTotalWaitNanos() {
+      return totalWaitNanos;
+    }
+
+    @Override
+    public String toString() {
+      return "inUse=" + inUse + ", idle=" + idle + ", waiting=" + waiting + ", created=" + created
+            + ", discarded=" + discarded + ", evicted=" + evicted + ", waits=" + waits
+            + ", totalWaitNanos=" + totalWaitNanos;
+    }
+  }
 }
@@ -0,0 +1,233 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ConfigMapBuilder;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.LabelConstants;
+import oracle.kubernetes.operator.calls.AsyncRequestStep;
+import oracle.kubernetes.operator.calls.CallResponse;
+import oracle.kubernetes.operator.calls.RequestParams;
+import oracle.kubernetes.operator.work.Component;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_OK;
+
+/**
+ * An in-memory copy of the operator-created resources of a single type, per namespace. It is seeded by the
+ * namespace list requests and kept current by the corresponding watcher, so that steps may read a resource
+ * without a call to the Kubernetes API server. A resource which is not in the cache is always read from the server.
+ * Only config maps are cached: the operator already tracks the pods and services of each domain in its
+ * {@link DomainPresenceInfo}.
+ *
+ * @param <T> the type of resource cached
+ */
+public class ResourceCache<T> {
+
+  public static final ResourceCache<V1ConfigMap> CONFIG_MAPS
+        = new ResourceCache<>("ConfigMap", V1ConfigMap::getMetadata, ResourceCache::copyConfigMap);
+
+  private final String kind;
+  private final Function<T, V1ObjectMeta> getMetadata;
+  private final UnaryOperator<T> copier;
+  private final Map<String, Map<String, T>> namespaces = new ConcurrentHashMap<>();
+
+  ResourceCache(String kind, Function<T, V1ObjectMeta> getMetadata, UnaryOperator<T> copier) {
+    this.kind = kind;
+    this.getMetadata = getMetadata;
+    this.copier = copier;
+  }
+
+  private static V1ConfigMap copyConfigMap(V1ConfigMap configMap) {
+    return new V1ConfigMapBuilder(configMap).build();
+  }
+
+  /**
+   * Updates the cache from a watch event.
+   * @param item the watch response
+   */
+  public void update(Watch.Response<T> item) {
+    switch (item.type) {
+      case "ADDED":
+      case "MODIFIED":
+        add(item.object);
+        break;
+      case "DELETED":
+        remove(item.object);
+        break;
+      default:
+    }
+  }
+
+  /**
+   * Adds resources returned by a list request to the cache.
+   * @param resources the listed resources
+   */
+  public void addAll(Collection<T> resources) {
+    Optional.ofNullable(resources).ifPresent(r -> r.forEach(this::add));
+  }
+
+  /**
+   * Adds a resource to the cache, unless it was not created by the operator, or the cache holds a newer version.
+   * @param resource the resource to add
+   */
+  public void add(T resource) {
+    V1ObjectMeta metadata = getMetadata.apply(resource);
+    if (isCacheable(metadata)) {
+      getNamespaceMap(metadata.getNamespace())
+            .merge(metadata.getName(), resource, (existing, replacement) -> newer(existing, replacement));
+    }
+  }
+
+  private boolean isCacheable(V1ObjectMeta metadata) {
+    return metadata != null && metadata.getNamespace() != null && metadata.getName() != null
+          && Optional.ofNullable(metadata.getLabels())
+                .map(l -> "true".equals(l.get(LabelConstants.CREATEDBYOPERATOR_LABEL)))
+                .orElse(false);
+  }
+
+  // Resource versions increase across all resources, so a recreated resource also has a higher version.
+  private T newer(T existing, T replacement) {
+    return getResourceVersion(existing).compareTo(getResourceVersion(replacement)) > 0 ? existing : replacement;
+  }
+
+  private BigInteger getResourceVersion(T resource) {
+    return KubernetesUtils.getResourceVersion(getMetadata.apply(resource));
+  }
+
+  private Map<String, T> getNamespaceMap(String namespace) {
+    return namespaces.computeIfAbsent(namespace, n -> new ConcurrentHashMap<>());
+  }
+
+  /**
+   * Removes a resource from the cache.
+   * @param resource the deleted resource
+   */
+  public void remove(T resource) {
+    Optional.ofNullable(getMetadata.apply(resource))
+          .map(V1ObjectMeta::getNamespace)
+          .map(namespaces::get)
+          .ifPresent(m -> m.remove(getMetadata.apply(resource).getName()));
+  }
+
+  /**
+   * Removes the resource with the specified name from the cache, typically because it is about to be deleted.
+   * @param namespace the namespace of the resource
+   * @param name the name of the resource
+   */
+  public void forget(String namespace, String name) {
+    Optional.ofNullable(namespaces.get(namespace)).ifPresent(m -> m.remove(name));
+  }
+
+  /**
+   * Returns a copy of the cached resource with the specified name, if any. Callers may modify the returned copy.
+   * @param namespace the namespace of the resource
+   * @param name the name of the resource
+   * @return an optional copy of the resource
+   */
+  public Optional<T> lookup(String namespace, String name) {
+    return Optional.ofNullable(namespaces.get(namespace)).map(m -> m.get(name)).map(copier);
+  }
+
+  /**
+   * Applies the specified function to the cached resource with the specified name, if any, without copying it.
+   * The function must not modify the resource.
+   * @param namespace the namespace of the resource
+   * @param name the name of the resource
+   * @param reader a function to extract information from the resource
+   * @param <R> the type of information extracted
+   * @return an optional result of the function
+   */
+  public <R> Optional<R> read(String namespace, String name, Function<T, R> reader) {
+    return Optional.ofNullable(namespaces.get(namespace)).map(m -> m.get(name)).map(reader);
+  }
+
+  /**
+   * Discards all cached resources in the specified namespace.
+   * @param namespace the namespace no longer managed
+   */
+  public void forgetNamespace(String namespace) {
+    namespaces.remove(namespace);
+  }
+
+  /** Discards all cached resources. */
+  public void clear() {
+    namespaces.clear();
+  }
+
+  /**
+   * Creates a step which passes a copy of the cached resource with the specified name to the response step as if it
+   * had been read from the Kubernetes API server. If the resource is not cached, runs the specified read step instead.
+   * @param namespace the namespace of the resource
+   * @param name the name of the resource
+   * @param domainUid the UID of the domain associated with the resource, if any
+   * @param readStep a step which reads the resource from the server
+   * @param responseStep the step to process the resource, which may modify it
+   * @return the new step
+   */
+  public Step createReadStep(String namespace, String name, String domainUid, Step readStep,
+                             ResponseStep<T> responseStep) {
+    return new ReadFromCacheStep(namespace, name, domainUid, readStep, responseStep, copier);
+  }
+
+  /**
+   * Creates a step which passes the cached resource with the specified name, without copying it, to the response
+   * step as if it had been read from the Kubernetes API server. If the resource is not cached, runs the specified
+   * read step instead.
+   * @param namespace the namespace of the resource
+   * @param name the name of the resource
+   * @param domainUid the UID of the domain associated with the resource, if any
+   * @param readStep a step which reads the resource from the server
+   * @param responseStep the step to process the resource, which must not modify it
+   * @return the new step
+   */
+  public Step createReadOnlyStep(String namespace, String name, String domainUid, Step readStep,
+                                 ResponseStep<T> responseStep) {
+    return new ReadFromCacheStep(namespace, name, domainUid, readStep, responseStep, UnaryOperator.identity());
+  }
+
+  private class ReadFromCacheStep extends Step {
+    private final String namespace;
+    private final String name;
+    private final String domainUid;
+    private final Step readStep;
+    private final UnaryOperator<T> copier;
+
+    ReadFromCacheStep(String namespace, String name, String domainUid, Step readStep, ResponseStep<T> responseStep,
+                      UnaryOperator<T> copier) {
+      super(responseStep);
+      this.namespace = namespace;
+      this.name = name;
+      this.domainUid = domainUid;
+      this.readStep = readStep;
+      this.copier = copier;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return read(namespace, name, copier)
+            .map(resource -> doNext(addResponse(packet, resource)))
+            .orElseGet(() -> doNext(readStep, packet));
+    }
+
+    private Packet addResponse(Packet packet, T resource) {
+      RequestParams requestParams = new RequestParams("read" + kind, namespace, name, null, domainUid);
+      packet.getComponents().put(AsyncRequestStep.RESPONSE_COMPONENT_NAME,
+            Component.createFor(CallResponse.createSuccess(requestParams, resource, HTTP_OK)));
+      return packet;
+    }
+  }
+}
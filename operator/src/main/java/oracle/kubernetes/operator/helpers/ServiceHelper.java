@@ -13,6 +13,7 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 
+import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.models.V1DeleteOptions;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Service;
@@ -20,6 +21,8 @@ import io.kubernetes.client.openapi.models.V1ServiceList;
 import io.kubernetes.client.openapi.models.V1ServicePort;
 import io.kubernetes.client.openapi.models.V1ServiceSpec;
 import io.kubernetes.client.openapi.models.V1Status;
+import jakarta.json.Json;
+import jakarta.json.JsonPatchBuilder;
 import oracle.kubernetes.operator.DomainStatusUpdater;
 import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.ProcessingConstants;
@@ -52,15 +55,19 @@ import static oracle.kubernetes.operator.helpers.KubernetesUtils.getDomainUidLab
 import static oracle.kubernetes.operator.helpers.OperatorServiceType.EXTERNAL;
 import static oracle.kubernetes.operator.logging.MessageKeys.ADMIN_SERVICE_CREATED;
 import static oracle.kubernetes.operator.logging.MessageKeys.ADMIN_SERVICE_EXISTS;
+import static oracle.kubernetes.operator.logging.MessageKeys.ADMIN_SERVICE_PATCHED;
 import static oracle.kubernetes.operator.logging.MessageKeys.ADMIN_SERVICE_REPLACED;
 import static oracle.kubernetes.operator.logging.MessageKeys.CLUSTER_SERVICE_CREATED;
 import static oracle.kubernetes.operator.logging.MessageKeys.CLUSTER_SERVICE_EXISTS;
+import static oracle.kubernetes.operator.logging.MessageKeys.CLUSTER_SERVICE_PATCHED;
 import static oracle.kubernetes.operator.logging.MessageKeys.CLUSTER_SERVICE_REPLACED;
 import static oracle.kubernetes.operator.logging.MessageKeys.EXTERNAL_CHANNEL_SERVICE_CREATED;
 import static oracle.kubernetes.operator.logging.MessageKeys.EXTERNAL_CHANNEL_SERVICE_EXISTS;
+import static oracle.kubernetes.operator.logging.MessageKeys.EXTERNAL_CHANNEL_SERVICE_PATCHED;
 import static oracle.kubernetes.operator.logging.MessageKeys.EXTERNAL_CHANNEL_SERVICE_REPLACED;
 import static oracle.kubernetes.operator.logging.MessageKeys.MANAGED_SERVICE_CREATED;
 import static oracle.kubernetes.operator.logging.MessageKeys.MANAGED_SERVICE_EXISTS;
+import static oracle.kubernetes.operator.logging.MessageKeys.MANAGED_SERVICE_PATCHED;
 import static oracle.kubernetes.operator.logging.MessageKeys.MANAGED_SERVICE_REPLACED;
 
 public class ServiceHelper {
@@ -169,6 +176,12 @@ public class ServiceHelper {
     return AnnotationHelper.getHash(model).equals(AnnotationHelper.getHash(current));
   }
 
+  // Services created before the spec hash was recorded have no spec hash, and so must be replaced.
+  private static boolean canPatchCurrentService(V1Service model, V1Service current) {
+    String currentSpecHash = AnnotationHelper.getSpecHash(current);
+    return !currentSpecHash.isEmpty() && currentSpecHash.equals(AnnotationHelper.getSpecHash(model));
+  }
+
   /**
    * Create asynchronous step for external, NodePort service.
    *
@@ -310,6 +323,11 @@ public class ServiceHelper {
       return isForAdminServer() ? ADMIN_SERVICE_REPLACED : MANAGED_SERVICE_REPLACED;
     }
 
+    @Override
+    protected String getServicePatchedMessageKey() {
+      return isForAdminServer() ? ADMIN_SERVICE_PATCHED : MANAGED_SERVICE_PATCHED;
+    }
+
     private boolean isForAdminServer() {
       return getServerName().equals(domainTopology.getAdminServerName());
     }
@@ -390,6 +408,8 @@ public class ServiceHelper {
 
     V1Service withNonHashedElements(V1Service service) {
       V1ObjectMeta metadata = service.getMetadata();
+      metadata.putAnnotationsItem(AnnotationHelper.SPEC_SHA256_ANNOTATION,
+            AnnotationHelper.createHash(service.getSpec()));
       updateForOwnerReference(metadata);
       return service;
     }
@@ -554,9 +574,14 @@ public class ServiceHelper {
       V1Service service = getServiceFromRecord();
       if (service == null) {
         return createNewService(next);
-      } else if (canUseCurrentService(createModel(), service)) {
+      }
+
+      V1Service model = createModel();
+      if (canUseCurrentService(model, service)) {
         logServiceExists();
         return next;
+      } else if (canPatchCurrentService(model, service)) {
+        return patchCurrentService(model, service, next);
       } else {
         removeServiceFromRecord();
         return deleteAndReplaceService(next);
@@ -597,6 +622,34 @@ public class ServiceHelper {
                     });
     }
 
+    // Only the metadata differs, so bring the labels and annotations, including the hash, up to date in place.
+    // Entries no longer in the model are removed, just as they would be had the service been replaced.
+    private Step patchCurrentService(V1Service model, V1Service current, Step next) {
+      JsonPatchBuilder patchBuilder = Json.createPatchBuilder();
+      KubernetesUtils.addRemovalPatches(
+          patchBuilder, "/metadata/labels/", getLabels(current), getLabels(model));
+      KubernetesUtils.addPatches(
+          patchBuilder, "/metadata/labels/", getLabels(current), getLabels(model));
+      KubernetesUtils.addRemovalPatches(
+          patchBuilder, "/metadata/annotations/", getAnnotations(current), getAnnotations(model));
+      KubernetesUtils.addPatches(
+          patchBuilder, "/metadata/annotations/", getAnnotations(current), getAnnotations(model));
+      return new CallBuilder()
+          .patchServiceAsync(createServiceName(), getNamespace(), getDomainUid(),
+              new V1Patch(patchBuilder.build().toString()), new PatchResponse(next));
+    }
+
+    private Map<String, String> getLabels(V1Service service) {
+      return Optional.ofNullable(service.getMetadata()).map(V1ObjectMeta::getLabels).orElse(Collections.emptyMap());
+    }
+
+    private Map<String, String> getAnnotations(V1Service service) {
+      return Optional.ofNullable(service.getMetadata()).map(V1ObjectMeta::getAnnotations)
+          .orElse(Collections.emptyMap());
+    }
+
+    protected abstract String getServicePatchedMessageKey();
+
     private Step createReplacementService(Step next) {
       return createService(getServiceReplaceMessageKey(), next);
     }
@@ -705,6 +758,24 @@ public class ServiceHelper {
         return doNext(packet);
       }
     }
+
+    private class PatchResponse extends ResponseStep<V1Service> {
+      PatchResponse(Step next) {
+        super(next);
+      }
+
+      @Override
+      public NextAction onFailure(Packet packet, CallResponse<V1Service> callResponse) {
+        return onFailure(getConflictStep(), packet, callResponse);
+      }
+
+      @Override
+      public NextAction onSuccess(Packet packet, CallResponse<V1Service> callResponse) {
+        logServiceCreated(getServicePatchedMessageKey());
+        addServiceToRecord(callResponse.getResult());
+        return doNext(packet);
+      }
+    }
   }
 
   private static class DeleteServiceStep extends Step {
@@ -837,6 +908,11 @@ public class ServiceHelper {
       return CLUSTER_SERVICE_REPLACED;
     }
 
+    @Override
+    protected String getServicePatchedMessageKey() {
+      return CLUSTER_SERVICE_PATCHED;
+    }
+
     ClusterSpec getClusterSpec() {
       return getDomain().getCluster(clusterName);
     }
@@ -923,6 +999,11 @@ public class ServiceHelper {
       return EXTERNAL_CHANNEL_SERVICE_REPLACED;
     }
 
+    @Override
+    protected String getServicePatchedMessageKey() {
+      return EXTERNAL_CHANNEL_SERVICE_PATCHED;
+    }
+
     @Override
     Map<String, String> getServiceLabels() {
       return getNullableAdminService().map(AdminService::getLabels).orElse(Collections.emptyMap());
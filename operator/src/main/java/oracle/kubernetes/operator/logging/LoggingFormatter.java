@@ -3,20 +3,20 @@
 
 package oracle.kubernetes.operator.logging;
 
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Formatter;
 import java.util.logging.LogRecord;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.JSON;
@@ -48,6 +48,22 @@ public class LoggingFormatter extends Formatter {
 
   private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
 
+  // thread-safe once configured; its factory creates the generators for all records
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  // the buffer into which each thread formats its records; replaced if a large record has grown it too far
+  private static final int MAX_RETAINED_BUFFER_SIZE = 16 * 1024;
+  private static final ThreadLocal<StringWriter> BUFFER = ThreadLocal.withInitial(StringWriter::new);
+
+  // the toString() format for the model classes is inappropriate for our logs
+  private static final ClassValue<Boolean> IS_MODEL_CLASS = new ClassValue<>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      return type.getAnnotation(ApiModel.class) != null
+          || type.getName().startsWith("oracle.kubernetes.weblogic.domain.");
+    }
+  };
+
   @Override
   public String format(LogRecord record) {
     String sourceClassName = "";
@@ -61,24 +77,9 @@ public class LoggingFormatter extends Formatter {
       sourceClassName = record.getLoggerName();
     }
 
-    // the toString() format for the model classes is inappropriate for our logs
-    // so, replace with the JSON serialization
-    JSON j = LoggingFactory.getJson();
-    if (j != null) {
-      Object[] parameters = record.getParameters();
-      if (parameters != null) {
-        for (int i = 0; i < parameters.length; i++) {
-          Object pi = parameters[i];
-          if (pi != null) {
-            if (pi.getClass().getAnnotation(ApiModel.class) != null
-                || pi.getClass().getName().startsWith("oracle.kubernetes.weblogic.domain.")) {
-              // this is a model object
-              parameters[i] = j.serialize(pi);
-            }
-          }
-        }
-      }
-    }
+    // a record is only formatted once it has passed the level checks,
+    // so model objects are serialized only for messages which will be logged
+    serializeModelParameters(record);
 
     final String message = formatMessage(record);
     String code = "";
@@ -105,34 +106,33 @@ public class LoggingFormatter extends Formatter {
       }
     }
     String level = record.getLevel().getLocalizedName();
-    Map<String, Object> map = new LinkedHashMap<>();
     long rawTime = record.getMillis();
     final String dateString = DATE_FORMAT.format(OffsetDateTime.ofInstant(record.getInstant(), ZoneId.systemDefault()));
     long thread = Thread.currentThread().getId();
     Fiber fiber = Fiber.getCurrentIfSet();
-
-    map.put(TIMESTAMP, dateString);
-    map.put(THREAD, thread);
-    map.put(FIBER, fiber != null ? fiber.toString() : "");
-    map.put(DOMAIN_NAMESPACE, getNamespace(fiber));
-    map.put(DOMAIN_UID, getDomainUid(fiber));
-    map.put(LOG_LEVEL, level);
-    map.put(SOURCE_CLASS, sourceClassName);
-    map.put(SOURCE_METHOD, sourceMethodName);
-    map.put(TIME_IN_MILLIS, rawTime);
-    // if message or throwable have new lines in them, we need to replace with JSON newline control
-    // character \n
-    map.put(MESSAGE, message != null ? message.replaceAll("\n", "\\\n") : "");
-    map.put(EXCEPTION, throwable.replaceAll("\n", "\\\n"));
-    map.put(RESPONSE_CODE, code);
-    map.put(RESPONSE_HEADERS, headers);
-    map.put(RESPONSE_BODY, body.replaceAll("\n", "\\\n"));
-    String json = "";
-    try {
-      ObjectMapper mapper = new ObjectMapper();
-      json = mapper.writeValueAsString(map);
-
-    } catch (JsonProcessingException e) {
+    final String namespace = getNamespace(fiber);
+    final String domainUid = getDomainUid(fiber);
+
+    StringWriter buffer = getBuffer();
+    try (JsonGenerator generator = MAPPER.getFactory().createGenerator(buffer)) {
+      generator.writeStartObject();
+      generator.writeStringField(TIMESTAMP, dateString);
+      generator.writeNumberField(THREAD, thread);
+      generator.writeStringField(FIBER, fiber != null ? fiber.toString() : "");
+      generator.writeStringField(DOMAIN_NAMESPACE, namespace);
+      generator.writeStringField(DOMAIN_UID, domainUid);
+      generator.writeStringField(LOG_LEVEL, level);
+      generator.writeStringField(SOURCE_CLASS, sourceClassName);
+      generator.writeStringField(SOURCE_METHOD, sourceMethodName);
+      generator.writeNumberField(TIME_IN_MILLIS, rawTime);
+      // new lines in the message, throwable and body are written as the JSON newline escape \n
+      generator.writeStringField(MESSAGE, message != null ? message : "");
+      generator.writeStringField(EXCEPTION, throwable);
+      generator.writeStringField(RESPONSE_CODE, code);
+      generator.writeObjectField(RESPONSE_HEADERS, headers);
+      generator.writeStringField(RESPONSE_BODY, body);
+      generator.writeEndObject();
+    } catch (IOException e) {
       String tmp =
           "{\"@timestamp\":%1$s,\"level\":%2$s, \"class\":%3$s, \"method\":\"format\", \"timeInMillis\":%4$d, "
               + "\"@message\":\"Exception while preparing json object\",\"exception\":%5$s}\n";
@@ -144,7 +144,36 @@ public class LoggingFormatter extends Formatter {
           rawTime,
           e.getLocalizedMessage());
     }
-    return json + "\n";
+    return buffer.append('\n').toString();
+  }
+
+  // replace model objects with their JSON serialization
+  private void serializeModelParameters(LogRecord record) {
+    Object[] parameters = record.getParameters();
+    if (parameters == null) {
+      return;
+    }
+
+    for (int i = 0; i < parameters.length; i++) {
+      Object pi = parameters[i];
+      if (pi != null && IS_MODEL_CLASS.get(pi.getClass())) {
+        JSON j = LoggingFactory.getJson();
+        if (j == null) {
+          return;
+        }
+        parameters[i] = j.serialize(pi);
+      }
+    }
+  }
+
+  private StringWriter getBuffer() {
+    StringWriter buffer = BUFFER.get();
+    if (buffer.getBuffer().capacity() > MAX_RETAINED_BUFFER_SIZE) {
+      buffer = new StringWriter();
+      BUFFER.set(buffer);
+    }
+    buffer.getBuffer().setLength(0);
+    return buffer;
   }
 
   /**
@@ -147,6 +147,15 @@ public class MessageKeys {
   public static final String INTROSPECTOR_MAX_ERRORS_EXCEEDED = "WLSKO-0196";
   public static final String NON_FATAL_INTROSPECTOR_ERROR = "WLSKO-0197";
   public static final String DUMP_BREADCRUMBS = "WLSKO-0198";
+  public static final String VIRTUAL_THREADS_UNAVAILABLE = "WLSKO-0199";
+  public static final String EVENT_MERGED = "WLSKO-0200";
+  public static final String EVENT_SHED = "WLSKO-0201";
+  public static final String ADMIN_SERVICE_PATCHED = "WLSKO-0202";
+  public static final String MANAGED_SERVICE_PATCHED = "WLSKO-0203";
+  public static final String CLUSTER_SERVICE_PATCHED = "WLSKO-0204";
+  public static final String EXTERNAL_CHANNEL_SERVICE_PATCHED = "WLSKO-0205";
+  public static final String CLIENT_WAIT_TIMEOUT = "WLSKO-0206";
+  public static final String STATUS_UPDATE_TIMED_OUT = "WLSKO-0207";
 
   // domain status messages
   public static final String DUPLICATE_SERVER_NAME_FOUND = "WLSDO-0001";
@@ -0,0 +1,27 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.metrics;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * A metric whose values are obtained from the operator state each time the metrics are reported.
+ */
+class ComputedMetric extends Metric {
+  private final Supplier<Map<List<String>, ? extends Number>> values;
+
+  ComputedMetric(String name, String help, String type, Supplier<Map<List<String>, ? extends Number>> values,
+                 String... labelNames) {
+    super(name, help, type, labelNames);
+    this.values = values;
+  }
+
+  @Override
+  void writeSamples(StringBuilder builder) {
+    values.get().forEach(
+          (labelValues, value) -> writeSample(builder, "", labelValues, null, null, value.doubleValue()));
+  }
+}
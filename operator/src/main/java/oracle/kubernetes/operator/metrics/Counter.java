@@ -0,0 +1,35 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.metrics;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A metric whose values only increase.
+ */
+public class Counter extends Metric {
+  private final Map<List<String>, LongAdder> values = new ConcurrentHashMap<>();
+
+  Counter(String name, String help, String... labelNames) {
+    super(name, help, "counter", labelNames);
+  }
+
+  /**
+   * Returns the counter for the specified label values. Callers which update a counter frequently
+   * may keep the returned value.
+   * @param labelValues the values of the labels, in the order in which the labels were defined
+   * @return the counter
+   */
+  public LongAdder labels(String... labelValues) {
+    return values.computeIfAbsent(toLabelValues(labelValues), k -> new LongAdder());
+  }
+
+  @Override
+  void writeSamples(StringBuilder builder) {
+    values.forEach((labelValues, value) -> writeSample(builder, "", labelValues, null, null, value.sum()));
+  }
+}
@@ -0,0 +1,103 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.metrics;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A metric which counts observed durations in buckets, reported in seconds.
+ */
+public class Histogram extends Metric {
+  private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  private final double[] upperBounds;
+  private final Map<List<String>, Child> children = new ConcurrentHashMap<>();
+
+  Histogram(String name, String help, double[] upperBounds, String... labelNames) {
+    super(name, help, "histogram", labelNames);
+    this.upperBounds = upperBounds.clone();
+  }
+
+  /**
+   * Returns the histogram for the specified label values. Callers which record durations frequently
+   * may keep the returned value.
+   * @param labelValues the values of the labels, in the order in which the labels were defined
+   * @return the histogram
+   */
+  public Child labels(String... labelValues) {
+    return children.computeIfAbsent(toLabelValues(labelValues), k -> new Child());
+  }
+
+  /**
+   * Discards the histogram for the specified label values, so that it is no longer reported.
+   * @param labelValues the values of the labels, in the order in which the labels were defined
+   */
+  public void remove(String... labelValues) {
+    children.remove(toLabelValues(labelValues));
+  }
+
+  /**
+   * Discards the histograms whose value for the specified label is the one specified.
+   * @param labelName the name of a label of this histogram
+   * @param labelValue the value of the label to match
+   */
+  public void removeAll(String labelName, String labelValue) {
+    int index = getLabelIndex(labelName);
+    children.keySet().removeIf(labelValues -> labelValues.get(index).equals(labelValue));
+  }
+
+  @Override
+  void writeSamples(StringBuilder builder) {
+    children.forEach((labelValues, child) -> child.writeTo(builder, labelValues));
+  }
+
+  public class Child {
+    private final LongAdder[] bucketCounts = new LongAdder[upperBounds.length];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+
+    Child() {
+      for (int i = 0; i < bucketCounts.length; i++) {
+        bucketCounts[i] = new LongAdder();
+      }
+    }
+
+    /**
+     * Records a duration.
+     * @param nanos the duration in nanoseconds
+     */
+    public void observeNanos(long nanos) {
+      double seconds = nanos / NANOS_PER_SECOND;
+      for (int i = 0; i < upperBounds.length; i++) {
+        if (seconds <= upperBounds[i]) {
+          bucketCounts[i].increment();
+          break;
+        }
+      }
+      count.increment();
+      totalNanos.add(nanos);
+    }
+
+    public long getCount() {
+      return count.sum();
+    }
+
+    // Prometheus buckets are cumulative; the counts are recorded only in the smallest matching bucket.
+    void writeTo(StringBuilder builder, List<String> labelValues) {
+      long cumulative = 0;
+      for (int i = 0; i < upperBounds.length; i++) {
+        cumulative += bucketCounts[i].sum();
+        writeSample(builder, "_bucket", labelValues, "le", formatValue(upperBounds[i]), cumulative);
+      }
+      long total = count.sum();
+      writeSample(builder, "_bucket", labelValues, "le", "+Inf", total);
+      writeSample(builder, "_sum", labelValues, null, null, totalNanos.sum() / NANOS_PER_SECOND);
+      writeSample(builder, "_count", labelValues, null, null, total);
+    }
+  }
+}
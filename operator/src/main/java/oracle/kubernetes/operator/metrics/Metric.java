@@ -0,0 +1,109 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.metrics;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A named family of metric values, distinguished by the values of its labels.
+ */
+public abstract class Metric {
+  private final String name;
+  private final String help;
+  private final String type;
+  private final List<String> labelNames;
+
+  Metric(String name, String help, String type, String... labelNames) {
+    this.name = name;
+    this.help = help;
+    this.type = type;
+    this.labelNames = Arrays.asList(labelNames);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  List<String> toLabelValues(String... labelValues) {
+    if (labelValues.length != labelNames.size()) {
+      throw new IllegalArgumentException(
+            "Metric " + name + " requires values for labels " + labelNames + ", got " + Arrays.toString(labelValues));
+    }
+    return Arrays.asList(labelValues);
+  }
+
+  int getLabelIndex(String labelName) {
+    int index = labelNames.indexOf(labelName);
+    if (index < 0) {
+      throw new IllegalArgumentException("Metric " + name + " has no label " + labelName);
+    }
+    return index;
+  }
+
+  /**
+   * Appends the current values of this metric to the specified builder, in the Prometheus text format.
+   * @param builder the builder to which the values should be appended
+   */
+  void writeTo(StringBuilder builder) {
+    builder.append("# HELP ").append(name).append(' ').append(help).append('\n');
+    builder.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    writeSamples(builder);
+  }
+
+  abstract void writeSamples(StringBuilder builder);
+
+  void writeSample(StringBuilder builder, String suffix, List<String> labelValues, String extraLabel,
+                   String extraValue, double value) {
+    builder.append(name).append(suffix);
+    if (!labelValues.isEmpty() || extraLabel != null) {
+      builder.append('{');
+      for (int i = 0; i < labelValues.size(); i++) {
+        appendLabel(builder, i > 0, labelNames.get(i), labelValues.get(i));
+      }
+      if (extraLabel != null) {
+        appendLabel(builder, !labelValues.isEmpty(), extraLabel, extraValue);
+      }
+      builder.append('}');
+    }
+    builder.append(' ').append(formatValue(value)).append('\n');
+  }
+
+  private void appendLabel(StringBuilder builder, boolean needsSeparator, String labelName, String labelValue) {
+    if (needsSeparator) {
+      builder.append(',');
+    }
+    builder.append(labelName).append("=\"");
+    escape(builder, labelValue);
+    builder.append('"');
+  }
+
+  private void escape(StringBuilder builder, String value) {
+    for (char c : String.valueOf(value).toCharArray()) {
+      switch (c) {
+        case '\\':
+          builder.append("\\\\");
+          break;
+        case '"':
+          builder.append("\\\"");
+          break;
+        case '\n':
+          builder.append("\\n");
+          break;
+        default:
+          builder.append(c);
+      }
+    }
+  }
+
+  static String formatValue(double value) {
+    if (value == Double.POSITIVE_INFINITY) {
+      return "+Inf";
+    } else if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+      return Long.toString((long) value);
+    } else {
+      return Double.toString(value);
+    }
+  }
+}
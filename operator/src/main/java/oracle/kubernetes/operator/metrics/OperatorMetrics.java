@@ -0,0 +1,101 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.metrics;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * The metrics reported by the operator. Metrics which are computed from the state of other classes are
+ * registered by those classes.
+ */
+public class OperatorMetrics {
+
+  private static final String PREFIX = "weblogic_operator_";
+
+  /** Upper bounds, in seconds, for the durations of individual steps and Kubernetes calls. */
+  private static final double[] SHORT_BUCKETS = {.001, .005, .01, .025, .05, .1, .25, .5, 1, 2.5, 5, 10};
+
+  /** Upper bounds, in seconds, for the durations of make-right operations. */
+  private static final double[] LONG_BUCKETS = {.1, .5, 1, 5, 10, 30, 60, 120, 300, 600, 1200, 1800};
+
+  private static final Map<String, Metric> METRICS = new ConcurrentHashMap<>();
+
+  public static final Histogram STEP_DURATION = register(new Histogram(PREFIX + "step_duration_seconds",
+        "Time spent running a single step, by step class.", SHORT_BUCKETS, "step"));
+
+  public static final Histogram API_CALL_DURATION = register(new Histogram(PREFIX + "api_call_duration_seconds",
+        "Time from sending a Kubernetes request to receiving its response, by operation and HTTP status code.",
+        SHORT_BUCKETS, "operation", "code"));
+
+  public static final Histogram API_REQUEST_QUEUE_WAIT = register(new Histogram(
+        PREFIX + "api_request_queue_wait_seconds",
+        "Time that Kubernetes requests waited for the client-side rate limit, by priority.",
+        SHORT_BUCKETS, "priority"));
+
+  public static final Counter WATCH_EVENTS = register(new Counter(PREFIX + "watch_events_total",
+        "Number of watch events received, by watcher and event type.", "watcher", "type"));
+
+  public static final Histogram WATCH_DISPATCH_LAG = register(new Histogram(PREFIX + "watch_dispatch_lag_seconds",
+        "Time from queuing a watch event to passing it to the operator, by resource kind.", SHORT_BUCKETS, "kind"));
+
+  public static final Counter WATCH_EVENTS_COALESCED = register(new Counter(PREFIX + "watch_events_coalesced_total",
+        "Number of queued watch events replaced by a later event for the same resource, by resource kind.", "kind"));
+
+  public static final Counter EVENTS_MERGED = register(new Counter(PREFIX + "events_merged_total",
+        "Number of Kubernetes events merged into the count of an identical event, by reason.", "reason"));
+
+  public static final Counter EVENTS_SHED = register(new Counter(PREFIX + "events_shed_total",
+        "Number of Kubernetes events not written because too many events were waiting, by reason.", "reason"));
+
+  public static final Histogram MAKE_RIGHT_DURATION = register(new Histogram(PREFIX + "make_right_duration_seconds",
+        "Time spent running a make-right plan to completion, by domain.", LONG_BUCKETS, "namespace", "domain"));
+
+  private OperatorMetrics() {
+  }
+
+  private static <M extends Metric> M register(M metric) {
+    METRICS.put(metric.getName(), metric);
+    return metric;
+  }
+
+  /**
+   * Registers a gauge whose values are computed from the operator state when metrics are reported.
+   * Registering a metric with the name of an existing one replaces it.
+   * @param name the name of the gauge, without the operator prefix
+   * @param help a description of the gauge
+   * @param values a supplier of the gauge values, keyed by the values of its labels
+   * @param labelNames the names of the labels
+   */
+  public static void registerGauge(String name, String help,
+                                   Supplier<Map<List<String>, ? extends Number>> values, String... labelNames) {
+    register(new ComputedMetric(PREFIX + name, help, "gauge", values, labelNames));
+  }
+
+  /**
+   * Registers a counter whose values are maintained elsewhere in the operator and read when metrics are reported.
+   * Registering a metric with the name of an existing one replaces it.
+   * @param name the name of the counter, without the operator prefix
+   * @param help a description of the counter
+   * @param values a supplier of the counter values, keyed by the values of its labels
+   * @param labelNames the names of the labels
+   */
+  public static void registerCounter(String name, String help,
+                                     Supplier<Map<List<String>, ? extends Number>> values, String... labelNames) {
+    register(new ComputedMetric(PREFIX + name, help, "counter", values, labelNames));
+  }
+
+  /**
+   * Returns the current values of all metrics, in the Prometheus text format.
+   * @return the formatted metrics
+   */
+  public static String scrape() {
+    StringBuilder builder = new StringBuilder();
+    METRICS.values().stream().sorted((m1, m2) -> m1.getName().compareTo(m2.getName()))
+          .forEach(m -> m.writeTo(builder));
+    return builder.toString();
+  }
+}
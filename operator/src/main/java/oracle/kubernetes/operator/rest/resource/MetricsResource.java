@@ -0,0 +1,42 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest.resource;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
+
+/**
+ * MetricsResource is a jaxrs resource that implements the REST api for the /metrics path. It reports
+ * the operator metrics in the Prometheus text format.
+ */
+@Path("metrics")
+public class MetricsResource {
+
+  public static final String PROMETHEUS_TEXT_FORMAT = "text/plain; version=0.0.4; charset=utf-8";
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  /** Construct a MetricsResource. */
+  public MetricsResource() {
+    // nothing to do
+  }
+
+  /**
+   * Get the current values of the operator metrics.
+   *
+   * @return the metrics, in the Prometheus text format.
+   */
+  @GET
+  @Produces(PROMETHEUS_TEXT_FORMAT)
+  public String get() {
+    LOGGER.entering();
+    String result = OperatorMetrics.scrape();
+    LOGGER.exiting();
+    return result;
+  }
+}
@@ -0,0 +1,215 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.steps;
+
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import javax.annotation.Nonnull;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1Service;
+import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.PodHelper;
+import oracle.kubernetes.operator.helpers.SecretHelper;
+import oracle.kubernetes.operator.http.HttpResponseStep;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.rest.Scan;
+import oracle.kubernetes.operator.rest.ScanCache;
+import oracle.kubernetes.operator.wlsconfig.PortDetails;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+
+import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
+import static oracle.kubernetes.operator.steps.HttpRequestProcessing.createRequestStep;
+import static oracle.kubernetes.utils.OperatorUtils.emptyToNull;
+
+/**
+ * Reads the states of all servers in a domain with a single REST request to the running admin server,
+ * recording them in the packet's server state map. Servers whose state cannot be determined this way are left
+ * out of the map, so that the caller can fall back to reading them from their pods.
+ */
+public class ReadServerStatesStep extends Step {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+
+  private final long timeoutSeconds;
+
+  private ReadServerStatesStep(long timeoutSeconds, Step next) {
+    super(next);
+    this.timeoutSeconds = timeoutSeconds;
+  }
+
+  /**
+   * Creates asynchronous {@link Step} to read the states of all servers in the domain from the admin server.
+   *
+   * @param timeoutSeconds the maximum time to wait for a response
+   * @param next Next processing step
+   * @return asynchronous step
+   */
+  public static Step createReadServerStatesStep(long timeoutSeconds, Step next) {
+    return new ReadServerStatesStep(timeoutSeconds, next);
+  }
+
+  private static String getRetrieveStatesSearchPath() {
+    return "/management/weblogic/latest/domainRuntime/search";
+  }
+
+  private static String getRetrieveStatesSearchPayload() {
+    return "{ links: [], fields: [], "
+          + "children: { serverLifeCycleRuntimes: { links: [], fields: [ 'name', 'state' ] } } }";
+  }
+
+  @Override
+  public NextAction apply(Packet packet) {
+    DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+    String adminServerName = info.getAdminServerName();
+    V1Service service = Optional.ofNullable(adminServerName).map(info::getServerService).orElse(null);
+    V1Pod pod = Optional.ofNullable(adminServerName).map(info::getServerPod).orElse(null);
+
+    if (service == null || pod == null || !PodHelper.getReadyStatus(pod) || getWlsDomainConfig(packet) == null) {
+      return doNext(packet);
+    } else {
+      return doNext(
+            Step.chain(
+                SecretHelper.createAuthorizationSourceStep(),
+                new ReadServerStatesWithHttpStep(service, pod, timeoutSeconds, getNext())),
+            packet);
+    }
+  }
+
+  private static WlsDomainConfig getWlsDomainConfig(Packet packet) {
+    return Optional.ofNullable((WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY))
+          .orElseGet(() -> getScannedDomainConfig(packet.getSpi(DomainPresenceInfo.class)));
+  }
+
+  private static WlsDomainConfig getScannedDomainConfig(DomainPresenceInfo info) {
+    return Optional.ofNullable(ScanCache.INSTANCE.lookupScan(info.getNamespace(), info.getDomainUid()))
+          .map(Scan::getWlsDomainConfig)
+          .orElse(null);
+  }
+
+  static final class ReadServerStatesProcessing extends HttpRequestProcessing {
+
+    ReadServerStatesProcessing(Packet packet, @Nonnull V1Service service, V1Pod pod) {
+      super(packet, service, pod);
+    }
+
+    private HttpRequest createRequest() {
+      LOGGER.finer("Create REST request to service URL: " + getRequestUrl());
+      return createRequestBuilder(getRequestUrl())
+            .POST(HttpRequest.BodyPublishers.ofString(getRetrieveStatesSearchPayload()))
+            .build();
+    }
+
+    private String getRequestUrl() {
+      return getServiceUrl() + getRetrieveStatesSearchPath();
+    }
+
+    @Override
+    PortDetails getPortDetails() {
+      WlsServerConfig adminServerConfig = getAdminServerConfig();
+      Integer port = adminServerConfig.getLocalAdminProtocolChannelPort();
+      return new PortDetails(port, !port.equals(adminServerConfig.getListenPort()));
+    }
+
+    private WlsServerConfig getAdminServerConfig() {
+      WlsDomainConfig domainConfig = getWlsDomainConfig(getPacket());
+      return domainConfig.getServerConfig(domainConfig.getAdminServerName());
+    }
+  }
+
+  /**
+   * Step to send a query to the admin server to obtain the states of all servers in the domain.
+   */
+  static final class ReadServerStatesWithHttpStep extends Step {
+    @Nonnull
+    private final V1Service service;
+    private final V1Pod pod;
+    private final long timeoutSeconds;
+
+    ReadServerStatesWithHttpStep(@Nonnull V1Service service, V1Pod pod, long timeoutSeconds, Step next) {
+      super(next);
+      this.service = service;
+      this.pod = pod;
+      this.timeoutSeconds = timeoutSeconds;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      ReadServerStatesProcessing processing = new ReadServerStatesProcessing(packet, service, pod);
+      return doNext(
+            createRequestStep(processing.createRequest(), new RecordServerStatesStep(getNext()))
+                  .withTimeoutSeconds(timeoutSeconds),
+            packet);
+    }
+  }
+
+  /**
+   * {@link Step} for processing the json result object containing the server states. Only servers which have
+   * pods in the domain are recorded, matching the per-pod reads that this step replaces.
+   * Packet values used:
+   *  SERVER_STATE_MAP                  a map of server names to state
+   *  (spi) HttpResponse.class          the response from the server
+   */
+  static final class RecordServerStatesStep extends HttpResponseStep {
+
+    RecordServerStatesStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, HttpResponse<String> response) {
+      try {
+        DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+        Map<String, String> serverStateMap = getServerStateMap(packet);
+        parseServerStatesJson(response.body()).forEach((serverName, state) -> {
+          if (info.getServerPod(serverName) != null) {
+            info.updateLastKnownServerStatus(serverName, state);
+            serverStateMap.put(serverName, state);
+          }
+        });
+      } catch (IOException e) {
+        LOGGER.fine("Unable to parse server states: " + e.getMessage());
+      }
+      return doNext(packet);
+    }
+
+    @Override
+    public NextAction onFailure(Packet packet, HttpResponse<String> response) {
+      return doNext(packet);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, String> getServerStateMap(Packet packet) {
+      return (Map<String, String>) packet.get(SERVER_STATE_MAP);
+    }
+
+    static Map<String, String> parseServerStatesJson(String jsonResult) throws IOException {
+      Map<String, String> states = new HashMap<>();
+      if (jsonResult != null) {
+        JsonNode items = JSON_MAPPER.readTree(jsonResult).path("serverLifeCycleRuntimes").path("items");
+        for (JsonNode item : items) {
+          String name = emptyToNull(item.path("name").asText());
+          String state = emptyToNull(item.path("state").asText());
+          if (name != null && state != null) {
+            states.put(name, state);
+          }
+        }
+      }
+      return states;
+    }
+  }
+}
@@ -19,4 +19,16 @@ public interface WatchListener<T> {
    * @param response Watch response consisting of type and object
    */
   void receivedResponse(Watch.Response<T> response);
+
+  /**
+   * Call back for any watch type, followed by an action which must not run until the response has been handled,
+   * such as resuming processing which expects to see the effects of the response.
+   *
+   * @param response Watch response consisting of type and object
+   * @param afterResponse the action to run once the response has been handled
+   */
+  default void receivedResponse(Watch.Response<T> response, Runnable afterResponse) {
+    receivedResponse(response);
+    afterResponse.run();
+  }
 }
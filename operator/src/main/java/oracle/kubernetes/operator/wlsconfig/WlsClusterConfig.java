@@ -197,6 +197,11 @@ public class WlsClusterConfig {
     return this.dynamicServersConfig;
   }
 
+  // Returns the current list of generated dynamic servers, which is replaced whenever they are regenerated.
+  List<WlsServerConfig> getDynamicServerConfigs() {
+    return Optional.ofNullable(dynamicServersConfig).map(WlsDynamicServersConfig::getServerConfigs).orElse(null);
+  }
+
   /**
    * Returns the WlsDomainConfig object for the WLS domain that this cluster belongs to.
    *
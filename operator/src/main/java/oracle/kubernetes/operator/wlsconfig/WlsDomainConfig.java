@@ -4,6 +4,7 @@
 package oracle.kubernetes.operator.wlsconfig;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -40,6 +41,10 @@ public class WlsDomainConfig implements WlsDomain {
   // Contains all configured machines in the WLS domain
   private Map<String, WlsMachineConfig> wlsMachineConfigs = new HashMap<>();
 
+  // Lookup tables for the servers and clusters above; rebuilt when those change.
+  // Do not include in toString, hashCode, equals
+  private transient volatile Index index;
+
   public WlsDomainConfig() {
   }
 
@@ -202,11 +207,7 @@ public class WlsDomainConfig implements WlsDomain {
    * @return cluster name
    */
   public String getClusterName(String serverName) {
-    return getConfiguredClusters().stream()
-        .filter(c -> c.hasNamedServer(serverName))
-        .findFirst()
-        .map(WlsClusterConfig::getClusterName)
-        .orElse(null);
+    return getIndex().clusterNamesByServer.get(serverName);
   }
 
   /**
@@ -234,15 +235,11 @@ public class WlsDomainConfig implements WlsDomain {
   /**
    * Returns all cluster configurations found in the WLS domain.
    *
-   * @return A Map of WlsClusterConfig, keyed by name, containing server configurations for all
+   * @return An unmodifiable Map of WlsClusterConfig, keyed by name, containing server configurations for all
    *     clusters found in the WLS domain
    */
-  public synchronized Map<String, WlsClusterConfig> getClusterConfigs() {
-    Map<String, WlsClusterConfig> clusterConfigs = new HashMap<>();
-    for (WlsClusterConfig clusterConfig : configuredClusters) {
-      clusterConfigs.put(clusterConfig.getClusterName(), clusterConfig);
-    }
-    return clusterConfigs;
+  public Map<String, WlsClusterConfig> getClusterConfigs() {
+    return getIndex().clustersByName;
   }
 
   public List<WlsClusterConfig> getConfiguredClusters() {
@@ -253,14 +250,11 @@ public class WlsDomainConfig implements WlsDomain {
    * Returns a map of server names found in the WLS domain to their configurations, including the admin server
    * and standalone managed servers that do not belong to any cluster. It does not include servers in clusters.
    *
-   * @return A Map of WlsServerConfig, keyed by name, for each server statically configured the WLS domain
+   * @return An unmodifiable Map of WlsServerConfig, keyed by name, for each server statically configured the
+   *     WLS domain
    */
-  public synchronized Map<String, WlsServerConfig> getServerConfigs() {
-    Map<String, WlsServerConfig> serverConfigs = new HashMap<>();
-    for (WlsServerConfig serverConfig : servers) {
-      serverConfigs.put(serverConfig.getName(), serverConfig);
-    }
-    return serverConfigs;
+  public Map<String, WlsServerConfig> getServerConfigs() {
+    return getIndex().serversByName;
   }
 
   /**
@@ -295,7 +289,7 @@ public class WlsDomainConfig implements WlsDomain {
    *
    * @return A Map of WlsMachineConfig, keyed by name, for each machine configured the WLS domain
    */
-  public synchronized Map<String, WlsMachineConfig> getMachineConfigs() {
+  public Map<String, WlsMachineConfig> getMachineConfigs() {
     return wlsMachineConfigs;
   }
 
@@ -307,16 +301,8 @@ public class WlsDomainConfig implements WlsDomain {
    *     name. This methods return an empty WlsClusterConfig object even if no WLS configuration is
    *     found for the given cluster name.
    */
-  public synchronized WlsClusterConfig getClusterConfig(String clusterName) {
-    WlsClusterConfig result = null;
-    if (clusterName != null) {
-      for (WlsClusterConfig clusterConfig : configuredClusters) {
-        if (clusterConfig.getClusterName().equals(clusterName)) {
-          result = clusterConfig;
-          break;
-        }
-      }
-    }
+  public WlsClusterConfig getClusterConfig(String clusterName) {
+    WlsClusterConfig result = clusterName == null ? null : getIndex().clustersByName.get(clusterName);
     if (result == null) {
       // create an empty WlsClusterConfig, but do not add to configuredClusters
       result = new WlsClusterConfig(clusterName);
@@ -332,17 +318,8 @@ public class WlsDomainConfig implements WlsDomain {
    * @return The WlsServerConfig object containing configuration of the WLS server with the given
    *     name. This methods return null if no WLS configuration is found for the given server name.
    */
-  public synchronized WlsServerConfig getServerConfig(String serverName) {
-    WlsServerConfig result = null;
-    if (serverName != null && servers != null) {
-      for (WlsServerConfig serverConfig : servers) {
-        if (serverConfig.getName().equals(serverName)) {
-          result = serverConfig;
-          break;
-        }
-      }
-    }
-    return result;
+  public WlsServerConfig getServerConfig(String serverName) {
+    return serverName == null ? null : getIndex().serversByName.get(serverName);
   }
 
   /**
@@ -351,16 +328,8 @@ public class WlsDomainConfig implements WlsDomain {
    * @param clusterName cluster name to be checked
    * @return True if the WebLogic domain contains a cluster with the given cluster name
    */
-  public synchronized boolean containsCluster(String clusterName) {
-    if (clusterName != null) {
-      for (WlsClusterConfig clusterConfig : configuredClusters) {
-        if (clusterConfig.getClusterName().equals(clusterName)) {
-          return true;
-        }
-      }
-    }
-
-    return false;
+  public boolean containsCluster(String clusterName) {
+    return clusterName != null && getIndex().clustersByName.containsKey(clusterName);
   }
 
   /**
@@ -370,10 +339,10 @@ public class WlsDomainConfig implements WlsDomain {
    * @param serverName server name to be checked
    * @return True if the WebLogic domain contains a server with the given server name
    */
-  public synchronized boolean containsServer(String serverName) {
+  public boolean containsServer(String serverName) {
     if (!isNullOrEmpty(serverName)) {
-      return getServers().stream().anyMatch(s -> serverName.equals(s.getName()))
-          || getConfiguredClusters().stream().anyMatch(c -> c.containsServer(serverName));
+      final Index current = getIndex();
+      return current.serversByName.containsKey(serverName) || current.clusterNamesByServer.containsKey(serverName);
     }
     return false;
   }
@@ -385,7 +354,7 @@ public class WlsDomainConfig implements WlsDomain {
    * @return The WlsMachineConfig object containing configuration of the WLS machine with the given
    *     name. This methods return null if no WLS machine is configured with the given name.
    */
-  public synchronized WlsMachineConfig getMachineConfig(String machineName) {
+  public WlsMachineConfig getMachineConfig(String machineName) {
     WlsMachineConfig result = null;
     if (machineName != null && wlsMachineConfigs != null) {
       result = wlsMachineConfigs.get(machineName);
@@ -400,11 +369,8 @@ public class WlsDomainConfig implements WlsDomain {
 
   @Override
   public int getReplicaLimit(String clusterName) {
-    if (!getClusterConfigs().containsKey(clusterName)) {
-      return 0;
-    }
-
-    return getClusterConfigs().get(clusterName).getMaxClusterSize();
+    final WlsClusterConfig clusterConfig = getClusterConfigs().get(clusterName);
+    return clusterConfig == null ? 0 : clusterConfig.getMaxClusterSize();
   }
 
   /**
@@ -568,6 +534,82 @@ public class WlsDomainConfig implements WlsDomain {
     return null;
   }
 
+  // Returns the lookup tables for the current servers and clusters. The configuration is built up incrementally,
+  // by the parser and by the builder methods, and its dynamic servers are regenerated when the topology is read,
+  // so the tables are replaced whenever one of the lists from which they were built has changed.
+  private Index getIndex() {
+    Index current = index;
+    if (current == null || !current.isCurrentFor(this)) {
+      index = current = new Index(this);
+    }
+    return current;
+  }
+
+  /**
+   * An immutable snapshot of the servers and clusters of a domain, indexed by name.
+   */
+  private static class Index {
+    private final List<WlsServerConfig> servers;
+    private final int numServers;
+    private final List<WlsClusterConfig> clusters;
+    private final int numClusters;
+    private final int[] numClusterServers;
+    private final List<?>[] dynamicServerLists;
+
+    private final Map<String, WlsServerConfig> serversByName;
+    private final Map<String, WlsClusterConfig> clustersByName;
+    private final Map<String, String> clusterNamesByServer;
+
+    Index(WlsDomainConfig config) {
+      servers = config.servers;
+      numServers = sizeOf(servers);
+      clusters = config.configuredClusters;
+      numClusters = sizeOf(clusters);
+      numClusterServers = new int[numClusters];
+      dynamicServerLists = new List<?>[numClusters];
+
+      Map<String, WlsServerConfig> serverMap = new HashMap<>();
+      for (int i = 0; i < numServers; i++) {
+        serverMap.putIfAbsent(servers.get(i).getName(), servers.get(i));
+      }
+
+      Map<String, WlsClusterConfig> clusterMap = new HashMap<>();
+      Map<String, String> clusterNameMap = new HashMap<>();
+      for (int i = 0; i < numClusters; i++) {
+        final WlsClusterConfig cluster = clusters.get(i);
+        numClusterServers[i] = cluster.getServers().size();
+        dynamicServerLists[i] = cluster.getDynamicServerConfigs();
+        clusterMap.putIfAbsent(cluster.getClusterName(), cluster);
+        for (WlsServerConfig server : cluster.getServerConfigs()) {
+          clusterNameMap.putIfAbsent(server.getName(), cluster.getClusterName());
+        }
+      }
+
+      serversByName = Collections.unmodifiableMap(serverMap);
+      clustersByName = Collections.unmodifiableMap(clusterMap);
+      clusterNamesByServer = Collections.unmodifiableMap(clusterNameMap);
+    }
+
+    boolean isCurrentFor(WlsDomainConfig config) {
+      if (config.servers != servers || sizeOf(servers) != numServers
+            || config.configuredClusters != clusters || sizeOf(clusters) != numClusters) {
+        return false;
+      }
+      for (int i = 0; i < numClusters; i++) {
+        final WlsClusterConfig cluster = clusters.get(i);
+        if (cluster.getServers().size() != numClusterServers[i]
+              || cluster.getDynamicServerConfigs() != dynamicServerLists[i]) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private static int sizeOf(List<?> list) {
+      return list == null ? 0 : list.size();
+    }
+  }
+
   /**
    * Object used by the {@link #parseJson(String)} method to return multiple parsed objects.
    */
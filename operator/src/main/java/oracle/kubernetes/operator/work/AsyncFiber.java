@@ -25,6 +25,13 @@ public interface AsyncFiber {
    */
   void terminate(Throwable t, Packet packet);
 
+  /**
+   * Returns true if this fiber has been cancelled, and so will not resume.
+   *
+   * @return true if cancelled
+   */
+  boolean isCancelled();
+
   /**
    * Schedules an operation for some time in the future.
    *
@@ -3,7 +3,11 @@
 
 package oracle.kubernetes.operator.work;
 
+import java.lang.reflect.Method;
+import java.util.Optional;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
@@ -11,11 +15,22 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import javax.annotation.Nonnull;
 
+import oracle.kubernetes.operator.TuningParameters.EngineTuning;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+
 /**
  * Collection of {@link Fiber}s. Owns an {@link Executor} to run them.
  */
 public class Engine {
-  private static final int DEFAULT_THREAD_COUNT = 10;
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  public static final String PLATFORM_THREADING = "platform";
+  public static final String VIRTUAL_THREADING = "virtual";
+  public static final int DEFAULT_THREAD_COUNT = 10;
+  public static final int DEFAULT_SCHEDULER_THREAD_COUNT = 2;
+
   private final AtomicReference<ScheduledExecutorService> threadPool = new AtomicReference<>();
 
   /**
@@ -43,10 +58,54 @@ public class Engine {
    * @return executor service
    */
   public static ScheduledExecutorService wrappedExecutorService(String id, Container container) {
-    ScheduledThreadPoolExecutor threadPool =
-        new ScheduledThreadPoolExecutor(DEFAULT_THREAD_COUNT, new DaemonThreadFactory(id));
+    return wrap(container, createThreadPool(id, DEFAULT_THREAD_COUNT));
+  }
+
+  /**
+   * wrapped executor service, selected according to the specified tuning. In platform mode, fiber steps
+   * and timed actions share a pool of the configured size. In virtual mode, fiber steps each run on their own
+   * virtual thread, and a small pool of platform threads only fires timed actions.
+   * @param id id
+   * @param container container
+   * @param tuning engine tuning parameters
+   * @return executor service
+   */
+  public static ScheduledExecutorService wrappedExecutorService(String id, Container container, EngineTuning tuning) {
+    if (VIRTUAL_THREADING.equalsIgnoreCase(tuning.threadingMode)) {
+      return wrap(container, createHandOffExecutor(id, tuning.schedulerThreadCount));
+    } else {
+      return wrap(container, createThreadPool(id, Math.max(1, tuning.platformThreadCount)));
+    }
+  }
+
+  private static ScheduledThreadPoolExecutor createThreadPool(String id, int threadCount) {
+    ScheduledThreadPoolExecutor threadPool = new ScheduledThreadPoolExecutor(threadCount, new DaemonThreadFactory(id));
     threadPool.setRemoveOnCancelPolicy(true);
-    return wrap(container, threadPool);
+    return threadPool;
+  }
+
+  private static ScheduledExecutorService createHandOffExecutor(String id, int schedulerThreadCount) {
+    return new HandOffExecutorService(
+          createThreadPool(id + "-scheduler", Math.max(1, schedulerThreadCount)), createStepExecutor(id));
+  }
+
+  // Virtual threads are only available on Java 21 and later, while the operator is built for Java 11,
+  // so the executor is located reflectively. Older runtimes fall back to an unbounded pool of cached platform
+  // threads, which likewise keeps fibers blocked in a suspended call from starving other fibers.
+  private static ExecutorService createStepExecutor(String id) {
+    return getVirtualThreadExecutor().orElseGet(() -> {
+      LOGGER.warning(MessageKeys.VIRTUAL_THREADS_UNAVAILABLE, Runtime.version());
+      return Executors.newCachedThreadPool(new DaemonThreadFactory(id));
+    });
+  }
+
+  private static Optional<ExecutorService> getVirtualThreadExecutor() {
+    try {
+      Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return Optional.of((ExecutorService) factory.invoke(null));
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      return Optional.empty();
+    }
   }
 
   private static ScheduledExecutorService wrap(Container container, ScheduledExecutorService ex) {
@@ -10,6 +10,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
@@ -19,6 +20,8 @@ import java.util.stream.Collectors;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.metrics.Histogram;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.work.NextAction.Kind;
 
 import static oracle.kubernetes.operator.logging.MessageKeys.CURRENT_STEPS;
@@ -63,6 +66,12 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber, Bre
   private static final int DONE = 1;
   private static final int CANCELLED = 2;
   private static final ThreadLocal<Fiber> CURRENT_FIBER = new ThreadLocal<>();
+  private static final ClassValue<Histogram.Child> STEP_DURATIONS = new ClassValue<>() {
+    @Override
+    protected Histogram.Child computeValue(Class<?> type) {
+      return OperatorMetrics.STEP_DURATION.labels(type.getName());
+    }
+  };
   /** Used to allocate unique number for each fiber. */
   private static final AtomicInteger iotaGen = new AtomicInteger();
   public final Engine owner;
@@ -80,7 +89,8 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber, Bre
   private NextAction na;
   private NextAction last;
   private final ClassLoader contextClassLoader;
-  private CompletionCallback completionCallback;
+  private volatile CompletionCallback completionCallback;
+  private final AtomicBoolean cancellationReported = new AtomicBoolean();
   /** The thread on which this Fiber is currently executing, if applicable. */
   private volatile Thread currentThread;
   private ExitCallback exitCallback;
@@ -112,6 +122,11 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber, Bre
     return CURRENT_FIBER.get();
   }
 
+  @Override
+  public boolean isCancelled() {
+    return status.get() == CANCELLED;
+  }
+
   /**
    * Use this fiber's executor to schedule an operation for some time in the future.
    * @param timeout the interval before the check should run, in units
@@ -142,6 +157,8 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber, Bre
       breadCrumbs = new ArrayList<>();
 
       owner.addRunnable(this);
+    } else if (status.get() == CANCELLED) {
+      reportCancellation();
     }
   }
 
@@ -258,6 +275,16 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber, Bre
     }
   }
 
+  /**
+   * Creates a Fiber which runs on the same engine as this one, but which is not its child, and so will not be
+   * cancelled with it.
+   *
+   * @return Detached fiber
+   */
+  public Fiber createDetachedFiber() {
+    return owner.createFiber();
+  }
+
   /**
    * The most recently invoked step if the fiber is currently suspended.
    * @return Last invoked step for suspended fiber.
@@ -476,8 +503,10 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber, Bre
       addBreadCrumb(na);
 
       NextAction result;
+      Step step = na.next;
+      long startNanos = System.nanoTime();
       try {
-        result = na.next.apply(na.packet);
+        result = step.apply(na.packet);
       } catch (Throwable t) {
         Packet p = na.packet;
         na = new NextAction();
@@ -485,6 +514,8 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber, Bre
 
         addBreadCrumb(na);
         return false;
+      } finally {
+        STEP_DURATIONS.get(step.getClass()).observeNanos(System.nanoTime() - startNanos);
       }
 
       if (LOGGER.isFinerEnabled()) {
@@ -572,7 +603,9 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber, Bre
    */
   boolean cancelAndExitCallback(boolean mayInterrupt, ExitCallback exitCallback) {
     // Mark fiber as cancelled, if not already done
-    status.compareAndSet(NOT_COMPLETE, CANCELLED);
+    if (status.compareAndSet(NOT_COMPLETE, CANCELLED)) {
+      reportCancellation();
+    }
 
     if (LOGGER.isFinerEnabled()) {
       LOGGER.finer("{0} cancelled", getName());
@@ -617,6 +650,18 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber, Bre
     }
   }
 
+  // A fiber cancelled before it completes will never call its completion callback, so tell the callback instead.
+  private void reportCancellation() {
+    CompletionCallback callback = completionCallback;
+    if (callback != null && cancellationReported.compareAndSet(false, true)) {
+      try {
+        callback.onCancelled();
+      } catch (Throwable t) {
+        LOGGER.fine(MessageKeys.EXCEPTION, t);
+      }
+    }
+  }
+
   private synchronized void addBreadCrumb(NextAction na) {
     breadCrumbs.add(na);
   }
@@ -701,6 +746,13 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber, Bre
      * @param throwable The throwable
      */
     void onThrowable(Packet packet, Throwable throwable);
+
+    /**
+     * Indicates that the fiber was cancelled before it finished its execution, and so neither of the other
+     * methods will be invoked. This method may be invoked by the thread which cancelled the fiber.
+     */
+    default void onCancelled() {
+    }
   }
 
   /** Callback invoked when a Thread exits processing this fiber. */
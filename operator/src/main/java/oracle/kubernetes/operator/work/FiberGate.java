@@ -9,6 +9,8 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import oracle.kubernetes.operator.ProcessingConstants;
@@ -19,11 +21,15 @@ import oracle.kubernetes.utils.SystemClock;
  * Allows at most one running Fiber per key value. However, rather than queue later arriving Fibers
  * this class cancels the earlier arriving Fibers. For the operator, this makes sense as domain
  * presence Fibers that come later will always complete or correct work that may have been
- * in-flight.
+ * in-flight. Requests to start a Fiber may also be coalesced, so that a burst of requests for the
+ * same key starts the first requested Fiber at once and only one more for all of those which follow it.
  */
 public class FiberGate {
   private final Engine engine;
   private final ConcurrentMap<String, Fiber> gateMap = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, PendingStart> pendingStarts = new ConcurrentHashMap<>();
+  private final AtomicLong coalescedRequestCount = new AtomicLong();
+  private final AtomicLong coalescedStartCount = new AtomicLong();
 
   private final Fiber placeholder;
 
@@ -132,6 +138,169 @@ public class FiberGate {
     return f;
   }
 
+  /**
+   * Requests a Fiber start which may be combined with other requests for the same key. The first request of a burst
+   * starts its Fiber immediately; a request which follows it within the quiet period is deferred until no further
+   * request for the key has arrived for the quiet period, or until the maximum delay has passed since the first
+   * deferred request, whichever comes first. Only one of the deferred requests is then run: the most recent one,
+   * unless it would not interrupt a running Fiber and an earlier one would, in which case the most recent
+   * interrupting request is run. If the quiet period is not positive, the Fiber is started immediately.
+   *
+   * @param key Key
+   * @param interrupt true if the Fiber should cancel any running Fiber with the same key
+   * @param strategy Step for Fiber to begin with
+   * @param packet Packet
+   * @param callback Completion callback
+   * @param quietMillis the time without further requests after which the Fiber is started
+   * @param maxDelayMillis the longest time that a request may be deferred
+   */
+  public void startFiberCoalesced(String key, boolean interrupt, Step strategy, Packet packet,
+                                  CompletionCallback callback, long quietMillis, long maxDelayMillis) {
+    coalescedRequestCount.incrementAndGet();
+    PendingStart request = new PendingStart(null, interrupt, strategy, packet, callback);
+    if (quietMillis <= 0) {
+      start(key, request);
+      return;
+    }
+
+    PendingStart pendingStart = addPendingStart(key, request);
+    if (pendingStart.isStarted()) {
+      startBurst(key, request, pendingStart, quietMillis);
+      return;
+    }
+
+    if (pendingStart.isFirstOfBurst()) {
+      schedule(() -> startIfSameBurst(key, pendingStart.burst, quietMillis), Math.max(quietMillis, maxDelayMillis));
+    }
+    schedule(() -> startIfStillPending(key, pendingStart, quietMillis), quietMillis);
+  }
+
+  // Returns the request to be deferred or, if no burst is in progress so that the request should start now,
+  // the marker recording that start.
+  private synchronized PendingStart addPendingStart(String key, PendingStart request) {
+    PendingStart previous = pendingStarts.get(key);
+    if (previous == null) {
+      return markStarted(key);
+    }
+
+    PendingStart pendingStart;
+    if (previous.isStarted()) {
+      pendingStart = request;
+    } else if (previous.interrupt && !request.interrupt) {
+      pendingStart = new PendingStart(previous.burst, true, previous.strategy, previous.packet, previous.callback);
+    } else {
+      pendingStart = new PendingStart(previous.burst, request.interrupt, request.strategy, request.packet,
+            request.callback);
+    }
+    pendingStarts.put(key, pendingStart);
+    return pendingStart;
+  }
+
+  // guarded by this
+  private PendingStart markStarted(String key) {
+    PendingStart marker = PendingStart.createStartedMarker();
+    pendingStarts.put(key, marker);
+    return marker;
+  }
+
+  // Starts the Fiber for a request. Further requests for the key are deferred until the quiet period has passed.
+  private void startBurst(String key, PendingStart pendingStart, PendingStart marker, long quietMillis) {
+    schedule(() -> pendingStarts.remove(key, marker), quietMillis);
+    start(key, pendingStart);
+  }
+
+  private void schedule(Runnable command, long delayMillis) {
+    getExecutor().schedule(command, delayMillis, TimeUnit.MILLISECONDS);
+  }
+
+  // Starts the pending Fiber if no later request has been made for the key.
+  private void startIfStillPending(String key, PendingStart expected, long quietMillis) {
+    PendingStart marker;
+    synchronized (this) {
+      if (pendingStarts.get(key) != expected) {
+        return;
+      }
+      marker = markStarted(key);
+    }
+    startBurst(key, expected, marker, quietMillis);
+  }
+
+  // Starts the pending Fiber if the burst of requests which began with the specified one has not yet started it.
+  private void startIfSameBurst(String key, Object burst, long quietMillis) {
+    PendingStart pendingStart;
+    PendingStart marker;
+    synchronized (this) {
+      pendingStart = pendingStarts.get(key);
+      if (pendingStart == null || pendingStart.isStarted() || pendingStart.burst != burst) {
+        return;
+      }
+      marker = markStarted(key);
+    }
+    startBurst(key, pendingStart, marker, quietMillis);
+  }
+
+  private void start(String key, PendingStart pendingStart) {
+    Fiber fiber = pendingStart.interrupt
+          ? startFiber(key, pendingStart.strategy, pendingStart.packet, pendingStart.callback)
+          : startFiberIfNoCurrentFiber(key, pendingStart.strategy, pendingStart.packet, pendingStart.callback);
+    if (fiber != null) {
+      coalescedStartCount.incrementAndGet();
+    }
+  }
+
+  /**
+   * Returns the number of coalesced Fiber starts which have been requested but not yet made.
+   * @return the number of pending starts
+   */
+  public int getPendingStartCount() {
+    return (int) pendingStarts.values().stream().filter(p -> !p.isStarted()).count();
+  }
+
+  /**
+   * Returns the number of requests made to {@link #startFiberCoalesced}.
+   * @return the number of requests
+   */
+  public long getCoalescedRequestCount() {
+    return coalescedRequestCount.get();
+  }
+
+  /**
+   * Returns the number of Fibers started in response to calls to {@link #startFiberCoalesced}.
+   * @return the number of Fibers started
+   */
+  public long getCoalescedStartCount() {
+    return coalescedStartCount.get();
+  }
+
+  private static class PendingStart {
+    private final Object burst;
+    private final boolean interrupt;
+    private final Step strategy;
+    private final Packet packet;
+    private final CompletionCallback callback;
+
+    PendingStart(Object burst, boolean interrupt, Step strategy, Packet packet, CompletionCallback callback) {
+      this.burst = burst != null ? burst : this;
+      this.interrupt = interrupt;
+      this.strategy = strategy;
+      this.packet = packet;
+      this.callback = callback;
+    }
+
+    // Marks a key whose Fiber has just been started, so that requests within the quiet period are deferred.
+    static PendingStart createStartedMarker() {
+      return new PendingStart(null, false, null, null, null);
+    }
+
+    boolean isStarted() {
+      return strategy == null;
+    }
+
+    boolean isFirstOfBurst() {
+      return burst == this;
+    }
+  }
+
   private static class WaitForOldFiberStep extends Step {
     private final AtomicReference<Fiber> old;
     private final AtomicReference<WaitForOldFiberStep> current;
@@ -0,0 +1,131 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+
+/**
+ * A scheduled executor service which separates timing from execution. Tasks submitted for immediate execution
+ * run on the step executor; delayed tasks, whether runnables or callables, are timed by a small scheduler pool and
+ * then handed off to the step executor, so that the scheduler threads are never occupied by fiber work. Periodic
+ * tasks are expected to be short (typically starting a fiber) and run directly on the scheduler.
+ */
+class HandOffExecutorService extends AbstractExecutorService implements ScheduledExecutorService {
+
+  private final ScheduledExecutorService scheduler;
+  private final ExecutorService stepExecutor;
+
+  HandOffExecutorService(ScheduledExecutorService scheduler, ExecutorService stepExecutor) {
+    this.scheduler = scheduler;
+    this.stepExecutor = stepExecutor;
+  }
+
+  @Override
+  public void execute(@Nonnull Runnable command) {
+    stepExecutor.execute(command);
+  }
+
+  @Override
+  public @Nonnull ScheduledFuture<?> schedule(@Nonnull Runnable command, long delay, @Nonnull TimeUnit unit) {
+    return scheduler.schedule(() -> stepExecutor.execute(command), delay, unit);
+  }
+
+  @Override
+  public @Nonnull <V> ScheduledFuture<V> schedule(@Nonnull Callable<V> callable, long delay, @Nonnull TimeUnit unit) {
+    HandOffFuture<V> future = new HandOffFuture<>();
+    future.setTimer(scheduler.schedule(() -> stepExecutor.execute(() -> future.run(callable)), delay, unit));
+    return future;
+  }
+
+  @Override
+  public @Nonnull ScheduledFuture<?> scheduleAtFixedRate(
+        @Nonnull Runnable command, long initialDelay, long period, @Nonnull TimeUnit unit) {
+    return scheduler.scheduleAtFixedRate(command, initialDelay, period, unit);
+  }
+
+  @Override
+  public @Nonnull ScheduledFuture<?> scheduleWithFixedDelay(
+        @Nonnull Runnable command, long initialDelay, long delay, @Nonnull TimeUnit unit) {
+    return scheduler.scheduleWithFixedDelay(command, initialDelay, delay, unit);
+  }
+
+  @Override
+  public void shutdown() {
+    scheduler.shutdown();
+    stepExecutor.shutdown();
+  }
+
+  @Override
+  public @Nonnull List<Runnable> shutdownNow() {
+    List<Runnable> pending = new ArrayList<>(scheduler.shutdownNow());
+    pending.addAll(stepExecutor.shutdownNow());
+    return pending;
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return scheduler.isShutdown() && stepExecutor.isShutdown();
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return scheduler.isTerminated() && stepExecutor.isTerminated();
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, @Nonnull TimeUnit unit) throws InterruptedException {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    return scheduler.awaitTermination(timeout, unit)
+          && stepExecutor.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * The result of a callable which is timed by the scheduler and then run by the step executor.
+   * @param <V> the type of the result
+   */
+  private static class HandOffFuture<V> extends CompletableFuture<V> implements ScheduledFuture<V> {
+    private volatile ScheduledFuture<?> timer;
+
+    void setTimer(ScheduledFuture<?> timer) {
+      this.timer = timer;
+    }
+
+    void run(Callable<V> callable) {
+      if (!isDone()) {
+        try {
+          complete(callable.call());
+        } catch (Throwable t) {
+          completeExceptionally(t);
+        }
+      }
+    }
+
+    @Override
+    public long getDelay(@Nonnull TimeUnit unit) {
+      return Optional.ofNullable(timer).map(t -> t.getDelay(unit)).orElse(0L);
+    }
+
+    @Override
+    public int compareTo(@Nonnull Delayed other) {
+      return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+      Optional.ofNullable(timer).ifPresent(t -> t.cancel(false));
+      return super.cancel(mayInterruptIfRunning);
+    }
+  }
+}
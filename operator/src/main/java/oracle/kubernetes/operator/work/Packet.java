@@ -10,13 +10,19 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
-/** Context of a single processing flow. Acts as a map and as a registry of components. */
+/**
+ * Context of a single processing flow. Acts as a map and as a registry of components.
+ *
+ * <p>A copy of a packet shares the contents of the original until either of them is modified, so that
+ * fibers forked for each of many servers or namespaces do not each copy every value and component.
+ */
 public class Packet extends AbstractMap<String, Object> implements ComponentRegistry, ComponentEx {
-  private final ConcurrentMap<String, Component> components =
-      new ConcurrentHashMap<>();
-  private final ConcurrentMap<String, Object> delegate = new ConcurrentHashMap<>();
+  private final CopyOnWriteMap<Component> components;
+  private final CopyOnWriteMap<Object> delegate;
 
   public Packet() {
+    components = new CopyOnWriteMap<>();
+    delegate = new CopyOnWriteMap<>();
   }
 
   /**
@@ -29,12 +35,13 @@ public class Packet extends AbstractMap<String, Object> implements ComponentRegi
   }
 
   private Packet(Packet that) {
-    components.putAll(that.components);
-    delegate.putAll(that.delegate);
+    components = that.components.copy();
+    delegate = that.delegate.copy();
   }
 
   /**
-   * Copies a packet so that the new packet starts with identical values and components.
+   * Copies a packet so that the new packet starts with identical values and components. Changes to either
+   * packet are not seen by the other.
    *
    * @return Cloned packet
    */
@@ -77,13 +84,100 @@ public class Packet extends AbstractMap<String, Object> implements ComponentRegi
     return delegate.entrySet();
   }
 
+  @Override
+  public Object get(Object key) {
+    return delegate.get(key);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return delegate.containsKey(key);
+  }
+
   @Override
   public Object put(String key, Object value) {
     return value != null ? delegate.put(key, value) : delegate.remove(key);
   }
 
+  @Override
+  public Object remove(Object key) {
+    return delegate.remove(key);
+  }
+
+  @Override
+  public void clear() {
+    delegate.clear();
+  }
+
   @SuppressWarnings("unchecked")
   public <T> T getValue(String key) {
     return (T) get(key);
   }
+
+  /**
+   * A map whose contents may be shared with its copies. Shared contents are never modified: the first change
+   * to a map whose contents are shared replaces them with a private copy. Reads are not synchronized.
+   */
+  private static class CopyOnWriteMap<V> extends AbstractMap<String, V> {
+    private volatile ConcurrentMap<String, V> contents;
+    private boolean shared;
+
+    CopyOnWriteMap() {
+      this(new ConcurrentHashMap<>(), false);
+    }
+
+    private CopyOnWriteMap(ConcurrentMap<String, V> contents, boolean shared) {
+      this.contents = contents;
+      this.shared = shared;
+    }
+
+    synchronized CopyOnWriteMap<V> copy() {
+      shared = true;
+      return new CopyOnWriteMap<>(contents, true);
+    }
+
+    private ConcurrentMap<String, V> getWritableContents() {
+      if (shared) {
+        contents = new ConcurrentHashMap<>(contents);
+        shared = false;
+      }
+      return contents;
+    }
+
+    @Override
+    public V get(Object key) {
+      return contents.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return contents.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+      return contents.size();
+    }
+
+    @Override
+    public synchronized V put(String key, V value) {
+      return getWritableContents().put(key, value);
+    }
+
+    @Override
+    public synchronized V remove(Object key) {
+      return contents.containsKey(key) ? getWritableContents().remove(key) : null;
+    }
+
+    @Override
+    public synchronized void clear() {
+      contents = new ConcurrentHashMap<>();
+      shared = false;
+    }
+
+    @Override
+    public Set<Entry<String, V>> entrySet() {
+      return Collections.unmodifiableMap(contents).entrySet();
+    }
+  }
 }
@@ -310,7 +310,11 @@ public abstract class Step {
   public static class MultiThrowable extends RuntimeException {
     private final List<Throwable> throwables;
 
-    private MultiThrowable(List<Throwable> throwables) {
+    /**
+     * Creates an exception wrapping the failures of several child fibers.
+     * @param throwables the failures, of which there must be at least one
+     */
+    public MultiThrowable(List<Throwable> throwables) {
       super(throwables.get(0));
       this.throwables = throwables;
     }
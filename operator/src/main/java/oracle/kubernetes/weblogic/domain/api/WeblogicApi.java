@@ -20,6 +20,7 @@ import okhttp3.Call;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.DomainList;
 
+import static oracle.kubernetes.operator.KubernetesConstants.ALL_NAMESPACES_DOMAIN_PATH;
 import static oracle.kubernetes.operator.KubernetesConstants.DOMAIN_PATH;
 import static oracle.kubernetes.operator.KubernetesConstants.DOMAIN_SPECIFIC_PATH;
 import static oracle.kubernetes.operator.KubernetesConstants.DOMAIN_STATUS_PATH;
@@ -124,15 +125,54 @@ public class WeblogicApi {
       Boolean watch,
       ApiCallback callback)
       throws ApiException {
+    return listNamespacedDomainCall(namespace, pretty, null, cont, fieldSelector, labelSelector, limit,
+        resourceVersion, timeoutSeconds, watch, callback);
+  }
+
+  /**
+   * Generate call to list domains.
+   * @param namespace namespace, or null to list domains in all namespaces
+   * @param pretty pretty flag
+   * @param allowWatchBookmarks if a watch should receive bookmark events
+   * @param cont continuation
+   * @param fieldSelector field selector
+   * @param labelSelector label selector
+   * @param limit limit
+   * @param resourceVersion resource version
+   * @param timeoutSeconds timeout
+   * @param watch if watch
+   * @param callback callback
+   * @return call
+   * @throws ApiException on failure
+   */
+  public Call listNamespacedDomainCall(
+      String namespace,
+      String pretty,
+      Boolean allowWatchBookmarks,
+      String cont,
+      String fieldSelector,
+      String labelSelector,
+      Integer limit,
+      String resourceVersion,
+      Integer timeoutSeconds,
+      Boolean watch,
+      ApiCallback callback)
+      throws ApiException {
     final Object localVarPostBody = null;
-    final String localVarPath =
-        DOMAIN_PATH.replaceAll("\\{namespace\\}", this.localVarApiClient.escapeString(namespace));
+    final String localVarPath = namespace == null
+        ? ALL_NAMESPACES_DOMAIN_PATH
+        : DOMAIN_PATH.replaceAll("\\{namespace\\}", this.localVarApiClient.escapeString(namespace));
     final List<Pair> localVarQueryParams = new ArrayList<>();
     final List<Pair> localVarCollectionQueryParams = new ArrayList<>();
     if (pretty != null) {
       localVarQueryParams.addAll(this.localVarApiClient.parameterToPair("pretty", pretty));
     }
 
+    if (allowWatchBookmarks != null) {
+      localVarQueryParams.addAll(
+          this.localVarApiClient.parameterToPair("allowWatchBookmarks", allowWatchBookmarks));
+    }
+
     if (cont != null) {
       localVarQueryParams.addAll(this.localVarApiClient.parameterToPair("continue", cont));
     }
@@ -617,4 +657,74 @@ public class WeblogicApi {
     this.localVarApiClient.executeAsync(localVarCall, localVarReturnType, callback);
     return localVarCall;
   }
+
+  protected Call patchNamespacedDomainStatusCall(
+      String name, String namespace, V1Patch body, ApiCallback callback) throws ApiException {
+    String localVarPath =
+        DOMAIN_STATUS_PATH
+            .replaceAll("\\{namespace\\}", this.localVarApiClient.escapeString(namespace))
+            .replaceAll("\\{name\\}", this.localVarApiClient.escapeString(name));
+    List<Pair> localVarQueryParams = new ArrayList<>();
+    List<Pair> localVarCollectionQueryParams = new ArrayList<>();
+    Map<String, String> localVarHeaderParams = new HashMap<>();
+    Map<String, String> localVarCookieParams = new HashMap<>();
+    Map<String, Object> localVarFormParams = new HashMap<>();
+    String[] localVarAccepts = new String[] {"application/json"};
+    String localVarAccept = this.localVarApiClient.selectHeaderAccept(localVarAccepts);
+    if (localVarAccept != null) {
+      localVarHeaderParams.put("Accept", localVarAccept);
+    }
+
+    String[] localVarContentTypes = new String[] {"application/json-patch+json"};
+    String localVarContentType =
+        this.localVarApiClient.selectHeaderContentType(localVarContentTypes);
+    localVarHeaderParams.put("Content-Type", localVarContentType);
+    String[] localVarAuthNames = new String[] {"BearerToken"};
+    return this.localVarApiClient.buildCall(
+        localVarPath,
+        "PATCH",
+        localVarQueryParams,
+        localVarCollectionQueryParams,
+        body,
+        localVarHeaderParams,
+        localVarCookieParams,
+        localVarFormParams,
+        localVarAuthNames,
+        callback);
+  }
+
+  private Call patchNamespacedDomainStatusValidateBeforeCall(
+      String name, String namespace, V1Patch body, ApiCallback callback) throws ApiException {
+    if (namespace == null) {
+      throw new ApiException(
+          "Missing the required parameter 'namespace' when calling patchNamespacedDomainStatus(Async)");
+    } else if (name == null) {
+      throw new ApiException(
+          "Missing the required parameter 'name' when calling patchNamespacedDomainStatus(Async)");
+    } else if (body == null) {
+      throw new ApiException(
+          "Missing the required parameter 'body' when calling patchNamespacedDomainStatus(Async)");
+    } else {
+      return this.patchNamespacedDomainStatusCall(name, namespace, body, callback);
+    }
+  }
+
+  /**
+   * Asynchronously patch domain status.
+   * @param name name
+   * @param namespace namespace
+   * @param body JSON patch of the status
+   * @param callback callback
+   * @return call
+   * @throws ApiException on failure
+   */
+  public Call patchNamespacedDomainStatusAsync(
+      String name, String namespace, V1Patch body, ApiCallback<Domain> callback)
+      throws ApiException {
+    Call localVarCall =
+        this.patchNamespacedDomainStatusValidateBeforeCall(name, namespace, body, callback);
+    Type localVarReturnType = (new TypeToken<Domain>() {}).getType();
+    this.localVarApiClient.executeAsync(localVarCall, localVarReturnType, callback);
+    return localVarCall;
+  }
 }
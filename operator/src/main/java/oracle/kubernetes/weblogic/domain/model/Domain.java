@@ -125,6 +125,9 @@ public class Domain implements KubernetesObject, Upgradable<Domain> {
   @Description("The current status of the operation of the WebLogic domain. Updated automatically by the operator.")
   private DomainStatus status;
 
+  // set for a domain received from Kubernetes, whose spec the operator does not otherwise modify
+  private transient volatile boolean effectiveConfigurationCached;
+
   @SuppressWarnings({"rawtypes"})
   static List sortOrNull(List list) {
     return sortOrNull(list, null);
@@ -272,7 +275,21 @@ public class Domain implements KubernetesObject, Upgradable<Domain> {
   }
 
   private EffectiveConfigurationFactory getEffectiveConfigurationFactory() {
-    return spec.getEffectiveConfigurationFactory(apiVersion);
+    return effectiveConfigurationCached
+        ? spec.getEffectiveConfigurationFactory(apiVersion, metadata.getGeneration())
+        : spec.getEffectiveConfigurationFactory(apiVersion);
+  }
+
+  /**
+   * Allows the effective server and cluster configurations of this domain to be computed once per metadata
+   * generation, rather than on each request. Only for a domain received from Kubernetes, since changes made
+   * to its spec other than by {@link #setReplicaCount(String, int)} will not be seen.
+   *
+   * @return this instance
+   */
+  public Domain withEffectiveConfigurationCached() {
+    effectiveConfigurationCached = true;
+    return this;
   }
 
   public MonitoringExporterConfiguration getMonitoringExporterConfiguration() {
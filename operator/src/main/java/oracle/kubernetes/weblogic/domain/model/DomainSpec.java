@@ -5,9 +5,14 @@ package oracle.kubernetes.weblogic.domain.model;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -409,6 +414,9 @@ public class DomainSpec extends BaseConfiguration {
           + "WebLogic domain configuration.")
   protected final List<Cluster> clusters = new ArrayList<>();
 
+  // built on demand by the effective configuration factory; not part of the domain resource
+  private transient volatile EffectiveConfigurationCache effectiveConfigurationCache;
+
   /**
    * Adds a Cluster to the DomainSpec.
    *
@@ -437,7 +445,29 @@ public class DomainSpec extends BaseConfiguration {
   @SuppressWarnings("unused")
   EffectiveConfigurationFactory getEffectiveConfigurationFactory(
       String apiVersion) {
-    return new CommonEffectiveConfigurationFactory();
+    return getEffectiveConfigurationFactory(apiVersion, null);
+  }
+
+  /**
+   * Returns a factory for the effective configurations of this domain's servers and clusters.
+   * If a generation is specified, the configurations are memoized until it changes, which is only valid
+   * if the spec is not modified other than through the factory while that generation is current.
+   *
+   * @param apiVersion the API version of the domain
+   * @param generation the metadata generation of the domain, or null to compute each configuration on request
+   * @return a factory
+   */
+  @SuppressWarnings("unused")
+  EffectiveConfigurationFactory getEffectiveConfigurationFactory(String apiVersion, Long generation) {
+    return new CommonEffectiveConfigurationFactory(getEffectiveConfigurationCache(generation));
+  }
+
+  private EffectiveConfigurationCache getEffectiveConfigurationCache(Long generation) {
+    EffectiveConfigurationCache cache = effectiveConfigurationCache;
+    if (cache == null || !cache.isCurrentFor(generation)) {
+      effectiveConfigurationCache = cache = new EffectiveConfigurationCache(generation);
+    }
+    return cache;
   }
 
   /**
@@ -1056,25 +1086,11 @@ public class DomainSpec extends BaseConfiguration {
 
 
   ManagedServer getManagedServer(String serverName) {
-    if (serverName != null) {
-      for (ManagedServer s : managedServers) {
-        if (serverName.equals(s.getServerName())) {
-          return s;
-        }
-      }
-    }
-    return null;
+    return serverName == null ? null : getEffectiveConfigurationCache(null).getManagedServer(serverName);
   }
 
   Cluster getCluster(String clusterName) {
-    if (clusterName != null) {
-      for (Cluster c : clusters) {
-        if (clusterName.equals(c.getClusterName())) {
-          return c;
-        }
-      }
-    }
-    return null;
+    return clusterName == null ? null : getEffectiveConfigurationCache(null).getCluster(clusterName);
   }
 
   private int getReplicaCountFor(Cluster cluster) {
@@ -1148,7 +1164,54 @@ public class DomainSpec extends BaseConfiguration {
     return clusters;
   }
 
+  /**
+   * Indexes the configured managed servers and clusters by name and, for a given metadata generation, holds
+   * the effective configurations computed from them. The index is rebuilt if a server or cluster is added
+   * or removed; the configurations are discarded with the index, or when the replica count of a cluster
+   * is set through the factory.
+   */
+  private class EffectiveConfigurationCache {
+    private final Long generation;
+    private final int numManagedServers = managedServers.size();
+    private final int numClusters = clusters.size();
+    private final Map<String, ManagedServer> managedServersByName = new HashMap<>();
+    private final Map<String, Cluster> clustersByName = new HashMap<>();
+    private final Map<List<String>, ServerSpec> serverSpecs = new ConcurrentHashMap<>();
+    private final Map<String, ClusterSpec> clusterSpecs = new ConcurrentHashMap<>();
+
+    EffectiveConfigurationCache(Long generation) {
+      this.generation = generation;
+      managedServers.forEach(s -> managedServersByName.putIfAbsent(s.getServerName(), s));
+      clusters.forEach(c -> clustersByName.putIfAbsent(c.getClusterName(), c));
+    }
+
+    // A null generation requests no memoized configurations, and so may use any index which is still current.
+    boolean isCurrentFor(Long generation) {
+      return (generation == null || generation.equals(this.generation))
+          && numManagedServers == managedServers.size()
+          && numClusters == clusters.size();
+    }
+
+    boolean isMemoizing() {
+      return generation != null;
+    }
+
+    ManagedServer getManagedServer(String serverName) {
+      return managedServersByName.get(serverName);
+    }
+
+    Cluster getCluster(String clusterName) {
+      return clustersByName.get(clusterName);
+    }
+  }
+
   class CommonEffectiveConfigurationFactory implements EffectiveConfigurationFactory {
+    private final EffectiveConfigurationCache cache;
+
+    CommonEffectiveConfigurationFactory(EffectiveConfigurationCache cache) {
+      this.cache = cache;
+    }
+
     @Override
     public AdminServerSpec getAdminServerSpec() {
       return new AdminServerSpecCommonImpl(DomainSpec.this, adminServer);
@@ -1156,6 +1219,14 @@ public class DomainSpec extends BaseConfiguration {
 
     @Override
     public ServerSpec getServerSpec(String serverName, String clusterName) {
+      if (!cache.isMemoizing()) {
+        return createServerSpec(serverName, clusterName);
+      }
+      return cache.serverSpecs.computeIfAbsent(
+          Arrays.asList(serverName, clusterName), k -> createServerSpec(serverName, clusterName));
+    }
+
+    private ServerSpec createServerSpec(String serverName, String clusterName) {
       return new ManagedServerSpecCommonImpl(
           DomainSpec.this,
           getManagedServer(serverName),
@@ -1165,9 +1236,25 @@ public class DomainSpec extends BaseConfiguration {
 
     @Override
     public ClusterSpec getClusterSpec(String clusterName) {
+      if (!cache.isMemoizing()) {
+        return createClusterSpec(clusterName);
+      }
+      return cache.clusterSpecs.computeIfAbsent(
+          Objects.toString(clusterName, ""), k -> createClusterSpec(clusterName));
+    }
+
+    private ClusterSpec createClusterSpec(String clusterName) {
       return new ClusterSpecCommonImpl(DomainSpec.this, getCluster(clusterName));
     }
 
+    private ManagedServer getManagedServer(String serverName) {
+      return serverName == null ? null : cache.getManagedServer(serverName);
+    }
+
+    private Cluster getCluster(String clusterName) {
+      return clusterName == null ? null : cache.getCluster(clusterName);
+    }
+
     private Integer getClusterLimit(String clusterName) {
       return clusterName == null ? null : getReplicaCount(clusterName);
     }
@@ -1185,6 +1272,7 @@ public class DomainSpec extends BaseConfiguration {
     @Override
     public void setReplicaCount(String clusterName, int replicaCount) {
       getOrCreateCluster(clusterName).setReplicas(replicaCount);
+      effectiveConfigurationCache = null;
     }
 
     @Override
@@ -61,6 +61,7 @@ import oracle.kubernetes.operator.helpers.UnitTestHash;
 import oracle.kubernetes.operator.http.HttpAsyncTestSupport;
 import oracle.kubernetes.operator.http.HttpResponseStub;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.rest.ScanCacheStub;
 import oracle.kubernetes.operator.utils.InMemoryCertificates;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
@@ -124,6 +125,7 @@ import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.Comple
 import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.Failed;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
@@ -301,6 +303,7 @@ class DomainProcessorTest {
     processor.createMakeRightOperation(new DomainPresenceInfo(newDomain)).execute();
 
     domainConfigurator.withDefaultServerStartPolicy("NEVER");
+    newDomain.getMetadata().generation(3L);
     processor.createMakeRightOperation(new DomainPresenceInfo(newDomain)).withExplicitRecheck().execute();
 
     Domain updatedDomain = testSupport.getResourceWithName(DOMAIN, UID);
@@ -333,6 +336,7 @@ class DomainProcessorTest {
     final DomainPresenceInfo info1 = new DomainPresenceInfo(newDomain);
     processor.createMakeRightOperation(info1).execute();
     domainConfigurator.withDefaultServerStartPolicy("NEVER");
+    newDomain.getMetadata().generation(3L);
     processor.createMakeRightOperation(new DomainPresenceInfo(newDomain)).withExplicitRecheck().execute();
 
     info1.setWebLogicCredentialsSecret(createCredentialsSecret());
@@ -442,6 +446,16 @@ class DomainProcessorTest {
     assertThat(getRunningPDBs(), empty());
   }
 
+  @Test
+  void afterDomainShutDown_discardItsMakeRightDurations() {
+    defineServerResources(ADMIN_NAME);
+
+    processor.createMakeRightOperation(new DomainPresenceInfo(domain))
+          .interrupt().forDeletion().withExplicitRecheck().execute();
+
+    assertThat(OperatorMetrics.scrape(), not(containsString("domain=\"" + UID + "\"")));
+  }
+
   @Test
   void whenDomainShutDown_ignoreNonOperatorServices() {
     defineServerResources(ADMIN_NAME);
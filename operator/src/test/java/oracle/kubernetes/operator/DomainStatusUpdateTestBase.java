@@ -85,6 +85,7 @@ import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 abstract class DomainStatusUpdateTestBase {
@@ -176,6 +177,14 @@ abstract class DomainStatusUpdateTestBase {
                 .withHealth(overallHealth("health2"))));
   }
 
+  @Test
+  void afterStatusUpdate_domainPresenceInfoRetainsEffectiveConfigurationCache() {
+    updateDomainStatus();
+
+    Domain updatedDomain = info.getDomain();
+    assertThat(updatedDomain.getServer("server1", CLUSTER), sameInstance(updatedDomain.getServer("server1", CLUSTER)));
+  }
+
   private void updateDomainStatus() {
     testSupport.runSteps(DomainStatusUpdater.createStatusUpdateStep(endStep));
   }
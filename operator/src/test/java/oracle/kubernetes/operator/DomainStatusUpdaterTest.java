@@ -11,6 +11,7 @@ import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.CoreV1Event;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
 import oracle.kubernetes.operator.utils.RandomStringGenerator;
 import oracle.kubernetes.utils.SystemClockTestSupport;
 import oracle.kubernetes.utils.TestUtils;
@@ -24,9 +25,13 @@ import org.junit.jupiter.api.Test;
 import static oracle.kubernetes.operator.DomainConditionMatcher.hasCondition;
 import static oracle.kubernetes.operator.DomainFailureReason.Internal;
 import static oracle.kubernetes.operator.DomainFailureReason.Introspection;
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
+import static oracle.kubernetes.operator.DomainStatusUpdater.DOMAIN_STATUS_PATCH;
 import static oracle.kubernetes.operator.EventConstants.DOMAIN_PROCESSING_ABORTED_EVENT;
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_INTERNAL_ERROR;
 import static oracle.kubernetes.operator.ProcessingConstants.FATAL_INTROSPECTOR_ERROR;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.EVENT;
 import static oracle.kubernetes.weblogic.domain.model.DomainCondition.TRUE;
 import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.Failed;
@@ -127,6 +132,40 @@ class DomainStatusUpdaterTest {
     assertThat(getEvents().stream().anyMatch(this::isDomainProcessingAbortedEvent), is(true));
   }
 
+  @Test
+  void whenStatusPatchEnabled_patchDomainStatus() throws NoSuchFieldException {
+    enableStatusPatch();
+    domain.getStatus().addCondition(new DomainCondition(Failed));
+    testSupport.failOnReplaceStatus(DOMAIN, NAME, NS, HTTP_INTERNAL_ERROR);
+
+    testSupport.runSteps(DomainStatusUpdater.createRemoveFailuresStep());
+
+    assertThat(getRecordedDomain(), not(hasCondition(Failed)));
+  }
+
+  private void enableStatusPatch() throws NoSuchFieldException {
+    mementos.add(TuningParametersStub.install());
+    TuningParametersStub.enableFeature(DOMAIN_STATUS_PATCH);
+  }
+
+  @Test
+  void whenStatusPatchRejectedForStaleDomain_replaceDomainStatus() throws NoSuchFieldException {
+    enableStatusPatch();
+    domain.getStatus().addCondition(new DomainCondition(Failed));
+    info.setDomain(createStaleDomain());
+
+    testSupport.runSteps(DomainStatusUpdater.createRemoveFailuresStep());
+
+    assertThat(getRecordedDomain(), not(hasCondition(Failed)));
+  }
+
+  private Domain createStaleDomain() {
+    final Domain staleDomain = DomainProcessorTestSetup.createTestDomain();
+    staleDomain.getMetadata().setResourceVersion("0");
+    staleDomain.setStatus(new DomainStatus().addCondition(new DomainCondition(Failed)));
+    return staleDomain;
+  }
+
   private List<CoreV1Event> getEvents() {
     return testSupport.getResources(EVENT);
   }
@@ -398,4 +398,8 @@ class JobWatcherTest extends WatcherTestBase implements WatchListener<V1Job> {
     // Override as JobWatcher doesn't currently implement listener for callback
   }
 
+  public void bookmarkEvents_areNotSentToListeners() {
+    // Override as JobWatcher doesn't currently implement listener for callback
+  }
+
 }
@@ -0,0 +1,113 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.TuningParameters.WatchTuning;
+import oracle.kubernetes.operator.builders.StubWatchFactory;
+import oracle.kubernetes.operator.builders.WatchBuilder;
+import oracle.kubernetes.utils.TestUtils;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.LabelConstants.CREATEDBYOPERATOR_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+
+class MultiplexedWatcherTest {
+
+  private static final String NS1 = "namespace1";
+  private static final String NS2 = "namespace2";
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final WatchTuning tuning = new WatchTuning(30, 0, 5, 24);
+  private final AtomicBoolean stopping = new AtomicBoolean(false);
+  private final List<String> ns1Events = new ArrayList<>();
+  private final List<String> ns2Events = new ArrayList<>();
+  private PodWatcher ns1Watcher;
+  private MultiplexedWatcher<V1Pod> clusterWatcher;
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(StubWatchFactory.install());
+    mementos.add(ClientFactoryStub.install());
+
+    ns1Watcher = createPodWatcher(NS1, ns1Events);
+    clusterWatcher = new MultiplexedWatcher<>(ns1Watcher, "0", tuning, stopping);
+    clusterWatcher.addNamespaceWatcher(ns1Watcher);
+    clusterWatcher.addNamespaceWatcher(createPodWatcher(NS2, ns2Events));
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private PodWatcher createPodWatcher(String namespace, List<String> events) {
+    return PodWatcher.create(null, namespace, "0", tuning, r -> events.add(r.object.getMetadata().getName()), stopping);
+  }
+
+  private Watch.Response<V1Pod> podAdded(String namespace, String name) {
+    return new Watch.Response<>("ADDED", new V1Pod().metadata(new V1ObjectMeta().namespace(namespace).name(name)));
+  }
+
+  @Test
+  void eventsAreDispatchedToWatcherForTheirNamespace() {
+    clusterWatcher.receivedResponse(podAdded(NS1, "pod1"));
+    clusterWatcher.receivedResponse(podAdded(NS2, "pod2"));
+
+    assertThat(ns1Events, contains("pod1"));
+    assertThat(ns2Events, contains("pod2"));
+  }
+
+  @Test
+  void whenNoWatcherForNamespace_ignoreEvent() {
+    clusterWatcher.receivedResponse(podAdded("other", "pod3"));
+
+    assertThat(ns1Events, empty());
+    assertThat(ns2Events, empty());
+  }
+
+  @Test
+  void afterNamespaceWatcherRemoved_ignoreEventsForNamespace() {
+    clusterWatcher.removeNamespaceWatcher(NS2);
+
+    clusterWatcher.receivedResponse(podAdded(NS2, "pod2"));
+
+    assertThat(ns2Events, empty());
+  }
+
+  @Test
+  void clusterWatch_usesSelectorsOfTemplateForAllNamespaces() throws Exception {
+    clusterWatcher.initiateWatch(new WatchBuilder());
+
+    assertThat(StubWatchFactory.getRequestPaths(), contains("/api/v1/pods"));
+    assertThat(StubWatchFactory.getRequestParameters().get(0),
+          hasEntry("labelSelector", DOMAINUID_LABEL + "," + CREATEDBYOPERATOR_LABEL));
+  }
+
+  @Test
+  void clusterDomainWatch_usesAllNamespacesPath() throws Exception {
+    DomainWatcher domainWatcher = DomainWatcher.create(null, NS1, "0", tuning, r -> { }, stopping);
+
+    new MultiplexedWatcher<Domain>(domainWatcher, "0", tuning, stopping).initiateWatch(new WatchBuilder());
+
+    assertThat(StubWatchFactory.getRequestPaths().get(0),
+          equalTo("/apis/weblogic.oracle/" + KubernetesConstants.DOMAIN_VERSION + "/domains"));
+  }
+}
@@ -0,0 +1,159 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ConfigMapList;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1ServiceList;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.FiberGate;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.TerminalStep;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.LabelConstants.CREATEDBYOPERATOR_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+
+class NamespacedResourcesTest {
+
+  private static final String NS = "namespace";
+  private static final String UID = "domain1";
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final List<String> processed = new ArrayList<>();
+  private final NamespacedResources resources = new NamespacedResources(NS, UID);
+  private final FiberGate gate = testSupport.createFiberGate();
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(testSupport.install());
+    mementos.add(TuningParametersStub.install());
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private V1ObjectMeta createMetadata(String name) {
+    return new V1ObjectMeta().namespace(NS).name(name)
+          .putLabelsItem(CREATEDBYOPERATOR_LABEL, "true")
+          .putLabelsItem(DOMAINUID_LABEL, UID);
+  }
+
+  @Test
+  void processingIsDoneForEachListedResource() {
+    testSupport.defineResources(
+          new V1ConfigMap().metadata(createMetadata("map1")),
+          new V1Pod().metadata(createMetadata("pod1")),
+          new V1Service().metadata(createMetadata("service1")));
+    resources.addProcessing(new RecordingProcessors());
+
+    testSupport.runSteps(resources.createListSteps());
+
+    assertThat(processed, containsInAnyOrder("configMap map1", "pod pod1", "service service1", "complete"));
+  }
+
+  @Test
+  void completeProcessingIsDoneAfterAllLists() {
+    testSupport.defineResources(new V1Pod().metadata(createMetadata("pod1")));
+    resources.addProcessing(new RecordingProcessors());
+
+    testSupport.runSteps(resources.createListSteps());
+
+    assertThat(processed.get(processed.size() - 1), equalTo("complete"));
+  }
+
+  @Test
+  void whenNoListProcessingDefined_completeProcessingIsDone() {
+    resources.addProcessing(new NamespacedResources.Processors() {
+      @Override
+      void completeProcessing(Packet packet) {
+        processed.add("complete");
+      }
+    });
+
+    testSupport.runSteps(resources.createListSteps());
+
+    assertThat(processed, contains("complete"));
+  }
+
+  @Test
+  void afterListsComplete_allListPermitsReleased() {
+    testSupport.defineResources(new V1Pod().metadata(createMetadata("pod1")));
+    resources.addProcessing(new RecordingProcessors());
+
+    testSupport.runSteps(resources.createListSteps());
+
+    assertThat(NamespacedResources.getNumListPermitsInUse(), equalTo(0));
+  }
+
+  @Test
+  void whenParentFiberCancelledWhileListInFlight_releaseListPermit() {
+    TuningParametersStub.setParameter("namespaceListConcurrency", "1");
+    resources.addProcessing(new RecordingProcessors());
+    testSupport.doAfterCall(KubernetesTestSupport.POD, "listPod", this::replaceListFiber);
+
+    gate.startFiber(UID, resources.createListSteps(), new Packet(), new NullCompletionCallback());
+
+    assertThat(NamespacedResources.getNumListPermitsInUse(), equalTo(0));
+  }
+
+  // starting another fiber with the same key cancels the one running the lists
+  private void replaceListFiber() {
+    gate.startFiber(UID, new TerminalStep(), new Packet(), new NullCompletionCallback());
+  }
+
+  private static class NullCompletionCallback implements Fiber.CompletionCallback {
+    @Override
+    public void onCompletion(Packet packet) {
+    }
+
+    @Override
+    public void onThrowable(Packet packet, Throwable throwable) {
+    }
+  }
+
+  private class RecordingProcessors extends NamespacedResources.Processors {
+    @Override
+    Consumer<V1ConfigMapList> getConfigMapListProcessing() {
+      return l -> l.getItems().forEach(m -> processed.add("configMap " + m.getMetadata().getName()));
+    }
+
+    @Override
+    Consumer<V1PodList> getPodListProcessing() {
+      return l -> l.getItems().forEach(p -> processed.add("pod " + p.getMetadata().getName()));
+    }
+
+    @Override
+    Consumer<V1ServiceList> getServiceListProcessing() {
+      return l -> l.getItems().forEach(s -> processed.add("service " + s.getMetadata().getName()));
+    }
+
+    @Override
+    void completeProcessing(Packet packet) {
+      processed.add("complete");
+    }
+  }
+}
@@ -4,7 +4,9 @@
 package oracle.kubernetes.operator;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
@@ -19,7 +21,10 @@ import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.operator.builders.StubWatchFactory;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.watcher.WatchListener;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.operator.work.TerminalStep;
 import oracle.kubernetes.utils.TestUtils;
@@ -34,7 +39,9 @@ import static oracle.kubernetes.operator.logging.MessageKeys.EXECUTE_MAKE_RIGHT_
 import static oracle.kubernetes.operator.logging.MessageKeys.INTROSPECTOR_POD_FAILED;
 import static oracle.kubernetes.utils.LogMatcher.containsFine;
 import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
@@ -262,6 +269,49 @@ class PodWatcherTest extends WatcherTestBase implements WatchListener<V1Pod> {
     assertThat(terminalStep.wasRun(), is(true));
   }
 
+  @Test
+  void whenWatchEventsQueued_domainPresenceInfoHasReadyPodWhenWaitResumes() {
+    final DomainPresenceInfo info = new DomainPresenceInfo(NS, "domain1");
+    final WatchEventQueueTest.ManualExecutor executor = new WatchEventQueueTest.ManualExecutor();
+    final WatchEventQueue<V1Pod> queue = new WatchEventQueue<>(NS, "pods", 10, executor,
+          response -> info.setServerPod(NAME, response.object));
+    final AtomicBoolean stopping = new AtomicBoolean(false);
+    final PodWatcher watcher
+          = PodWatcher.create(this, NS, INITIAL_RESOURCE_VERSION.toString(), tuning, queue, stopping);
+    final List<V1Pod> podsWhenResumed = new ArrayList<>();
+    testSupport.defineResources(createPod());
+
+    try {
+      testSupport.runSteps(watcher.waitForReady(createPod(), new RecordServerPodStep(info, podsWhenResumed)));
+      watcher.receivedResponse(new Watch.Response<>("MODIFIED", markPodReady(createPod())));
+      assertThat(podsWhenResumed, empty());
+
+      executor.runAll();
+    } finally {
+      queue.close();
+      stopping.set(true);
+    }
+
+    assertThat(podsWhenResumed, hasSize(1));
+    assertThat(PodHelper.isReady(podsWhenResumed.get(0)), is(true));
+  }
+
+  private static class RecordServerPodStep extends Step {
+    private final DomainPresenceInfo info;
+    private final List<V1Pod> pods;
+
+    RecordServerPodStep(DomainPresenceInfo info, List<V1Pod> pods) {
+      this.info = info;
+      this.pods = pods;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      Optional.ofNullable(info.getServerPod(NAME)).ifPresent(pods::add);
+      return doNext(packet);
+    }
+  }
+
   // Starts the waitForReady step with an incomplete pod and sends a watch indicating that the pod has changed
   @SafeVarargs
   private void sendPodModifiedWatchAfterWaitForReady(Function<V1Pod,V1Pod>... modifiers) {
@@ -10,6 +10,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import com.meterware.pseudoserver.HttpUserAgentTest;
@@ -39,6 +40,7 @@ import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_HEALTH_MAP;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
@@ -166,6 +168,73 @@ class ServerStatusReaderTest extends HttpUserAgentTest {
     assertThat(stepFactory.serverNames, contains("server1"));
   }
 
+  @Test
+  void whenAdminServerReportsServerStates_dontReadThemFromPods() throws NoSuchFieldException {
+    mementos.add(StaticStubSupport.install(
+          ServerStatusReader.class, "SERVER_STATES_STEP_FACTORY", new ReadServerStatesStepFactoryFake("server1")));
+    info.setServerPod("server1", createPod("server1"));
+    info.setServerPod("server2", createPod("server2"));
+    execFactory.defineResponse("server1", "server1 status");
+    execFactory.defineResponse("server2", "server2 status");
+
+    Packet packet =
+        testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    Map<String, String> serverStates = getServerStates(packet);
+    assertThat(serverStates, hasEntry("server1", "RUNNING"));
+    assertThat(serverStates, hasEntry("server2", "server2 status"));
+  }
+
+  @Test
+  void whenAllPodsReady_dontReadStatesFromAdminServer() throws NoSuchFieldException {
+    ReadServerStatesStepFactoryFake readStatesFactory = new ReadServerStatesStepFactoryFake("server1");
+    mementos.add(StaticStubSupport.install(ServerStatusReader.class, "SERVER_STATES_STEP_FACTORY", readStatesFactory));
+    info.setServerPod("server1", createPod("server1"));
+    info.setServerPod("server2", createPod("server2"));
+    setReadyStatus(info.getServerPod("server1"));
+    setReadyStatus(info.getServerPod("server2"));
+
+    testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(readStatesFactory.created, is(false));
+    assertThat(stepFactory.serverNames, containsInAnyOrder("server1", "server2"));
+  }
+
+  @Test
+  void whenAnyPodNotReady_readStatesFromAdminServer() throws NoSuchFieldException {
+    ReadServerStatesStepFactoryFake readStatesFactory = new ReadServerStatesStepFactoryFake("server1");
+    mementos.add(StaticStubSupport.install(ServerStatusReader.class, "SERVER_STATES_STEP_FACTORY", readStatesFactory));
+    info.setServerPod("server1", createPod("server1"));
+    info.setServerPod("server2", createPod("server2"));
+    setReadyStatus(info.getServerPod("server1"));
+    execFactory.defineResponse("server2", "server2 status");
+
+    testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(readStatesFactory.created, is(true));
+  }
+
+  static class ReadServerStatesStepFactoryFake implements BiFunction<Long, Step, Step> {
+    private final String reportedServer;
+    private boolean created;
+
+    ReadServerStatesStepFactoryFake(String reportedServer) {
+      this.reportedServer = reportedServer;
+    }
+
+    @Override
+    public Step apply(Long timeoutSeconds, Step next) {
+      created = true;
+      return new Step(next) {
+        @Override
+        public NextAction apply(Packet packet) {
+          packet.<Map<String, String>>getValue(SERVER_STATE_MAP).put(reportedServer, "RUNNING");
+          return doNext(packet);
+        }
+      };
+    }
+  }
+
   static class ReadServerHealthStepFactoryFake implements Function<Step, Step> {
     final List<String> serverNames = new ArrayList<>();
 
@@ -0,0 +1,255 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.LogRecord;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.TuningParameters.MainTuning;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.logging.MessageKeys.STATUS_UPDATE_TIMED_OUT;
+import static oracle.kubernetes.utils.LogMatcher.containsWarning;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+
+class StatusPollingWheelTest {
+  private static final String NS = "namespace";
+  private static final long INITIAL_DELAY = 5;
+  private static final long INTERVAL = 10;
+  private static final int MAX_CONCURRENT_UPDATES = 2;
+  private static final int STATUS_UPDATE_TIMEOUT = 2;
+  private static final MainTuning WHEEL_TUNING = new MainTuning(5, 2, 2, 2, 2, STATUS_UPDATE_TIMEOUT, 2, 30,
+        2L, 2L, 120, 0, 0, 0, 0, 0, MAX_CONCURRENT_UPDATES);
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final List<LogRecord> logRecords = new ArrayList<>();
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final StatusPollingWheel wheel
+        = new StatusPollingWheel(DomainProcessorDelegateStub.createDelegate(testSupport), () -> WHEEL_TUNING);
+
+  @BeforeEach
+  void setUp() {
+    mementos.add(TestUtils.silenceOperatorLogger().collectLogMessages(logRecords, STATUS_UPDATE_TIMED_OUT));
+    mementos.add(testSupport.install());
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private UpdateStub register(String domainUid, long initialDelay) {
+    UpdateStub update = new UpdateStub();
+    wheel.register(NS, domainUid, update, initialDelay);
+    return update;
+  }
+
+  private List<UpdateStub> registerDomains(int count) {
+    List<UpdateStub> updates = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      updates.add(register("domain" + i, INITIAL_DELAY).completingImmediately());
+    }
+    return updates;
+  }
+
+  private void setTime(long seconds) {
+    testSupport.setTime((int) seconds, TimeUnit.SECONDS);
+  }
+
+  @Test
+  void afterInitialDelay_startUpdate() {
+    UpdateStub update = register("domain1", INITIAL_DELAY).completingImmediately();
+
+    setTime(INITIAL_DELAY);
+
+    assertThat(update.numStarts, equalTo(1));
+  }
+
+  @Test
+  void domainsRegisteredTogether_startUpdatesAtDifferentTimes() {
+    List<UpdateStub> updates = registerDomains(20);
+
+    setTime(1);
+
+    assertThat(getNumStarted(updates), lessThan(updates.size()));
+  }
+
+  @Test
+  void withinInitialDelay_startUpdatesOfAllDomains() {
+    List<UpdateStub> updates = registerDomains(20);
+
+    setTime(INITIAL_DELAY);
+
+    assertThat(getNumStarted(updates), equalTo(updates.size()));
+  }
+
+  private int getNumStarted(List<UpdateStub> updates) {
+    return (int) updates.stream().filter(u -> u.numStarts > 0).count();
+  }
+
+  @Test
+  void afterUpdateCompletes_startNextAfterSelectedInterval() {
+    UpdateStub update = register("domain1", 1).completingImmediately();
+
+    setTime(INTERVAL);
+    assertThat(update.numStarts, equalTo(1));
+
+    setTime(1 + INTERVAL);
+    assertThat(update.numStarts, equalTo(2));
+  }
+
+  @Test
+  void whenIntervalLongerThanWheel_startNextUpdateOnTheRightTurn() {
+    UpdateStub update = register("domain1", 1).completingImmediately().withInterval(StatusPollingWheel.SLOT_COUNT + 3);
+
+    setTime(StatusPollingWheel.SLOT_COUNT + 3);
+    assertThat(update.numStarts, equalTo(1));
+
+    setTime(StatusPollingWheel.SLOT_COUNT + 4);
+    assertThat(update.numStarts, equalTo(2));
+  }
+
+  @Test
+  void whenMaximumUpdatesRunning_dueUpdatesWait() {
+    register("domain1", 1);
+    register("domain2", 1);
+    register("domain3", 1);
+    register("domain4", 1);
+
+    setTime(1);
+
+    assertThat(wheel.getNumWaiting(), equalTo(2));
+  }
+
+  @Test
+  void whenRunningUpdateCompletes_startWaitingUpdate() {
+    UpdateStub update1 = register("domain1", 1);
+    register("domain2", 1);
+    UpdateStub update3 = register("domain3", 1);
+    setTime(1);
+
+    update1.complete();
+
+    assertThat(update3.numStarts, equalTo(1));
+  }
+
+  @Test
+  void whenRunningUpdateDoesNotCompleteInTime_startWaitingUpdate() {
+    register("domain1", 1);
+    register("domain2", 1);
+    UpdateStub update3 = register("domain3", 1);
+    setTime(1);
+
+    setTime(1 + 2 * STATUS_UPDATE_TIMEOUT);
+
+    assertThat(update3.numStarts, equalTo(1));
+    assertThat(logRecords, containsWarning(STATUS_UPDATE_TIMED_OUT));
+  }
+
+  @Test
+  void whenTimedOutUpdateCompletesLate_dontReleaseAnotherSlot() {
+    UpdateStub update1 = register("domain1", 1);
+    register("domain2", 1);
+    register("domain3", 1);
+    setTime(1);
+    setTime(1 + 2 * STATUS_UPDATE_TIMEOUT);
+    logRecords.clear();
+
+    update1.complete();
+
+    assertThat(wheel.getNumRunning(), equalTo(1));
+  }
+
+  @Test
+  void afterUpdateTimesOut_scheduleItAgain() {
+    UpdateStub update = register("domain1", 1);
+    setTime(1);
+
+    setTime(1 + 2 * STATUS_UPDATE_TIMEOUT + INTERVAL);
+
+    assertThat(update.numStarts, equalTo(2));
+    assertThat(logRecords, containsWarning(STATUS_UPDATE_TIMED_OUT));
+  }
+
+  @Test
+  void whenExpedited_startUpdateOnNextTick() {
+    UpdateStub update = register("domain1", 1).completingImmediately();
+    setTime(1);
+
+    wheel.expedite(NS, "domain1");
+    setTime(2);
+
+    assertThat(update.numStarts, equalTo(2));
+  }
+
+  @Test
+  void afterUnregister_dontStartUpdates() {
+    UpdateStub update = register("domain1", 1).completingImmediately();
+    setTime(1);
+
+    wheel.unregister(NS, "domain1");
+    setTime(1 + INTERVAL);
+
+    assertThat(update.numStarts, equalTo(1));
+  }
+
+  @Test
+  void whenDomainNoLongerPresent_dontStartMoreUpdates() {
+    UpdateStub update = register("domain1", 1).completingImmediately();
+    update.present = false;
+
+    setTime(1 + INTERVAL);
+
+    assertThat(update.numStarts, equalTo(1));
+  }
+
+  static class UpdateStub implements StatusPollingWheel.StatusUpdate {
+    private int numStarts;
+    private boolean completeImmediately;
+    private boolean present = true;
+    private long interval = INTERVAL;
+    private Runnable onCompletion;
+
+    UpdateStub completingImmediately() {
+      completeImmediately = true;
+      return this;
+    }
+
+    UpdateStub withInterval(long interval) {
+      this.interval = interval;
+      return this;
+    }
+
+    void complete() {
+      onCompletion.run();
+    }
+
+    @Override
+    public boolean start(Runnable onCompletion) {
+      numStarts++;
+      if (!present) {
+        return false;
+      }
+      this.onCompletion = onCompletion;
+      if (completeImmediately) {
+        onCompletion.run();
+      }
+      return true;
+    }
+
+    @Override
+    public long getNextIntervalSeconds() {
+      return interval;
+    }
+  }
+}
@@ -0,0 +1,201 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+
+class WatchEventQueueTest {
+  private static final String NS = "namespace";
+  private static final int CAPACITY = 3;
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final ManualExecutor executor = new ManualExecutor();
+  private final List<String> received = new ArrayList<>();
+  private final WatchEventQueue<V1Pod> queue = new WatchEventQueue<>(NS, "pods", CAPACITY, executor, this::record);
+
+  @BeforeEach
+  void setUp() {
+    mementos.add(TestUtils.silenceOperatorLogger().ignoringLoggedExceptions(IllegalStateException.class));
+  }
+
+  @AfterEach
+  void tearDown() {
+    queue.close();
+    mementos.forEach(Memento::revert);
+  }
+
+  private void record(Watch.Response<V1Pod> response) {
+    if (response.object.getMetadata().getName().equals("bad")) {
+      throw new IllegalStateException("test failure");
+    }
+    received.add(response.type + " " + response.object.getMetadata().getName());
+  }
+
+  private void send(String type, String name) {
+    queue.receivedResponse(createResponse(type, name));
+  }
+
+  private void send(String type, String name, Runnable afterResponse) {
+    queue.receivedResponse(createResponse(type, name), afterResponse);
+  }
+
+  private Watch.Response<V1Pod> createResponse(String type, String name) {
+    return new Watch.Response<>(type, new V1Pod().metadata(new V1ObjectMeta().namespace(NS).name(name)));
+  }
+
+  @Test
+  void eventsAreNotPassedOnTheWatchThread() {
+    send("ADDED", "pod1");
+
+    assertThat(received, empty());
+    assertThat(queue.size(), equalTo(1));
+  }
+
+  @Test
+  void whenExecutorRuns_passEventsInOrder() {
+    send("ADDED", "pod1");
+    send("ADDED", "pod2");
+    send("MODIFIED", "pod1");
+
+    executor.runAll();
+
+    assertThat(received, contains("ADDED pod1", "ADDED pod2", "MODIFIED pod1"));
+    assertThat(queue.size(), equalTo(0));
+  }
+
+  @Test
+  void whileQueueIsDraining_dontStartAnotherDrain() {
+    send("ADDED", "pod1");
+    send("ADDED", "pod2");
+
+    assertThat(executor.tasks.size(), equalTo(1));
+  }
+
+  @Test
+  void afterQueueDrained_nextEventStartsNewDrain() {
+    send("ADDED", "pod1");
+    executor.runAll();
+
+    send("MODIFIED", "pod1");
+    executor.runAll();
+
+    assertThat(received, contains("ADDED pod1", "MODIFIED pod1"));
+  }
+
+  @Test
+  void whenQueueBelowCapacity_dontCoalesceEvents() {
+    send("ADDED", "pod1");
+    send("MODIFIED", "pod1");
+
+    executor.runAll();
+
+    assertThat(received, contains("ADDED pod1", "MODIFIED pod1"));
+  }
+
+  @Test
+  void whenQueueAtCapacity_replaceLatestEventForSameResource() {
+    send("ADDED", "pod1");
+    send("ADDED", "pod2");
+    send("ADDED", "pod3");
+    send("MODIFIED", "pod1");
+    send("DELETED", "pod2");
+
+    executor.runAll();
+
+    assertThat(received, contains("MODIFIED pod1", "DELETED pod2", "ADDED pod3"));
+  }
+
+  @Test
+  void whenQueueAtCapacity_stillQueueEventForNewResource() {
+    send("ADDED", "pod1");
+    send("ADDED", "pod2");
+    send("ADDED", "pod3");
+    send("ADDED", "pod4");
+
+    executor.runAll();
+
+    assertThat(received, contains("ADDED pod1", "ADDED pod2", "ADDED pod3", "ADDED pod4"));
+  }
+
+  @Test
+  void actionAfterResponse_runsAfterListenerReceivesEvent() {
+    send("ADDED", "pod1", () -> received.add("after pod1"));
+
+    executor.runAll();
+
+    assertThat(received, contains("ADDED pod1", "after pod1"));
+  }
+
+  @Test
+  void whenEventReplaced_runActionsForBothEventsAfterReplacementReceived() {
+    send("ADDED", "pod1", () -> received.add("after ADDED"));
+    send("ADDED", "pod2");
+    send("ADDED", "pod3");
+    send("MODIFIED", "pod1", () -> received.add("after MODIFIED"));
+
+    executor.runAll();
+
+    assertThat(received, contains("MODIFIED pod1", "after ADDED", "after MODIFIED", "ADDED pod2", "ADDED pod3"));
+  }
+
+  @Test
+  void whenListenerFails_continueWithNextEvent() {
+    send("ADDED", "bad");
+    send("ADDED", "pod1");
+
+    executor.runAll();
+
+    assertThat(received, contains("ADDED pod1"));
+  }
+
+  @Test
+  void whenManyEventsQueued_drainInBatches() {
+    for (int i = 0; i < 100; i++) {
+      send("ADDED", "pod" + i);
+    }
+
+    executor.runNext();
+
+    assertThat(executor.tasks.size(), equalTo(1));
+    executor.runAll();
+    assertThat(received.size(), equalTo(100));
+  }
+
+  static class ManualExecutor implements Executor {
+    private final Deque<Runnable> tasks = new ArrayDeque<>();
+
+    @Override
+    public void execute(Runnable command) {
+      tasks.add(command);
+    }
+
+    void runNext() {
+      tasks.poll().run();
+    }
+
+    void runAll() {
+      while (!tasks.isEmpty()) {
+        runNext();
+      }
+    }
+  }
+}
@@ -24,7 +24,9 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static java.net.HttpURLConnection.HTTP_GATEWAY_TIMEOUT;
 import static java.net.HttpURLConnection.HTTP_GONE;
+import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
 import static oracle.kubernetes.operator.builders.EventMatcher.addEvent;
 import static oracle.kubernetes.operator.builders.EventMatcher.modifyEvent;
 import static oracle.kubernetes.operator.builders.StubWatchFactory.AllWatchesClosedListener;
@@ -149,6 +151,10 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
     return WatchEvent.createErrorEvent(HTTP_GONE).toWatchResponse();
   }
 
+  private Watch.Response<Object> createErrorResponse(int statusCode) {
+    return WatchEvent.createErrorEvent(statusCode).toWatchResponse();
+  }
+
   private Watch.Response<Object> createErrorWithoutStatusResponse() {
     return WatchEvent.createErrorEventWithoutStatus().toWatchResponse();
   }
@@ -212,6 +218,50 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
     assertThat(StubWatchFactory.getRequestParameters().get(1), hasEntry("resourceVersion", "0"));
   }
 
+  @SuppressWarnings({"rawtypes"})
+  @Test
+  void afterErrorWithOtherStatus_nextRequestResumesFromLastResourceVersion() {
+    Watch.Response[] firstSet
+          = {createAddResponse(createObjectWithMetaData()), createErrorResponse(HTTP_INTERNAL_ERROR)};
+    StubWatchFactory.addCallResponses(firstSet);
+    scheduleAddResponse(createObjectWithMetaData());
+
+    createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
+
+    assertThat(
+        StubWatchFactory.getRequestParameters().get(1),
+        hasEntry("resourceVersion", INITIAL_RESOURCE_VERSION.toString()));
+  }
+
+  @Test
+  void afterTooLargeResourceVersionError_nextRequestSendsResourceVersionZero() {
+    StubWatchFactory.addCallResponses(createErrorResponse(HTTP_GATEWAY_TIMEOUT));
+    scheduleDeleteResponse(createObjectWithMetaData());
+
+    createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
+
+    assertThat(StubWatchFactory.getRequestParameters().get(1), hasEntry("resourceVersion", "0"));
+  }
+
+  @SuppressWarnings({"rawtypes"})
+  @Test
+  void bookmarkEvents_areNotSentToListeners() {
+    Object object = createObjectWithMetaData();
+    Watch.Response[] events = {createBookmarkResponse(createObjectWithMetaData()), createAddResponse(object)};
+    StubWatchFactory.addCallResponses(events);
+
+    createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
+
+    assertThat(callBacks, contains(addEvent(object)));
+  }
+
+  @Test
+  void watchRequests_allowBookmarks() {
+    sendInitialRequest(INITIAL_RESOURCE_VERSION);
+
+    assertThat(StubWatchFactory.getRequestParameters().get(0), hasEntry("allowWatchBookmarks", "true"));
+  }
+
   @Test
   void afterDelete_nextRequestSendsIncrementedResourceVersion() {
     scheduleDeleteResponse(createObjectWithMetaData());
@@ -37,6 +37,7 @@ public class StubWatchFactory<T> implements WatchFactory<T> {
   private static final Pattern URL_PARAMETERS = Pattern.compile(PARAMETERS_PATTERN);
   private static StubWatchFactory<?> factory;
   private static List<Map<String, String>> requestParameters;
+  private static List<String> requestPaths;
   private static RuntimeException exceptionOnNext;
   private static AllWatchesClosedListener listener;
 
@@ -54,6 +55,7 @@ public class StubWatchFactory<T> implements WatchFactory<T> {
   public static Memento install() throws NoSuchFieldException {
     factory = new StubWatchFactory<>();
     requestParameters = new ArrayList<>();
+    requestPaths = new ArrayList<>();
     exceptionOnNext = null;
 
     return StaticStubSupport.install(WatchImpl.class, "FACTORY", factory);
@@ -80,6 +82,10 @@ public class StubWatchFactory<T> implements WatchFactory<T> {
     return requestParameters;
   }
 
+  public static List<String> getRequestPaths() {
+    return requestPaths;
+  }
+
   /**
    * Programs the stub to throw the specified exception when {@link Iterator#next()} is invoked.
    * @param e the exception to throw
@@ -101,6 +107,7 @@ public class StubWatchFactory<T> implements WatchFactory<T> {
   public Watchable<T> createWatch(ApiClient client, Call call, Type type) {
     try {
       addRecordedParameters(getParameters(call));
+      requestPaths.add(call.request().url().encodedPath());
 
       if (nothingToDo()) {
         return new WatchStub<>(Collections.emptyList());
@@ -8,6 +8,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.logging.LogRecord;
 
 import com.meterware.simplestub.Memento;
 import io.kubernetes.client.openapi.ApiCallback;
@@ -40,6 +41,8 @@ import static oracle.kubernetes.operator.DomainFailureReason.Introspection;
 import static oracle.kubernetes.operator.DomainFailureReason.Kubernetes;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
 import static oracle.kubernetes.operator.calls.AsyncRequestStep.RESPONSE_COMPONENT_NAME;
+import static oracle.kubernetes.operator.logging.MessageKeys.CLIENT_WAIT_TIMEOUT;
+import static oracle.kubernetes.utils.LogMatcher.containsWarning;
 import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.Failed;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.allOf;
@@ -87,6 +90,8 @@ class AsyncRequestStepTest {
           null,
           null);
   private final List<Memento> mementos = new ArrayList<>();
+  private final List<LogRecord> logRecords = new ArrayList<>();
+  private TestUtils.ConsoleHandlerMemento consoleMemento;
   private final DomainList smallList = generateDomainList(5);
   private final DomainList largeListPartOne
       = generateDomainList(50).withMetadata(new V1ListMeta()._continue(CONTINUE));
@@ -103,7 +108,7 @@ class AsyncRequestStepTest {
 
   @BeforeEach
   public void setUp() throws NoSuchFieldException {
-    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(consoleMemento = TestUtils.silenceOperatorLogger());
     mementos.add(ClientFactoryStub.install());
     mementos.add(SystemClockTestSupport.installClock());
 
@@ -136,6 +141,27 @@ class AsyncRequestStepTest {
     assertThat(callFactory.invokedWith(requestParams), is(true));
   }
 
+  @Test
+  void whenNoClientAvailableWithinTimeout_reportTimeoutWithoutSendingRequest() {
+    consoleMemento.collectLogMessages(logRecords, CLIENT_WAIT_TIMEOUT);
+    ClientPool pool = new ClientPool();
+    pool.setMaxAsyncSize(1);
+    pool.takeAsync(client -> {
+    });
+    callFactory.clearRequest();
+
+    testSupport.runSteps(createAsyncRequestStep(pool));
+    testSupport.setTime(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+    assertThat(logRecords, containsWarning(CLIENT_WAIT_TIMEOUT));
+    assertThat(callFactory.invokedWith(requestParams), is(false));
+  }
+
+  private AsyncRequestStep<DomainList> createAsyncRequestStep(ClientPool pool) {
+    return new AsyncRequestStep<>(nextStep, requestParams, callFactory, pool, TIMEOUT_SECONDS, MAX_RETRY_COUNT,
+          null, null, null);
+  }
+
   @Test
   void afterSuccessfulCallback_nextStepAppliedWithValue() {
     callFactory.sendSuccessfulCallback(smallList);
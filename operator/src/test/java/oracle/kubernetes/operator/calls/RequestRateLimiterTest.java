@@ -0,0 +1,198 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.calls.RequestRateLimiter.Priority;
+import oracle.kubernetes.operator.work.AsyncFiber;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.calls.RequestRateLimiter.Priority.HIGH;
+import static oracle.kubernetes.operator.calls.RequestRateLimiter.Priority.LOW;
+import static oracle.kubernetes.operator.calls.RequestRateLimiter.Priority.NORMAL;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+
+class RequestRateLimiterTest {
+  private static final int REQUESTS_PER_SECOND = 2;
+  private static final int BURST = 2;
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final List<String> requestsSent = new ArrayList<>();
+  private final FiberStub fiber = new FiberStub();
+  private final RequestRateLimiter limiter = new RequestRateLimiter();
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(SystemClockTestSupport.installClock());
+    limiter.configure(REQUESTS_PER_SECOND, BURST);
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private void admit(Priority priority, String name) {
+    admit(priority, fiber, name);
+  }
+
+  private void admit(Priority priority, AsyncFiber requestFiber, String name) {
+    limiter.admit(priority, requestFiber, () -> requestsSent.add(name));
+  }
+
+  @Test
+  void whileTokensAvailable_sendRequestsImmediately() {
+    admit(NORMAL, "a");
+    admit(NORMAL, "b");
+
+    assertThat(requestsSent, contains("a", "b"));
+    assertThat(fiber.scheduled, empty());
+  }
+
+  @Test
+  void whenTokensUsed_scheduleDrainForNextToken() {
+    admit(NORMAL, "a");
+    admit(NORMAL, "b");
+    admit(NORMAL, "c");
+
+    assertThat(requestsSent, contains("a", "b"));
+    assertThat(fiber.scheduled, hasSize(1));
+    assertThat(fiber.delays, contains(500L));
+  }
+
+  @Test
+  void whileDrainScheduled_dontScheduleAnother() {
+    admit(NORMAL, "a");
+    admit(NORMAL, "b");
+    admit(NORMAL, "c");
+    admit(NORMAL, "d");
+
+    assertThat(fiber.scheduled, hasSize(1));
+  }
+
+  @Test
+  void whenDrainRuns_sendWaitingRequestsInPriorityOrder() {
+    admit(NORMAL, "a");
+    admit(NORMAL, "b");
+    admit(LOW, "event");
+    admit(NORMAL, "read");
+    admit(HIGH, "status");
+
+    SystemClockTestSupport.increment();
+    fiber.runScheduled();
+
+    assertThat(requestsSent, contains("a", "b", "status", "read"));
+  }
+
+  @Test
+  void whenRequestsRemainAfterDrain_scheduleAnother() {
+    admit(NORMAL, "a");
+    admit(NORMAL, "b");
+    admit(LOW, "c");
+    admit(LOW, "d");
+    admit(LOW, "e");
+
+    SystemClockTestSupport.increment();
+    fiber.runScheduled();
+
+    assertThat(fiber.scheduled, hasSize(1));
+    assertThat(limiter.getWaitingCounts().get(List.of("low")), equalTo(1));
+  }
+
+  @Test
+  void whileRequestsWait_newRequestsWaitBehindThem() {
+    admit(NORMAL, "a");
+    admit(NORMAL, "b");
+    admit(NORMAL, "c");
+    SystemClockTestSupport.increment();
+    admit(NORMAL, "d");
+
+    assertThat(requestsSent, contains("a", "b"));
+  }
+
+  @Test
+  void whenFiberCancelledWhileWaiting_dontSendItsRequest() {
+    final FiberStub cancelledFiber = new FiberStub();
+    admit(NORMAL, "a");
+    admit(NORMAL, "b");
+    admit(NORMAL, cancelledFiber, "cancelled");
+    admit(NORMAL, "c");
+
+    cancelledFiber.cancelled = true;
+    SystemClockTestSupport.increment();
+    cancelledFiber.runScheduled();
+
+    assertThat(requestsSent, contains("a", "b", "c"));
+    assertThat(limiter.getWaitingCounts().get(List.of("normal")), equalTo(0));
+  }
+
+  @Test
+  void whenNoRateConfigured_sendRequestsImmediately() {
+    limiter.configure(0, BURST);
+
+    for (int i = 0; i < 5; i++) {
+      admit(LOW, "request" + i);
+    }
+
+    assertThat(requestsSent, hasSize(5));
+  }
+
+  @Test
+  void classifyCallsByPriority() {
+    assertThat(Priority.forCall("replaceDomainStatus"), equalTo(HIGH));
+    assertThat(Priority.forCall("createPod"), equalTo(HIGH));
+    assertThat(Priority.forCall("createEvent"), equalTo(LOW));
+    assertThat(Priority.forCall("listPod"), equalTo(NORMAL));
+    assertThat(Priority.forCall("readConfigMap"), equalTo(NORMAL));
+  }
+
+  static class FiberStub implements AsyncFiber {
+    private final List<Runnable> scheduled = new ArrayList<>();
+    private final List<Long> delays = new ArrayList<>();
+    private boolean cancelled;
+
+    void runScheduled() {
+      List<Runnable> toRun = new ArrayList<>(scheduled);
+      scheduled.clear();
+      toRun.forEach(Runnable::run);
+    }
+
+    @Override
+    public void resume(Packet resumePacket) {
+    }
+
+    @Override
+    public void terminate(Throwable t, Packet packet) {
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return cancelled;
+    }
+
+    @Override
+    public void scheduleOnce(long timeout, TimeUnit unit, Runnable runnable) {
+      scheduled.add(runnable);
+      delays.add(unit.toMillis(timeout));
+    }
+
+    @Override
+    public Fiber createChildFiber() {
+      return null;
+    }
+  }
+}
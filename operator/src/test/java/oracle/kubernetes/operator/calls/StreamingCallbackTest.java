@@ -0,0 +1,168 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+import io.kubernetes.client.openapi.ApiCallback;
+import io.kubernetes.client.openapi.ApiException;
+import okhttp3.Call;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.Okio;
+import okio.Source;
+import okio.Timeout;
+import oracle.kubernetes.operator.helpers.IntrospectorResult;
+import org.junit.jupiter.api.Test;
+
+import static com.meterware.simplestub.Stub.createStub;
+import static java.lang.System.lineSeparator;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+class StreamingCallbackTest {
+
+  private static final int CHUNK_SIZE = 7;
+  private static final String LOG = String.join("\n",
+        "@[2021-01-01T00:00:00.000000Z][introspectDomain.sh:100][INFO] starting",
+        ">>> /u01/introspect/domain1/topology.yaml",
+        "domainValid: true",
+        "  name: domaine_été",
+        ">>> EOF",
+        ">>> /u01/introspect/domain1/secrets.md5",
+        "abcd",
+        ">>> EOF") + "\n";
+
+  private final CallbackStub callback = new CallbackStub();
+  private final StreamingCallback<IntrospectorResult> streamingCallback
+        = new StreamingCallback<>(IntrospectorResult::parse, callback);
+
+  @Test
+  void whenBodyArrivesInChunks_parseWholeBody() {
+    streamingCallback.onResponse(createStub(Call.class), createResponse(200, new ChunkedSource(LOG)));
+
+    assertThat(callback.failure, nullValue());
+    assertThat(callback.result.getFiles(),
+          hasEntry("topology.yaml", "domainValid: true" + lineSeparator() + "  name: domaine_été"));
+    assertThat(callback.result.getFiles(), hasEntry("secrets.md5", "abcd"));
+  }
+
+  @Test
+  void whenReadFailsPartway_reportFailure() {
+    streamingCallback.onResponse(createStub(Call.class),
+          createResponse(200, new ChunkedSource(LOG).failingAfter(LOG.length() / 2)));
+
+    assertThat(callback.result, nullValue());
+    assertThat(callback.failure, notNullValue());
+    assertThat(callback.failure.getCause(), instanceOf(IOException.class));
+    assertThat(callback.statusCode, equalTo(200));
+  }
+
+  @Test
+  void whenResponseUnsuccessful_reportFailureWithBody() {
+    streamingCallback.onResponse(createStub(Call.class), createResponse(500, new ChunkedSource("pod not ready")));
+
+    assertThat(callback.result, nullValue());
+    assertThat(callback.failure.getCode(), equalTo(500));
+    assertThat(callback.failure.getResponseBody(), equalTo("pod not ready"));
+  }
+
+  @Test
+  void whenCallFails_reportFailure() {
+    streamingCallback.onFailure(createStub(Call.class), new IOException("connection refused"));
+
+    assertThat(callback.failure.getCause(), instanceOf(IOException.class));
+  }
+
+  private Response createResponse(int code, Source body) {
+    return new Response.Builder()
+          .request(new Request.Builder().url("http://localhost/api/v1/namespaces/ns/pods/pod1/log").build())
+          .protocol(Protocol.HTTP_1_1)
+          .code(code)
+          .message(code == 200 ? "OK" : "Internal Server Error")
+          .body(ResponseBody.create(Okio.buffer(body), null, -1))
+          .build();
+  }
+
+  // Delivers the UTF-8 bytes of a string a few at a time, as a chunked response body would arrive,
+  // so that lines and multi-byte characters are split between reads.
+  static class ChunkedSource implements Source {
+    private final Queue<byte[]> chunks = new ArrayDeque<>();
+    private int bytesBeforeFailure = Integer.MAX_VALUE;
+
+    ChunkedSource(String content) {
+      byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+      for (int i = 0; i < bytes.length; i += CHUNK_SIZE) {
+        chunks.add(Arrays.copyOfRange(bytes, i, Math.min(bytes.length, i + CHUNK_SIZE)));
+      }
+    }
+
+    ChunkedSource failingAfter(int numBytes) {
+      bytesBeforeFailure = numBytes;
+      return this;
+    }
+
+    @Override
+    public long read(Buffer sink, long byteCount) throws IOException {
+      if (bytesBeforeFailure <= 0) {
+        throw new IOException("connection reset");
+      } else if (chunks.isEmpty()) {
+        return -1;
+      }
+
+      byte[] chunk = chunks.remove();
+      sink.write(chunk);
+      bytesBeforeFailure -= chunk.length;
+      return chunk.length;
+    }
+
+    @Override
+    public Timeout timeout() {
+      return Timeout.NONE;
+    }
+
+    @Override
+    public void close() {
+    }
+  }
+
+  static class CallbackStub implements ApiCallback<IntrospectorResult> {
+    private IntrospectorResult result;
+    private ApiException failure;
+    private int statusCode;
+
+    @Override
+    public void onFailure(ApiException e, int statusCode, Map<String, List<String>> responseHeaders) {
+      this.failure = e;
+      this.statusCode = statusCode;
+    }
+
+    @Override
+    public void onSuccess(IntrospectorResult result, int statusCode, Map<String, List<String>> responseHeaders) {
+      this.result = result;
+      this.statusCode = statusCode;
+    }
+
+    @Override
+    public void onUploadProgress(long bytesWritten, long contentLength, boolean done) {
+    }
+
+    @Override
+    public void onDownloadProgress(long bytesRead, long contentLength, boolean done) {
+    }
+  }
+}
@@ -5,6 +5,7 @@ package oracle.kubernetes.operator.helpers;
 
 import static oracle.kubernetes.operator.logging.MessageKeys.ADMIN_SERVICE_CREATED;
 import static oracle.kubernetes.operator.logging.MessageKeys.ADMIN_SERVICE_EXISTS;
+import static oracle.kubernetes.operator.logging.MessageKeys.ADMIN_SERVICE_PATCHED;
 import static oracle.kubernetes.operator.logging.MessageKeys.ADMIN_SERVICE_REPLACED;
 
 class AdminServerServiceHelperTest extends ServiceHelperTest {
@@ -29,6 +30,11 @@ class AdminServerServiceHelperTest extends ServiceHelperTest {
       return ADMIN_SERVICE_REPLACED;
     }
 
+    @Override
+    public String getServicePatchedLogMessage() {
+      return ADMIN_SERVICE_PATCHED;
+    }
+
     @Override
     public Integer getExpectedListenPort() {
       return getAdminPort();
@@ -0,0 +1,97 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1EnvVar;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.util.Yaml;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.equalTo;
+
+class AnnotationHelperTest {
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final Map<String, String> podHashes = AnnotationHelper.createPodHashCache();
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    Function<Object, String> hashFunction = AnnotationHelper::computeHash;
+    mementos.add(StaticStubSupport.install(AnnotationHelper.class, "HASH_FUNCTION", hashFunction));
+    mementos.add(StaticStubSupport.install(AnnotationHelper.class, "POD_HASHES", podHashes));
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private V1Pod createPod(String envValue) {
+    return new V1Pod()
+          .metadata(new V1ObjectMeta().name("pod1").namespace("ns").putLabelsItem("label", "été"))
+          .spec(new V1PodSpec().addContainersItem(new V1Container().name("server").image("image:1")
+                .addEnvItem(new V1EnvVar().name("NAME").value(envValue))));
+  }
+
+  private String yamlHash(Object object) {
+    return DigestUtils.sha256Hex(Yaml.dump(object));
+  }
+
+  @Test
+  void podHash_matchesHashOfYaml() {
+    V1Pod pod = createPod("value");
+
+    assertThat(AnnotationHelper.createHash(pod), equalTo(yamlHash(pod)));
+  }
+
+  @Test
+  void configMapHash_matchesHashOfYaml() {
+    V1ConfigMap configMap = new V1ConfigMap()
+          .metadata(new V1ObjectMeta().name("map").namespace("ns"))
+          .data(Map.of("script.sh", "#!/bin/sh\necho hello\n"));
+
+    assertThat(AnnotationHelper.createHash(configMap), equalTo(yamlHash(configMap)));
+  }
+
+  @Test
+  void whenEqualPodHashedAgain_returnSameHash() {
+    String first = AnnotationHelper.createHash(createPod("value"));
+
+    assertThat(AnnotationHelper.createHash(createPod("value")), equalTo(first));
+  }
+
+  @Test
+  void whenEqualPodHashedAgain_reuseCachedHash() {
+    AnnotationHelper.createHash(createPod("value"));
+    AnnotationHelper.createHash(createPod("value"));
+
+    assertThat(podHashes, aMapWithSize(1));
+  }
+
+  @Test
+  void whenPodModifiedAfterHashing_hashReflectsModification() {
+    V1Pod pod = createPod("value");
+    AnnotationHelper.createHash(pod);
+
+    pod.getSpec().getContainers().get(0).getEnv().get(0).setValue("changed");
+
+    assertThat(AnnotationHelper.createHash(pod), equalTo(yamlHash(createPod("changed"))));
+  }
+}
@@ -276,7 +276,7 @@ class CallBuilderTest {
         }
 
         @Override
-        public void discard(ApiClient client) {
+        protected void onDiscard(ApiClient client) {
 
         }
       };
@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Test;
 
 import static oracle.kubernetes.operator.logging.MessageKeys.CLUSTER_SERVICE_CREATED;
 import static oracle.kubernetes.operator.logging.MessageKeys.CLUSTER_SERVICE_EXISTS;
+import static oracle.kubernetes.operator.logging.MessageKeys.CLUSTER_SERVICE_PATCHED;
 import static oracle.kubernetes.operator.logging.MessageKeys.CLUSTER_SERVICE_REPLACED;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
@@ -52,6 +53,11 @@ class ClusterServiceHelperTest extends ServiceHelperTest {
       return CLUSTER_SERVICE_REPLACED;
     }
 
+    @Override
+    public String getServicePatchedLogMessage() {
+      return CLUSTER_SERVICE_PATCHED;
+    }
+
     @Override
     public String getServerName() {
       return getManagedServerName();
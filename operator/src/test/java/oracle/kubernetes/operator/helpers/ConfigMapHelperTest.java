@@ -31,6 +31,7 @@ import static oracle.kubernetes.operator.logging.MessageKeys.CM_EXISTS;
 import static oracle.kubernetes.operator.logging.MessageKeys.CM_REPLACED;
 import static oracle.kubernetes.utils.LogMatcher.containsFine;
 import static oracle.kubernetes.utils.LogMatcher.containsInfo;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.sameInstance;
@@ -140,4 +141,53 @@ class ConfigMapHelperTest {
     testSupport.runSteps(ConfigMapHelper.createScriptConfigMapStep(DOMAIN_NS, PRODUCT_VERSION));
   }
 
+  @Test
+  void whenExistingConfigMapHasDifferentScripts_replaceIt() {
+    V1ConfigMap configMap = defineConfigMap(PRODUCT_VERSION);
+    configMap.getData().put("extra.sh", "echo extra");
+    testSupport.defineResources(AnnotationHelper.withSha256Hash(configMap, configMap.getData()));
+
+    testSupport.runSteps(ConfigMapHelper.createScriptConfigMapStep(DOMAIN_NS, PRODUCT_VERSION));
+
+    assertThat(logRecords, containsInfo(CM_REPLACED));
+  }
+
+  @Test
+  void scriptBundleIsLoadedOnce() {
+    assertThat(ConfigMapHelper.getScriptBundle(), sameInstance(ConfigMapHelper.getScriptBundle()));
+  }
+
+  @Test
+  void whenUnitTestHashInstalled_scriptBundleHashUsesIt() throws NoSuchFieldException {
+    Memento hashMemento = UnitTestHash.install();
+    try {
+      Map<String, String> scripts = ConfigMapHelper.getScriptBundle().getScripts();
+
+      assertThat(ConfigMapHelper.getScriptBundle().getHash(), equalTo(new UnitTestHash().apply(scripts)));
+    } finally {
+      hashMemento.revert();
+    }
+  }
+
+  @Test
+  void afterUnitTestHashReverted_scriptBundleHashUsesOriginalHashFunction() throws NoSuchFieldException {
+    UnitTestHash.install().revert();
+
+    Map<String, String> scripts = ConfigMapHelper.getScriptBundle().getScripts();
+    assertThat(ConfigMapHelper.getScriptBundle().getHash(), equalTo(AnnotationHelper.createHash(scripts)));
+  }
+
+  @Test
+  void whenConfigMapCreated_annotateWithHashOfScripts() {
+    testSupport.runSteps(ConfigMapHelper.createScriptConfigMapStep(DOMAIN_NS, PRODUCT_VERSION));
+
+    assertThat(AnnotationHelper.getHash(getCreatedConfigMap()),
+          equalTo(AnnotationHelper.createHash(ConfigMapHelper.loadScriptsFromClasspath(DOMAIN_NS))));
+    assertThat(logRecords, containsInfo(CM_CREATED));
+  }
+
+  private V1ConfigMap getCreatedConfigMap() {
+    return testSupport.<V1ConfigMap>getResources(CONFIG_MAP).get(0);
+  }
+
 }
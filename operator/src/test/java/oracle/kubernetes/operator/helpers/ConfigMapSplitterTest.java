@@ -21,6 +21,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.TOPOLOGY_YAML;
 import static oracle.kubernetes.operator.helpers.ConfigMapSplitterTest.TargetMatcher.isTarget;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
@@ -98,6 +99,98 @@ class ConfigMapSplitterTest {
     assertThat(result.get(2).numTargets, equalTo(0));
   }
 
+  @Test
+  void whenNoPreviousLocations_packSmallestEntriesFirst() {
+    data.put("a", createLargeData(0.4));
+    data.put("b", createLargeData(0.5));
+    data.put("c", createLargeData(0.6));
+
+    final List<TestTarget> result = splitter.split(data);
+
+    assertThat(result, Matchers.hasSize(2));
+    assertThat(result.get(0), isTarget(0, "a", "b"));
+    assertThat(result.get(1), isTarget(1, "c"));
+  }
+
+  @Test
+  void whenEntryFitsInPreviousLocation_keepItThere() {
+    data.put("a", createLargeData(0.4));
+    data.put("b", createLargeData(0.5));
+    data.put("c", createLargeData(0.6));
+
+    final List<TestTarget> result = splitter.split(data, Map.of("a", 1, "c", 0));
+
+    assertThat(result, Matchers.hasSize(2));
+    assertThat(result.get(0), isTarget(0, "c"));
+    assertThat(result.get(1), isTarget(1, "a", "b"));
+  }
+
+  @Test
+  void whenEntryNoLongerFitsInPreviousLocation_moveIt() {
+    data.put("a", createLargeData(0.4));
+    data.put("b", createLargeData(0.7));
+
+    final List<TestTarget> result = splitter.split(data, Map.of("a", 0, "b", 0));
+
+    assertThat(result, Matchers.hasSize(2));
+    assertThat(result.get(0), isTarget(0, "a"));
+    assertThat(result.get(1), isTarget(1, "b"));
+  }
+
+  @Test
+  void whenFirstMapEntryOutgrowsFreeSpace_keepItInFirstMap() {
+    splitter.keepInFirstMap(TOPOLOGY_YAML);
+    data.put("a", createLargeData(0.5));
+    data.put(TOPOLOGY_YAML, createLargeData(0.6));
+
+    final List<TestTarget> result = splitter.split(data, Map.of("a", 0, TOPOLOGY_YAML, 0));
+
+    assertThat(result, Matchers.hasSize(2));
+    assertThat(result.get(0), isTarget(0, TOPOLOGY_YAML));
+    assertThat(result.get(1), isTarget(1, "a"));
+  }
+
+  @Test
+  void whenFirstMapEntryPreviouslyElsewhere_moveItToFirstMap() {
+    splitter.keepInFirstMap(TOPOLOGY_YAML);
+    data.put("a", createLargeData(0.5));
+    data.put(TOPOLOGY_YAML, createLargeData(0.6));
+
+    final List<TestTarget> result = splitter.split(data, Map.of("a", 0, TOPOLOGY_YAML, 1));
+
+    assertThat(result.get(0), isTarget(0, TOPOLOGY_YAML));
+  }
+
+  @Test
+  void whenOneValueChanges_onlyItsTargetChanges() {
+    data.put("a", "aValue");
+    data.put("b", createLargeData(0.5));
+    data.put("c", createLargeData(0.6));
+    data.put("d", LARGE_DATA_VALUE);
+    final List<TestTarget> before = splitter.split(data);
+
+    data.put("a", "a much longer value");
+    final List<TestTarget> after = splitter.split(data, ConfigMapSplitter.getLocations(getData(before)));
+
+    assertThat(after, Matchers.hasSize(before.size()));
+    assertThat(getData(after).subList(1, after.size()), equalTo(getData(before).subList(1, before.size())));
+    assertThat(getData(after).get(0).get("a"), equalTo("a much longer value"));
+  }
+
+  @Test
+  void whenValueSplit_locationsOmitIt() {
+    data.put("a", "aValue");
+    data.put("b", LARGE_DATA_VALUE);
+
+    final Map<String, Integer> locations = ConfigMapSplitter.getLocations(getData(splitter.split(data)));
+
+    assertThat(locations, equalTo(Map.of("a", 0)));
+  }
+
+  private List<Map<String, String>> getData(List<TestTarget> targets) {
+    return targets.stream().map(t -> t.data).collect(Collectors.toList());
+  }
+
   private static class TestTarget implements SplitterTarget {
     private final Map<String, String> data;
     private final int index;
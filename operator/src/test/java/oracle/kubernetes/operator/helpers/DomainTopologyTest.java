@@ -17,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class DomainTopologyTest {
@@ -327,4 +328,22 @@ class DomainTopologyTest {
     assertFalse(domainTopology.getValidationErrors().isEmpty());
     assertFalse(domainTopology.getDomainValid());
   }
-}
\ No newline at end of file
+
+  @Test
+  void whenTopologyParsedAgain_returnIndependentConfiguration() {
+    DomainTopology first = Objects.requireNonNull(DomainTopology.parseDomainTopologyYaml(DOMAIN_TOPOLOGY));
+    DomainTopology second = Objects.requireNonNull(DomainTopology.parseDomainTopologyYaml(DOMAIN_TOPOLOGY));
+
+    assertNotSame(first.getDomain(), second.getDomain());
+    assertEquals(first.getDomain().getServerConfigs().keySet(), second.getDomain().getServerConfigs().keySet());
+  }
+
+  @Test
+  void convertTopologyYamlToJson() {
+    String json = DomainTopology.convertToJson(DOMAIN_TOPOLOGY);
+
+    assertNotNull(json);
+    assertTrue(json.startsWith("{\"domainValid\":true,\"domain\":{\"name\":\"base_domain\""));
+    assertTrue(json.contains("{\"name\":\"managed-server1\",\"listenPort\":7003,"));
+  }
+}
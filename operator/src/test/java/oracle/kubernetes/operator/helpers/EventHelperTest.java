@@ -9,6 +9,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 
@@ -24,7 +25,10 @@ import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.MakeRightDomainOperation;
 import oracle.kubernetes.operator.builders.WatchEvent;
 import oracle.kubernetes.operator.helpers.EventHelper.EventData;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.SystemClockTestSupport;
 import oracle.kubernetes.utils.TestUtils;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 import org.junit.jupiter.api.AfterEach;
@@ -43,6 +47,7 @@ import static oracle.kubernetes.operator.DomainStatusUpdater.createFailureRelate
 import static oracle.kubernetes.operator.EventConstants.DOMAIN_CHANGED_PATTERN;
 import static oracle.kubernetes.operator.EventConstants.DOMAIN_CREATED_EVENT;
 import static oracle.kubernetes.operator.EventConstants.DOMAIN_CREATED_PATTERN;
+import static oracle.kubernetes.operator.EventConstants.DOMAIN_DELETED_EVENT;
 import static oracle.kubernetes.operator.EventConstants.DOMAIN_DELETED_PATTERN;
 import static oracle.kubernetes.operator.EventConstants.DOMAIN_PROCESSING_ABORTED_PATTERN;
 import static oracle.kubernetes.operator.EventConstants.DOMAIN_PROCESSING_FAILED_EVENT;
@@ -67,6 +72,7 @@ import static oracle.kubernetes.operator.KubernetesConstants.OPERATOR_NAMESPACE_
 import static oracle.kubernetes.operator.KubernetesConstants.OPERATOR_POD_NAME_ENV;
 import static oracle.kubernetes.operator.ProcessingConstants.JOB_POD_NAME;
 import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.DOMAIN_CHANGED;
+import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.DOMAIN_COMPLETE;
 import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.DOMAIN_CREATED;
 import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.DOMAIN_DELETED;
 import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.DOMAIN_PROCESSING_ABORTED;
@@ -88,6 +94,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 
 class EventHelperTest {
+  private static final String COMPLETED = "completed";
   private static final String OPERATOR_POD_NAME = "my-weblogic-operator-1234";
   private static final String OP_NS = "operator-namespace";
 
@@ -641,6 +648,88 @@ class EventHelperTest {
             String.format(EventConstants.POD_CYCLE_STARTING_PATTERN, "12345", "abcde")), is(true));
   }
 
+  @Test
+  void whenEventsThrottled_identicalEventWithinWindowIsNotWritten() throws NoSuchFieldException {
+    installEventThrottle();
+
+    testSupport.runSteps(createEventStep(new EventData(DOMAIN_CREATED)));
+    dispatchAddedEventWatches();
+    testSupport.runSteps(createEventStep(new EventData(DOMAIN_CREATED)));
+
+    assertThat("Found 1 DOMAIN_CREATED event with expected count 1",
+        containsOneEventWithCount(getEvents(testSupport), DOMAIN_CREATED_EVENT, 1), is(true));
+  }
+
+  @Test
+  void whenEventsThrottled_afterWindowEnds_addMergedEventsToCount() throws NoSuchFieldException {
+    installEventThrottle();
+
+    testSupport.runSteps(createEventStep(new EventData(DOMAIN_CREATED)));
+    dispatchAddedEventWatches();
+    testSupport.runSteps(createEventStep(new EventData(DOMAIN_CREATED)));
+    SystemClockTestSupport.increment(EventThrottleTest.AGGREGATION_SECONDS);
+    testSupport.runSteps(createEventStep(new EventData(DOMAIN_CREATED)));
+
+    assertThat("Found 1 DOMAIN_CREATED event with expected count 3",
+        containsOneEventWithCount(getEvents(testSupport), DOMAIN_CREATED_EVENT, 3), is(true));
+  }
+
+  @Test
+  void whenEventsThrottled_afterWindowEndsWithoutIdenticalEvent_writeMergedCount() throws NoSuchFieldException {
+    installEventThrottle();
+
+    testSupport.runSteps(createEventStep(new EventData(DOMAIN_CREATED)));
+    dispatchAddedEventWatches();
+    testSupport.runSteps(createEventStep(new EventData(DOMAIN_CREATED)));
+    testSupport.runSteps(createEventStep(new EventData(DOMAIN_CREATED)));
+    SystemClockTestSupport.increment(EventThrottleTest.AGGREGATION_SECONDS);
+    testSupport.setTime(EventThrottleTest.AGGREGATION_SECONDS, TimeUnit.SECONDS);
+
+    assertThat("Found 1 DOMAIN_CREATED event with expected count 3",
+        containsOneEventWithCount(getEvents(testSupport), DOMAIN_CREATED_EVENT, 3), is(true));
+  }
+
+  @Test
+  void whenEventsMustWaitForThrottle_fiberWhichReportedThemContinues() throws NoSuchFieldException {
+    installEventThrottle();
+
+    Packet packet = testSupport.runSteps(createEventStep(new EventData(DOMAIN_CREATED),
+          createEventStep(new EventData(DOMAIN_CHANGED),
+                createEventStep(new EventData(DOMAIN_COMPLETE),
+                      createEventStep(new EventData(DOMAIN_DELETED), new MarkCompletedStep())))));
+
+    assertThat(packet.get(COMPLETED), equalTo(true));
+    assertThat(containsEvent(getEvents(testSupport), DOMAIN_DELETED_EVENT), is(false));
+  }
+
+  @Test
+  void whenEventsMustWaitForThrottle_writeThemWhenTokensAvailable() throws NoSuchFieldException {
+    installEventThrottle();
+
+    testSupport.runSteps(createEventStep(new EventData(DOMAIN_CREATED),
+          createEventStep(new EventData(DOMAIN_CHANGED),
+                createEventStep(new EventData(DOMAIN_COMPLETE),
+                      createEventStep(new EventData(DOMAIN_DELETED), null)))));
+    SystemClockTestSupport.increment();
+    testSupport.setTime(1, TimeUnit.SECONDS);
+
+    assertThat(containsEvent(getEvents(testSupport), DOMAIN_DELETED_EVENT), is(true));
+  }
+
+  private static class MarkCompletedStep extends Step {
+    @Override
+    public NextAction apply(Packet packet) {
+      packet.put(COMPLETED, true);
+      return doNext(packet);
+    }
+  }
+
+  private void installEventThrottle() throws NoSuchFieldException {
+    mementos.add(SystemClockTestSupport.installClock());
+    mementos.add(StaticStubSupport.install(EventThrottle.class, "instance",
+          new EventThrottle(() -> EventThrottleTest.THROTTLE_TUNING)));
+  }
+
   private void dispatchAddedEventWatches() {
     List<CoreV1Event> events = getEvents(testSupport);
     for (CoreV1Event event : events) {
@@ -0,0 +1,157 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.CoreV1Event;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1ObjectReference;
+import oracle.kubernetes.operator.TuningParameters.MainTuning;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.EventConstants.EVENT_NORMAL;
+import static oracle.kubernetes.operator.helpers.EventThrottle.MERGED;
+import static oracle.kubernetes.operator.helpers.EventThrottle.SHED;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+class EventThrottleTest {
+  static final int AGGREGATION_SECONDS = 10;
+  static final int EVENTS_PER_SECOND = 2;
+  static final int QUEUE_CAPACITY = 2;
+  static final MainTuning THROTTLE_TUNING = new MainTuning(5, 2, 2, 2, 2, 2, 2, 30, 2L, 2L, 120, 0, 0,
+        AGGREGATION_SECONDS, EVENTS_PER_SECOND, QUEUE_CAPACITY);
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private EventThrottle throttle = new EventThrottle(() -> THROTTLE_TUNING);
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(SystemClockTestSupport.installClock());
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private CoreV1Event createEvent(String namespace, String reason) {
+    return new CoreV1Event()
+          .metadata(new V1ObjectMeta().namespace(namespace).name(reason + ".1234"))
+          .type(EVENT_NORMAL)
+          .reason(reason)
+          .message("a message")
+          .involvedObject(new V1ObjectReference().kind("Domain").name("domain1"));
+  }
+
+  private long admit(CoreV1Event event) {
+    return throttle.admit(event, (e, next) -> next);
+  }
+
+  @Test
+  void whenFirstEventAdmitted_dontMergeIt() {
+    assertThat(admit(createEvent("ns1", "Changed")), equalTo(0L));
+  }
+
+  @Test
+  void whenIdenticalEventWithinWindow_mergeIt() {
+    admit(createEvent("ns1", "Changed"));
+
+    assertThat(admit(createEvent("ns1", "Changed")), equalTo(MERGED));
+  }
+
+  @Test
+  void whenEventInOtherNamespace_dontMergeIt() {
+    admit(createEvent("ns1", "Changed"));
+
+    assertThat(admit(createEvent("ns2", "Changed")), equalTo(0L));
+  }
+
+  @Test
+  void whenEventWithOtherReason_dontMergeIt() {
+    admit(createEvent("ns1", "Changed"));
+
+    assertThat(admit(createEvent("ns1", "Created")), equalTo(0L));
+  }
+
+  @Test
+  void afterWindowEnds_addNumberOfMergedEventsToCount() {
+    admit(createEvent("ns1", "Changed"));
+    admit(createEvent("ns1", "Changed"));
+    admit(createEvent("ns1", "Changed"));
+
+    SystemClockTestSupport.increment(AGGREGATION_SECONDS);
+    CoreV1Event event = createEvent("ns1", "Changed");
+    admit(event);
+
+    assertThat(event.getCount(), equalTo(3));
+  }
+
+  @Test
+  void whenEventShed_laterIdenticalEventIsNotMerged() {
+    useAllTokens();
+    throttle.reserve(true);
+    admit(createEvent("ns1", "Changed"));
+
+    SystemClockTestSupport.increment();
+
+    assertThat(admit(createEvent("ns1", "Changed")), equalTo(0L));
+  }
+
+  @Test
+  void whileTokensAvailable_dontWait() {
+    assertThat(throttle.reserve(true), equalTo(0L));
+    assertThat(throttle.reserve(true), equalTo(0L));
+    assertThat(throttle.reserve(true), equalTo(0L));
+  }
+
+  @Test
+  void afterTokensUsed_waitForNextTokens() {
+    useAllTokens();
+
+    assertThat(throttle.reserve(false), equalTo(500L));
+    assertThat(throttle.reserve(false), equalTo(1000L));
+  }
+
+  private void useAllTokens() {
+    for (int i = 0; i <= EVENTS_PER_SECOND; i++) {
+      throttle.reserve(false);
+    }
+  }
+
+  @Test
+  void whenTooManyEventsWaiting_shedEventsWhichMayBeShed() {
+    useAllTokens();
+    throttle.reserve(true);
+
+    assertThat(throttle.reserve(true), equalTo(SHED));
+    assertThat(throttle.reserve(false), equalTo(1000L));
+  }
+
+  @Test
+  void afterTimePasses_refillBucket() {
+    useAllTokens();
+
+    SystemClockTestSupport.increment();
+
+    assertThat(throttle.reserve(false), equalTo(0L));
+  }
+
+  @Test
+  void whenNotTuned_dontThrottleEvents() {
+    throttle = new EventThrottle(() -> null);
+
+    admit(createEvent("ns1", "Changed"));
+    useAllTokens();
+
+    assertThat(admit(createEvent("ns1", "Changed")), equalTo(0L));
+    assertThat(throttle.reserve(true), equalTo(0L));
+  }
+}
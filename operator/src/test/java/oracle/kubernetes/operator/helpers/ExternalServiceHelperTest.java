@@ -21,6 +21,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 
 import static oracle.kubernetes.operator.logging.MessageKeys.EXTERNAL_CHANNEL_SERVICE_CREATED;
 import static oracle.kubernetes.operator.logging.MessageKeys.EXTERNAL_CHANNEL_SERVICE_EXISTS;
+import static oracle.kubernetes.operator.logging.MessageKeys.EXTERNAL_CHANNEL_SERVICE_PATCHED;
 import static oracle.kubernetes.operator.logging.MessageKeys.EXTERNAL_CHANNEL_SERVICE_REPLACED;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.notNullValue;
@@ -62,6 +63,11 @@ class ExternalServiceHelperTest extends ServiceHelperTest {
       return EXTERNAL_CHANNEL_SERVICE_REPLACED;
     }
 
+    @Override
+    public String getServicePatchedLogMessage() {
+      return EXTERNAL_CHANNEL_SERVICE_PATCHED;
+    }
+
     @Override
     public String getServerName() {
       return getAdminServerName();
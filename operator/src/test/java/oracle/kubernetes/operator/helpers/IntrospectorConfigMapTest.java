@@ -116,7 +116,8 @@ class IntrospectorConfigMapTest {
     }
 
     void addToPacket() {
-      testSupport.addToPacket(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT, builder.toString());
+      testSupport.addToPacket(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT,
+            IntrospectorResult.parse(builder.toString()));
     }
 
   }
@@ -0,0 +1,87 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+
+import static java.lang.System.lineSeparator;
+import static oracle.kubernetes.operator.helpers.ConfigMapHelper.UPDATEDOMAINRESULT;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+
+class IntrospectorResultTest {
+
+  private static String lines(String... lines) {
+    return String.join("\n", lines) + "\n";
+  }
+
+  @Test
+  void parseFilesFromLog() {
+    IntrospectorResult result = IntrospectorResult.parse(lines(
+          ">>> /u01/introspect/domain1/topology.yaml",
+          "domainValid: true",
+          "  name: base_domain",
+          ">>> EOF",
+          ">>> /u01/introspect/domain1/secrets.md5",
+          "abcd",
+          ">>> EOF"));
+
+    assertThat(result.getFiles(),
+          hasEntry("topology.yaml", "domainValid: true" + lineSeparator() + "  name: base_domain"));
+    assertThat(result.getFiles(), hasEntry("secrets.md5", "abcd"));
+  }
+
+  @Test
+  void whenFileNotTerminated_ignoreIt() {
+    IntrospectorResult result = IntrospectorResult.parse(lines(">>> /u01/introspect/domain1/topology.yaml", "partial"));
+
+    assertThat(result.getFiles(), not(hasKey("topology.yaml")));
+  }
+
+  @Test
+  void recordUpdateDomainResult() {
+    IntrospectorResult result = IntrospectorResult.parse(lines(">>>  updatedomainResult=103", ">>> EOF"));
+
+    assertThat(result.getFiles(), hasEntry(UPDATEDOMAINRESULT, "103"));
+  }
+
+  @Test
+  void collectJobLogMessagesWithContinuationLines() {
+    IntrospectorResult result = IntrospectorResult.parse(lines(
+          "preamble",
+          "@[INFO] first",
+          "  more of first",
+          "@[SEVERE] second"));
+
+    assertThat(result.getJobLogMessages(),
+          contains("@[INFO] first" + lineSeparator() + "more of first", "@[SEVERE] second"));
+  }
+
+  @Test
+  void fileContentsAreNotPartOfJobLogMessages() {
+    IntrospectorResult result = IntrospectorResult.parse(lines(
+          "@[INFO] writing files",
+          ">>> /u01/introspect/domain1/secrets.md5",
+          "@[SEVERE] not a message",
+          ">>> EOF"));
+
+    assertThat(result.getJobLogMessages(), contains("@[INFO] writing files"));
+    assertThat(result.getFiles(), hasEntry("secrets.md5", "@[SEVERE] not a message"));
+  }
+
+  @Test
+  void whenLogEmpty_resultIsEmpty() throws IOException {
+    IntrospectorResult result = IntrospectorResult.parse(new StringReader(""));
+
+    assertThat(result.getFiles().keySet(), empty());
+    assertThat(result.getJobLogMessages(), empty());
+  }
+}
@@ -3,6 +3,7 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import java.io.IOException;
 import java.io.StringReader;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
@@ -70,6 +71,7 @@ import oracle.kubernetes.operator.calls.CallFactory;
 import oracle.kubernetes.operator.calls.CallResponse;
 import oracle.kubernetes.operator.calls.RequestParams;
 import oracle.kubernetes.operator.calls.RetryStrategy;
+import oracle.kubernetes.operator.calls.StreamingCallFactory;
 import oracle.kubernetes.operator.calls.SynchronousCallDispatcher;
 import oracle.kubernetes.operator.calls.SynchronousCallFactory;
 import oracle.kubernetes.operator.work.Component;
@@ -87,6 +89,7 @@ import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
 import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
 import static java.net.HttpURLConnection.HTTP_OK;
 import static java.net.HttpURLConnection.HTTP_UNAVAILABLE;
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_UNPROCESSABLE_ENTITY;
 import static oracle.kubernetes.operator.calls.AsyncRequestStep.CONTINUE;
 import static oracle.kubernetes.operator.calls.AsyncRequestStep.RESPONSE_COMPONENT_NAME;
 
@@ -376,6 +379,19 @@ public class KubernetesTestSupport extends FiberTestSupport {
     failure = new Failure(Operation.replace, resourceType, name, namespace, httpStatus);
   }
 
+  /**
+   * Specifies that a replace status operation should fail if it matches the specified conditions. Applies to
+   * namespaced resources and replaces any existing failure checks.
+   *
+   * @param resourceType the type of resource
+   * @param name the name of the resource
+   * @param namespace the namespace containing the resource
+   * @param httpStatus the status to associate with the failure
+   */
+  public void failOnReplaceStatus(String resourceType, String name, String namespace, int httpStatus) {
+    failure = new Failure(Operation.replaceStatus, resourceType, name, namespace, httpStatus);
+  }
+
   /**
    * Specifies that a replace operation should fail if it matches the specified conditions. Applies to
    * namespaced resources and replaces any existing failure checks.
@@ -497,6 +513,12 @@ public class KubernetesTestSupport extends FiberTestSupport {
         return callContext.patchResource(dataRepository);
       }
     },
+    patchStatus {
+      @Override
+      <T> Object execute(CallContext callContext, DataRepository<T> dataRepository) {
+        return callContext.patchResourceStatus(dataRepository);
+      }
+    },
     deleteCollection {
       @Override
       <T> Object execute(CallContext callContext, DataRepository<T> dataRepository) {
@@ -605,12 +627,14 @@ public class KubernetesTestSupport extends FiberTestSupport {
     public KubernetesTestSupportMemento() {
       CallBuilder.setStepFactory(new AsyncRequestStepFactoryImpl());
       CallBuilder.setCallDispatcher(new CallDispatcherImpl());
+      ResourceCache.CONFIG_MAPS.clear();
     }
 
     @Override
     public void revert() {
       CallBuilder.resetStepFactory();
       CallBuilder.resetCallDispatcher();
+      ResourceCache.CONFIG_MAPS.clear();
     }
 
     @Override
@@ -635,7 +659,7 @@ public class KubernetesTestSupport extends FiberTestSupport {
         String labelSelector,
         String resourceVersion) {
       return new KubernetesTestSupport.SimulatedResponseStep(
-          next, requestParams, fieldSelector, labelSelector, gracePeriodSeconds);
+          next, requestParams, factory, fieldSelector, labelSelector, gracePeriodSeconds);
     }
   }
 
@@ -928,6 +952,27 @@ public class KubernetesTestSupport extends FiberTestSupport {
       return resource;
     }
 
+    // Applies the patch to the resource, as Kubernetes does for the status subresource: only the status is
+    // updated, and a patch which cannot be applied, such as one with a failed test, is rejected as unprocessable.
+    public T patchResourceStatus(String name, String namespace, V1Patch body) {
+      T current = data.get(name);
+      if (current == null) {
+        throw new NotFoundException(getResourceName(), name, namespace);
+      }
+
+      final T patched;
+      try {
+        JsonPatch patch = Json.createPatch(fromV1Patch(body));
+        patched = fromJsonStructure(patch.apply(toJsonStructure(current)));
+      } catch (JsonException e) {
+        throw new HttpErrorException(new ApiException(HTTP_UNPROCESSABLE_ENTITY, e.getMessage()));
+      }
+      copyResourceStatus(patched, current);
+      incrementResourceVersion(getMetadata(current));
+      onUpdateActions.forEach(a -> a.accept(current));
+      return current;
+    }
+
     T fromJsonStructure(JsonStructure jsonStructure) {
       return new JSON().deserialize(jsonStructure.toString(), resourceType);
     }
@@ -1079,6 +1124,11 @@ public class KubernetesTestSupport extends FiberTestSupport {
       return inNamespace(namespace).patchResource(name, namespace, body);
     }
 
+    @Override
+    public T patchResourceStatus(String name, String namespace, V1Patch body) {
+      return inNamespace(namespace).patchResourceStatus(name, namespace, body);
+    }
+
     @Override
     List<T> getResources(String namespace, String fieldSelector, String... labelSelectors) {
       return inNamespace(namespace).getResources(fieldSelector, labelSelectors);
@@ -1199,6 +1249,11 @@ public class KubernetesTestSupport extends FiberTestSupport {
           requestParams.name, requestParams.namespace, (V1Patch) requestParams.body);
     }
 
+    private <T> T patchResourceStatus(DataRepository<T> dataRepository) {
+      return dataRepository.patchResourceStatus(
+          requestParams.name, requestParams.namespace, (V1Patch) requestParams.body);
+    }
+
     private <T> Object listResources(Integer limit, String cont, DataRepository<T> dataRepository) {
       return dataRepository.listResources(requestParams.namespace, limit, cont, fieldSelector, labelSelector);
     }
@@ -1214,11 +1269,13 @@ public class KubernetesTestSupport extends FiberTestSupport {
 
   private class SimulatedResponseStep extends Step {
     private final CallContext callContext;
+    private final CallFactory<?> factory;
 
     SimulatedResponseStep(
-          ResponseStep<?> next, RequestParams requestParams,
+          ResponseStep<?> next, RequestParams requestParams, CallFactory<?> factory,
           String fieldSelector, String labelSelector, Integer gracePeriodSeconds) {
       super(next);
+      this.factory = factory;
       callContext = new CallContext(requestParams, fieldSelector, labelSelector, gracePeriodSeconds);
       if (next != null) {
         next.setPrevious(this);
@@ -1243,7 +1300,7 @@ public class KubernetesTestSupport extends FiberTestSupport {
           }
         }
 
-        Object callResult = callContext.execute();
+        Object callResult = parseIfStreamed(callContext.execute());
         CallResponse<Object> callResponse = createResponse(callResult);
         packet.getComponents().put(RESPONSE_COMPONENT_NAME, Component.createFor(callResponse));
         // clear out earlier results.  Replicating the behavior as in AsyncRequestStep.apply()
@@ -1265,6 +1322,14 @@ public class KubernetesTestSupport extends FiberTestSupport {
       return this.callContext.requestParams;
     }
 
+    // A streaming call parses the simulated response body, as it would parse the body received from Kubernetes.
+    private Object parseIfStreamed(Object callResult) throws IOException {
+      if (factory instanceof StreamingCallFactory && callResult instanceof String) {
+        return ((StreamingCallFactory<?>) factory).getBodyParser().parse(new StringReader((String) callResult));
+      }
+      return callResult;
+    }
+
     /**
      * Access continue field, if any, from list metadata.
      * @param result Kubernetes list result
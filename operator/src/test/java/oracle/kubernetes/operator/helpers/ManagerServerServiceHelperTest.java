@@ -10,6 +10,7 @@ import static oracle.kubernetes.operator.KubernetesConstants.DEFAULT_EXPORTER_SI
 import static oracle.kubernetes.operator.helpers.ServiceHelperTest.PortMatcher.containsPort;
 import static oracle.kubernetes.operator.logging.MessageKeys.MANAGED_SERVICE_CREATED;
 import static oracle.kubernetes.operator.logging.MessageKeys.MANAGED_SERVICE_EXISTS;
+import static oracle.kubernetes.operator.logging.MessageKeys.MANAGED_SERVICE_PATCHED;
 import static oracle.kubernetes.operator.logging.MessageKeys.MANAGED_SERVICE_REPLACED;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
@@ -43,6 +44,11 @@ class ManagerServerServiceHelperTest extends ServiceHelperTest {
       return MANAGED_SERVICE_REPLACED;
     }
 
+    @Override
+    public String getServicePatchedLogMessage() {
+      return MANAGED_SERVICE_PATCHED;
+    }
+
     @Override
     public Integer getExpectedListenPort() {
       return getTestPort();
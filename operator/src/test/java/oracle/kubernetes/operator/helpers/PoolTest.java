@@ -0,0 +1,173 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+class PoolTest {
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final TestPool pool = new TestPool();
+  private final List<Object> received = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(SystemClockTestSupport.installClock());
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  @Test
+  void whenBelowMaximum_takeAsyncPassesObjectImmediately() {
+    pool.setMaxAsyncSize(2);
+
+    pool.takeAsync(received::add);
+    pool.takeAsync(received::add);
+
+    assertThat(received, hasSize(2));
+  }
+
+  @Test
+  void whenAtMaximum_takeAsyncWaits() {
+    pool.setMaxAsyncSize(1);
+    pool.takeAsync(received::add);
+
+    pool.takeAsync(received::add);
+
+    assertThat(received, hasSize(1));
+    assertThat(pool.getStatistics().getWaiting(), equalTo(1));
+  }
+
+  @Test
+  void whenAtMaximum_synchronousTakeDoesNotWait() {
+    pool.setMaxAsyncSize(1);
+    pool.takeAsync(received::add);
+
+    assertThat(pool.take(), not(sameInstance(received.get(0))));
+  }
+
+  @Test
+  void afterRecycleAsync_firstWaiterReceivesRecycledObject() {
+    List<Object> second = new ArrayList<>();
+    List<Object> third = new ArrayList<>();
+    pool.setMaxAsyncSize(1);
+    pool.takeAsync(received::add);
+    pool.takeAsync(second::add);
+    pool.takeAsync(third::add);
+
+    pool.recycleAsync(received.get(0));
+
+    assertThat(second, contains(sameInstance(received.get(0))));
+    assertThat(third, empty());
+  }
+
+  @Test
+  void afterDiscardAsync_waiterReceivesNewObject() {
+    List<Object> second = new ArrayList<>();
+    pool.setMaxAsyncSize(1);
+    pool.takeAsync(received::add);
+    pool.takeAsync(second::add);
+
+    pool.discardAsync(received.get(0));
+
+    assertThat(second, hasSize(1));
+    assertThat(second.get(0), not(sameInstance(received.get(0))));
+  }
+
+  @Test
+  void afterMaximumRaised_waitersReceiveObjects() {
+    pool.setMaxAsyncSize(1);
+    pool.takeAsync(received::add);
+    pool.takeAsync(received::add);
+
+    pool.setMaxAsyncSize(2);
+
+    assertThat(received, hasSize(2));
+  }
+
+  @Test
+  void afterRecycle_takeReturnsSameObject() {
+    Object instance = pool.take();
+    pool.recycle(instance);
+
+    assertThat(pool.take(), sameInstance(instance));
+  }
+
+  @Test
+  void whenObjectIdleTooLong_takeReturnsNewObject() {
+    pool.setMaxIdleSeconds(30);
+    Object instance = pool.take();
+    pool.recycle(instance);
+
+    SystemClockTestSupport.increment(31);
+
+    assertThat(pool.take(), not(sameInstance(instance)));
+    assertThat(pool.evicted, contains(sameInstance(instance)));
+  }
+
+  @Test
+  void whenObjectNotIdleTooLong_takeReturnsIt() {
+    pool.setMaxIdleSeconds(30);
+    Object instance = pool.take();
+    pool.recycle(instance);
+
+    SystemClockTestSupport.increment(29);
+
+    assertThat(pool.take(), sameInstance(instance));
+  }
+
+  @Test
+  void statisticsReportUsage() {
+    pool.setMaxAsyncSize(1);
+    pool.takeAsync(received::add);
+    pool.takeAsync(received::add);
+    pool.discard(pool.take());
+    pool.recycleAsync(received.get(0));
+
+    Pool.Statistics statistics = pool.getStatistics();
+    assertThat(statistics.getInUse(), equalTo(1));
+    assertThat(statistics.getCreated(), equalTo(2L));
+    assertThat(statistics.getDiscarded(), equalTo(1L));
+    assertThat(statistics.getWaits(), equalTo(1L));
+    assertThat(statistics.getWaiting(), equalTo(0));
+  }
+
+  static class TestPool extends Pool<Object> {
+    private final List<Object> evicted = new ArrayList<>();
+
+    @Override
+    protected Object create() {
+      return new Object();
+    }
+
+    @Override
+    protected void onDiscard(Object instance) {
+    }
+
+    @Override
+    protected void onEvict(Object instance) {
+      evicted.add(instance);
+    }
+  }
+}
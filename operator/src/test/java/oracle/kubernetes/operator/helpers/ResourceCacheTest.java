@@ -0,0 +1,190 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.LabelConstants;
+import oracle.kubernetes.operator.calls.CallResponse;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.helpers.ResourceCache.CONFIG_MAPS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+class ResourceCacheTest {
+
+  private static final String NS = "namespace";
+  private static final String NAME = "map";
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+
+  @BeforeEach
+  void setUp() {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(testSupport.install());
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private V1ConfigMap createConfigMap(String resourceVersion, String value) {
+    return new V1ConfigMap()
+          .metadata(new V1ObjectMeta().namespace(NS).name(NAME).resourceVersion(resourceVersion)
+                .putLabelsItem(LabelConstants.CREATEDBYOPERATOR_LABEL, "true"))
+          .data(Map.of("key", value));
+  }
+
+  private String getCachedValue() {
+    return CONFIG_MAPS.lookup(NS, NAME).map(V1ConfigMap::getData).map(d -> d.get("key")).orElse(null);
+  }
+
+  @Test
+  void whenResourceNotCreatedByOperator_dontCacheIt() {
+    V1ConfigMap configMap = createConfigMap("1", "value");
+    configMap.getMetadata().setLabels(null);
+
+    CONFIG_MAPS.add(configMap);
+
+    assertThat(CONFIG_MAPS.lookup(NS, NAME).isPresent(), is(false));
+  }
+
+  @Test
+  void afterWatchEventAdded_lookupReturnsCopyOfResource() {
+    V1ConfigMap configMap = createConfigMap("1", "value");
+
+    CONFIG_MAPS.update(new Watch.Response<>("ADDED", configMap));
+
+    assertThat(CONFIG_MAPS.lookup(NS, NAME).orElse(null), equalTo(configMap));
+    assertThat(CONFIG_MAPS.lookup(NS, NAME).orElse(null), not(sameInstance(configMap)));
+  }
+
+  @Test
+  void readAppliesFunctionToCachedResource() {
+    V1ConfigMap configMap = createConfigMap("1", "value");
+
+    CONFIG_MAPS.update(new Watch.Response<>("ADDED", configMap));
+
+    assertThat(CONFIG_MAPS.read(NS, NAME, c -> c).orElse(null), sameInstance(configMap));
+    assertThat(CONFIG_MAPS.read(NS, "other", c -> c).isPresent(), is(false));
+  }
+
+  @Test
+  void whenOlderVersionReceived_keepNewerVersion() {
+    CONFIG_MAPS.add(createConfigMap("5", "newer"));
+
+    CONFIG_MAPS.update(new Watch.Response<>("MODIFIED", createConfigMap("4", "older")));
+
+    assertThat(getCachedValue(), equalTo("newer"));
+  }
+
+  @Test
+  void whenNewerVersionReceived_replaceCachedVersion() {
+    CONFIG_MAPS.add(createConfigMap("4", "older"));
+
+    CONFIG_MAPS.update(new Watch.Response<>("MODIFIED", createConfigMap("5", "newer")));
+
+    assertThat(getCachedValue(), equalTo("newer"));
+  }
+
+  @Test
+  void afterWatchEventDeleted_resourceNotCached() {
+    CONFIG_MAPS.add(createConfigMap("1", "value"));
+
+    CONFIG_MAPS.update(new Watch.Response<>("DELETED", createConfigMap("2", "value")));
+
+    assertThat(getCachedValue(), nullValue());
+  }
+
+  @Test
+  void afterForgetNamespace_resourceNotCached() {
+    CONFIG_MAPS.add(createConfigMap("1", "value"));
+
+    CONFIG_MAPS.forgetNamespace(NS);
+
+    assertThat(getCachedValue(), nullValue());
+  }
+
+  @Test
+  void whenResourceCached_readStepDoesNotCallKubernetes() {
+    CONFIG_MAPS.add(createConfigMap("1", "cached"));
+    testSupport.defineResources(createConfigMap("1", "server"));
+    RecordingResponseStep responseStep = new RecordingResponseStep();
+
+    testSupport.runSteps(CONFIG_MAPS.createReadStep(NS, NAME, null,
+          new CallBuilder().readConfigMapAsync(NAME, NS, null, responseStep), responseStep));
+
+    assertThat(responseStep.value, equalTo("cached"));
+    assertThat(testSupport.getNumCalls(), equalTo(0));
+  }
+
+  @Test
+  void whenResourceNotCached_readStepCallsKubernetes() {
+    testSupport.defineResources(createConfigMap("1", "server"));
+    RecordingResponseStep responseStep = new RecordingResponseStep();
+
+    testSupport.runSteps(CONFIG_MAPS.createReadStep(NS, NAME, null,
+          new CallBuilder().readConfigMapAsync(NAME, NS, null, responseStep), responseStep));
+
+    assertThat(responseStep.value, equalTo("server"));
+    assertThat(testSupport.getNumCalls(), equalTo(1));
+  }
+
+  @Test
+  void whenResourceCached_readStepPassesModifiableCopy() {
+    V1ConfigMap configMap = createConfigMap("1", "cached");
+    CONFIG_MAPS.add(configMap);
+    RecordingResponseStep responseStep = new RecordingResponseStep();
+
+    testSupport.runSteps(CONFIG_MAPS.createReadStep(NS, NAME, null,
+          new CallBuilder().readConfigMapAsync(NAME, NS, null, responseStep), responseStep));
+    responseStep.result.getData().put("key", "changed");
+
+    assertThat(responseStep.result, not(sameInstance(configMap)));
+    assertThat(getCachedValue(), equalTo("cached"));
+  }
+
+  @Test
+  void whenResourceCached_readOnlyStepPassesCachedResource() {
+    V1ConfigMap configMap = createConfigMap("1", "cached");
+    CONFIG_MAPS.add(configMap);
+    RecordingResponseStep responseStep = new RecordingResponseStep();
+
+    testSupport.runSteps(CONFIG_MAPS.createReadOnlyStep(NS, NAME, null,
+          new CallBuilder().readConfigMapAsync(NAME, NS, null, responseStep), responseStep));
+
+    assertThat(responseStep.result, sameInstance(configMap));
+    assertThat(testSupport.getNumCalls(), equalTo(0));
+  }
+
+  static class RecordingResponseStep extends ResponseStep<V1ConfigMap> {
+    private V1ConfigMap result;
+    private String value;
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<V1ConfigMap> callResponse) {
+      result = callResponse.getResult();
+      value = result.getData().get("key");
+      return doNext(packet);
+    }
+  }
+}
@@ -4,11 +4,13 @@
 package oracle.kubernetes.operator.helpers;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.logging.Level;
@@ -59,15 +61,19 @@ import static oracle.kubernetes.operator.helpers.ServiceHelperTest.ServiceNameMa
 import static oracle.kubernetes.operator.helpers.ServiceHelperTest.UniquePortsMatcher.hasOnlyUniquePortNames;
 import static oracle.kubernetes.operator.logging.MessageKeys.ADMIN_SERVICE_CREATED;
 import static oracle.kubernetes.operator.logging.MessageKeys.ADMIN_SERVICE_EXISTS;
+import static oracle.kubernetes.operator.logging.MessageKeys.ADMIN_SERVICE_PATCHED;
 import static oracle.kubernetes.operator.logging.MessageKeys.ADMIN_SERVICE_REPLACED;
 import static oracle.kubernetes.operator.logging.MessageKeys.CLUSTER_SERVICE_CREATED;
 import static oracle.kubernetes.operator.logging.MessageKeys.CLUSTER_SERVICE_EXISTS;
+import static oracle.kubernetes.operator.logging.MessageKeys.CLUSTER_SERVICE_PATCHED;
 import static oracle.kubernetes.operator.logging.MessageKeys.CLUSTER_SERVICE_REPLACED;
 import static oracle.kubernetes.operator.logging.MessageKeys.EXTERNAL_CHANNEL_SERVICE_CREATED;
 import static oracle.kubernetes.operator.logging.MessageKeys.EXTERNAL_CHANNEL_SERVICE_EXISTS;
+import static oracle.kubernetes.operator.logging.MessageKeys.EXTERNAL_CHANNEL_SERVICE_PATCHED;
 import static oracle.kubernetes.operator.logging.MessageKeys.EXTERNAL_CHANNEL_SERVICE_REPLACED;
 import static oracle.kubernetes.operator.logging.MessageKeys.MANAGED_SERVICE_CREATED;
 import static oracle.kubernetes.operator.logging.MessageKeys.MANAGED_SERVICE_EXISTS;
+import static oracle.kubernetes.operator.logging.MessageKeys.MANAGED_SERVICE_PATCHED;
 import static oracle.kubernetes.operator.logging.MessageKeys.MANAGED_SERVICE_REPLACED;
 import static oracle.kubernetes.utils.LogMatcher.containsFine;
 import static oracle.kubernetes.utils.LogMatcher.containsInfo;
@@ -77,7 +83,9 @@ import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 @SuppressWarnings("ConstantConditions")
@@ -102,7 +110,11 @@ abstract class ServiceHelperTest extends ServiceHelperTestBase {
     MANAGED_SERVICE_REPLACED,
     EXTERNAL_CHANNEL_SERVICE_CREATED,
     EXTERNAL_CHANNEL_SERVICE_REPLACED,
-    EXTERNAL_CHANNEL_SERVICE_EXISTS
+    EXTERNAL_CHANNEL_SERVICE_EXISTS,
+    ADMIN_SERVICE_PATCHED,
+    MANAGED_SERVICE_PATCHED,
+    CLUSTER_SERVICE_PATCHED,
+    EXTERNAL_CHANNEL_SERVICE_PATCHED
   };
   private static final String OLD_LABEL = "oldLabel";
   private static final String OLD_ANNOTATION = "annotation";
@@ -414,23 +426,87 @@ abstract class ServiceHelperTest extends ServiceHelperTestBase {
   }
 
   @Test
-  void whenConfiguredLabelAdded_replaceService() {
-    verifyServiceReplaced(this::configureNewLabel);
+  void whenConfiguredLabelAdded_patchService() {
+    verifyServicePatched(this::configureNewLabel);
   }
 
   @Test
-  void whenConfiguredLabelChanged_replaceService() {
-    verifyServiceReplaced(this::changeConfiguredLabel);
+  void whenConfiguredLabelChanged_patchService() {
+    verifyServicePatched(this::changeConfiguredLabel);
   }
 
   @Test
-  void whenConfiguredAnnotationAdded_replaceService() {
-    verifyServiceReplaced(this::configureNewAnnotation);
+  void whenConfiguredAnnotationAdded_patchService() {
+    verifyServicePatched(this::configureNewAnnotation);
   }
 
   @Test
-  void whenConfiguredAnnotationChanged_replaceService() {
-    verifyServiceReplaced(this::changeConfiguredAnnotation);
+  void whenConfiguredAnnotationChanged_patchService() {
+    verifyServicePatched(this::changeConfiguredAnnotation);
+  }
+
+  @Test
+  void whenConfiguredLabelAdded_patchedServiceHasLabel() {
+    consoleHandlerMemento.ignoreMessage(testFacade.getServicePatchedLogMessage());
+    recordInitialService();
+    configureNewLabel();
+
+    runServiceHelper();
+
+    assertThat(getRecordedServiceLabels(), hasEntry("newLabel", "value"));
+  }
+
+  @Test
+  void whenConfiguredLabelRemoved_patchedServiceLacksLabel() {
+    consoleHandlerMemento.ignoreMessage(testFacade.getServicePatchedLogMessage());
+    recordInitialService();
+    addLabelFromEarlierConfiguration();
+
+    runServiceHelper();
+
+    assertThat(getRecordedServiceLabels(), not(hasKey("removedLabel")));
+  }
+
+  @Test
+  void whenConfiguredLabelAdded_patchedServiceIsCurrent() {
+    recordInitialService();
+    configureNewLabel();
+    runServiceHelper();
+    logRecords.clear();
+
+    runServiceHelper();
+
+    assertThat(logRecords, containsFine(testFacade.getServiceExistsLogMessage()));
+  }
+
+  @Test
+  void whenServiceCreatedWithoutSpecHash_andConfiguredLabelAdded_replaceService() {
+    verifyServiceReplaced(this::removeSpecHash, this::configureNewLabel);
+  }
+
+  private void verifyServicePatched(Runnable configurationMutator) {
+    recordInitialService();
+    configurationMutator.run();
+
+    runServiceHelper();
+
+    assertThat(logRecords, containsInfo(testFacade.getServicePatchedLogMessage()));
+  }
+
+  // the service has a label, and so a hash, which the domain no longer specifies
+  private void addLabelFromEarlierConfiguration() {
+    V1ObjectMeta metadata = testFacade.getRecordedService(domainPresenceInfo).getMetadata();
+    metadata.putLabelsItem("removedLabel", "value");
+    metadata.putAnnotationsItem(AnnotationHelper.SHA256_ANNOTATION, "earlierHash");
+  }
+
+  private Map<String, String> getRecordedServiceLabels() {
+    return testFacade.getRecordedService(domainPresenceInfo).getMetadata().getLabels();
+  }
+
+  private void removeSpecHash() {
+    Optional.ofNullable(testFacade.getRecordedService(domainPresenceInfo).getMetadata().getAnnotations())
+        .ifPresent(annotations -> annotations.remove(AnnotationHelper.SPEC_SHA256_ANNOTATION));
   }
 
   @Test
@@ -443,12 +519,12 @@ abstract class ServiceHelperTest extends ServiceHelperTestBase {
     verifyServiceReplaced(this::changeConfiguredSslListenPort);
   }
 
-  private void verifyServiceReplaced(Runnable configurationMutator) {
+  private void verifyServiceReplaced(Runnable... configurationMutators) {
     recordInitialService();
     if (testFacade instanceof ExternalServiceHelperTest.ExternalServiceTestFacade) {
       recordStrandedService();
     }
-    configurationMutator.run();
+    Arrays.stream(configurationMutators).forEach(Runnable::run);
 
     runServiceHelper();
 
@@ -589,6 +665,8 @@ abstract class ServiceHelperTest extends ServiceHelperTestBase {
 
     abstract String getServiceReplacedLogMessage();
 
+    abstract String getServicePatchedLogMessage();
+
     abstract String getServerName();
 
     abstract String getServiceName();
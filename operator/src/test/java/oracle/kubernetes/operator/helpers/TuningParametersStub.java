@@ -3,15 +3,18 @@
 
 package oracle.kubernetes.operator.helpers;
 
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import com.meterware.simplestub.Memento;
 import com.meterware.simplestub.StaticStubSupport;
 import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.TuningParametersImpl;
+import oracle.kubernetes.operator.work.Engine;
 import org.jetbrains.annotations.NotNull;
 
 import static com.meterware.simplestub.Stub.createStrictStub;
@@ -38,6 +41,7 @@ public abstract class TuningParametersStub implements TuningParameters {
   public static final int CALL_MAX_RETRY_COUNT = 3;
   public static final int CALL_TIMEOUT_SECONDS = 5;
   static Map<String, String> namedParameters;
+  static List<String> enabledFeatures;
 
   /**
    * Install memento.
@@ -46,6 +50,7 @@ public abstract class TuningParametersStub implements TuningParameters {
    */
   public static Memento install() throws NoSuchFieldException {
     namedParameters = new HashMap<>();
+    enabledFeatures = new ArrayList<>(List.of(ENABLED_FEATURE));
     return StaticStubSupport.install(
         TuningParametersImpl.class, "INSTANCE", createStrictStub(TuningParametersStub.class));
   }
@@ -75,6 +80,14 @@ public abstract class TuningParametersStub implements TuningParameters {
     namedParameters.put(key, value);
   }
 
+  /**
+   * Enables a feature gate for testing purposes.
+   * @param featureName the name of the feature to enable
+   */
+  public static void enableFeature(String featureName) {
+    enabledFeatures.add(featureName);
+  }
+
   @Override
   public MainTuning getMainTuning() {
     return new MainTuning(5, 2, 2, 2, 2, 2, 2, 30, 2L, 2L, 120);
@@ -82,7 +95,8 @@ public abstract class TuningParametersStub implements TuningParameters {
 
   @Override
   public CallBuilderTuning getCallBuilderTuning() {
-    return new CallBuilderTuning(CALL_REQUEST_LIMIT, CALL_MAX_RETRY_COUNT, CALL_TIMEOUT_SECONDS);
+    return new CallBuilderTuning(CALL_REQUEST_LIMIT, CALL_MAX_RETRY_COUNT, CALL_TIMEOUT_SECONDS, 0, 0,
+          getIntParameter("namespaceListConcurrency"), 0);
   }
 
   @Override
@@ -90,6 +104,12 @@ public abstract class TuningParametersStub implements TuningParameters {
     return new TuningParameters.WatchTuning(30, 0, 5, 1);
   }
 
+  @Override
+  public EngineTuning getEngineTuning() {
+    return new EngineTuning(
+          Engine.PLATFORM_THREADING, Engine.DEFAULT_THREAD_COUNT, Engine.DEFAULT_SCHEDULER_THREAD_COUNT);
+  }
+
   @Override
   public String get(Object key) {
     return namedParameters.get(key);
@@ -108,7 +128,11 @@ public abstract class TuningParametersStub implements TuningParameters {
 
   @Override
   public FeatureGates getFeatureGates() {
-    return new FeatureGates(Collections.singletonList(ENABLED_FEATURE));
+    return new FeatureGates(enabledFeatures);
+  }
+
+  private int getIntParameter(String key) {
+    return Optional.ofNullable(namedParameters.get(key)).map(Integer::parseInt).orElse(0);
   }
 
   @Override
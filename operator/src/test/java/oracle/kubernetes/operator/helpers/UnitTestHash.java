@@ -3,18 +3,46 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import java.util.List;
 import java.util.function.Function;
 
 import com.meterware.simplestub.Memento;
 import com.meterware.simplestub.StaticStubSupport;
 
 public class UnitTestHash implements Function<Object, String> {
+
+  /**
+   * Installs the unit test hash function. Also discards the cached script bundle, whose hash depends on the
+   * hash function, both on install and on revert.
+   * @return a memento which restores the original hash function and script bundle
+   * @throws NoSuchFieldException if the fields to replace are not defined
+   */
   public static Memento install() throws NoSuchFieldException {
-    return StaticStubSupport.install(AnnotationHelper.class, "HASH_FUNCTION", new UnitTestHash());
+    return new UnitTestHashMemento(List.of(
+          StaticStubSupport.install(AnnotationHelper.class, "HASH_FUNCTION", new UnitTestHash()),
+          StaticStubSupport.install(ConfigMapHelper.class, "scriptBundle", null)));
   }
 
   @Override
   public String apply(Object object) {
     return Integer.toString(object.hashCode());
   }
+
+  private static class UnitTestHashMemento implements Memento {
+    private final List<Memento> mementos;
+
+    UnitTestHashMemento(List<Memento> mementos) {
+      this.mementos = mementos;
+    }
+
+    @Override
+    public void revert() {
+      mementos.forEach(Memento::revert);
+    }
+
+    @Override
+    public <T> T getOriginalValue() {
+      return mementos.get(0).getOriginalValue();
+    }
+  }
 }
@@ -4,6 +4,7 @@
 package oracle.kubernetes.operator.logging;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
@@ -22,6 +23,7 @@ import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.is;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 class LoggingFormatterTest {
@@ -76,6 +78,31 @@ class LoggingFormatterTest {
     assertThat(getFormattedMessage(), allOf(hasEntry("code", "420"), hasEntry("body", "a response")));
   }
 
+  @Test
+  void whenThrowableIsApiException_writeHeadersAsLists() {
+    logRecord.setThrown(new ApiException(420, Map.of("name", List.of("value1", "value2")), "a response"));
+
+    assertThat(formatter.format(logRecord), containsString("\"headers\":{\"name\":[\"value1\",\"value2\"]}"));
+  }
+
+  @Test
+  void whenMessageContainsNewLines_escapeThem() {
+    logRecord.setMessage("first\nsecond");
+
+    assertThat(formatter.format(logRecord), containsString("\"message\":\"first\\nsecond\""));
+  }
+
+  @Test
+  void whenRecordsFormattedOnSameThread_eachLineContainsOnlyItsOwnRecord() throws JsonProcessingException {
+    formatter.format(new LogRecord(Level.INFO, "An earlier, longer message"));
+
+    final String line = formatter.format(logRecord);
+
+    assertThat(line.indexOf("\"timestamp\""), equalTo(line.lastIndexOf("\"timestamp\"")));
+    assertThat(line.endsWith("}\n"), is(true));
+    assertThat(getFormattedMessage().get("message"), equalTo("A simple one"));
+  }
+
   @Test
   void whenPacketLacksDomainPresence_domainUidIsEmpty() {
     assertThat(getFormattedMessageInFiber().get("domainUID"), equalTo(""));
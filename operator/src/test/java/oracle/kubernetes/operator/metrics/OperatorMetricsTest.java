@@ -0,0 +1,106 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.metrics;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OperatorMetricsTest {
+
+  private String format(Metric metric) {
+    StringBuilder builder = new StringBuilder();
+    metric.writeTo(builder);
+    return builder.toString();
+  }
+
+  @Test
+  void histogramReportsCumulativeBuckets() {
+    Histogram histogram = new Histogram("test_seconds", "A test histogram.", new double[] {.1, 1}, "op");
+    histogram.labels("read").observeNanos(TimeUnit.MILLISECONDS.toNanos(50));
+    histogram.labels("read").observeNanos(TimeUnit.MILLISECONDS.toNanos(500));
+    histogram.labels("read").observeNanos(TimeUnit.SECONDS.toNanos(5));
+
+    String text = format(histogram);
+
+    assertThat(text, containsString("# TYPE test_seconds histogram\n"));
+    assertThat(text, containsString("test_seconds_bucket{op=\"read\",le=\"0.1\"} 1\n"));
+    assertThat(text, containsString("test_seconds_bucket{op=\"read\",le=\"1\"} 2\n"));
+    assertThat(text, containsString("test_seconds_bucket{op=\"read\",le=\"+Inf\"} 3\n"));
+    assertThat(text, containsString("test_seconds_sum{op=\"read\"} 5.55\n"));
+    assertThat(text, containsString("test_seconds_count{op=\"read\"} 3\n"));
+  }
+
+  @Test
+  void afterHistogramRemoved_dontReportIt() {
+    Histogram histogram = new Histogram("test_seconds", "A test histogram.", new double[] {1}, "namespace", "domain");
+    histogram.labels("ns1", "domain1").observeNanos(1);
+    histogram.labels("ns1", "domain2").observeNanos(1);
+
+    histogram.remove("ns1", "domain1");
+
+    assertThat(format(histogram), not(containsString("domain=\"domain1\"")));
+    assertThat(format(histogram), containsString("test_seconds_count{namespace=\"ns1\",domain=\"domain2\"} 1\n"));
+  }
+
+  @Test
+  void afterHistogramsRemovedByLabel_dontReportThem() {
+    Histogram histogram = new Histogram("test_seconds", "A test histogram.", new double[] {1}, "namespace", "domain");
+    histogram.labels("ns1", "domain1").observeNanos(1);
+    histogram.labels("ns1", "domain2").observeNanos(1);
+    histogram.labels("ns2", "domain1").observeNanos(1);
+
+    histogram.removeAll("namespace", "ns1");
+
+    assertThat(format(histogram), not(containsString("namespace=\"ns1\"")));
+    assertThat(format(histogram), containsString("test_seconds_count{namespace=\"ns2\",domain=\"domain1\"} 1\n"));
+  }
+
+  @Test
+  void counterReportsValuesByLabel() {
+    Counter counter = new Counter("test_total", "A test counter.", "watcher", "type");
+    counter.labels("PodWatcher", "ADDED").increment();
+    counter.labels("PodWatcher", "ADDED").increment();
+
+    assertThat(format(counter), containsString("test_total{watcher=\"PodWatcher\",type=\"ADDED\"} 2\n"));
+  }
+
+  @Test
+  void computedMetricReportsSuppliedValues() {
+    ComputedMetric gauge = new ComputedMetric("test_gauge", "A test gauge.", "gauge",
+          () -> Map.of(List.of("ns1"), 3), "namespace");
+
+    assertThat(format(gauge), containsString("test_gauge{namespace=\"ns1\"} 3\n"));
+  }
+
+  @Test
+  void labelValuesAreEscaped() {
+    Counter counter = new Counter("test_total", "A test counter.", "name");
+    counter.labels("a\"b\\c\nd").increment();
+
+    assertThat(format(counter), containsString("test_total{name=\"a\\\"b\\\\c\\nd\"} 1\n"));
+  }
+
+  @Test
+  void whenWrongNumberOfLabelValues_throwException() {
+    Counter counter = new Counter("test_total", "A test counter.", "watcher", "type");
+
+    assertThrows(IllegalArgumentException.class, () -> counter.labels("PodWatcher"));
+  }
+
+  @Test
+  void scrapeIncludesOperatorMetrics() {
+    OperatorMetrics.WATCH_EVENTS.labels("TestWatcher", "MODIFIED").increment();
+
+    assertThat(OperatorMetrics.scrape(),
+          containsString("weblogic_operator_watch_events_total{watcher=\"TestWatcher\",type=\"MODIFIED\"}"));
+  }
+}
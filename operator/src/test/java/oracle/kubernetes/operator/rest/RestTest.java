@@ -42,7 +42,9 @@ import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
 import static java.net.HttpURLConnection.HTTP_UNAUTHORIZED;
 import static oracle.kubernetes.operator.rest.AuthenticationFilter.ACCESS_TOKEN_PREFIX;
 import static oracle.kubernetes.operator.rest.RestTest.JsonArrayMatcher.withValues;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 @SuppressWarnings("SameParameterValue")
@@ -59,6 +61,7 @@ class RestTest extends JerseyTest {
   private static final String DOMAIN1_HREF = DOMAINS_HREF + "/uid1";
   private static final String DOMAIN2_HREF = DOMAINS_HREF + "/uid2";
   private static final String DOMAIN1_CLUSTERS_HREF = DOMAIN1_HREF + "/clusters";
+  private static final String METRICS_HREF = "/metrics";
   private static final String ACCESS_TOKEN = "dummy token";
 
   private final List<Memento> mementos = new ArrayList<>();
@@ -176,6 +179,22 @@ class RestTest extends JerseyTest {
     assertThat(result, hasJsonPath("$.paths./operator.get.tags", withValues("Version")));
   }
 
+  @Test
+  void metricsEndPoint_returnsPrometheusText() {
+    Response response = createRequest(METRICS_HREF).get();
+
+    assertThat(response.getMediaType().toString(), startsWith("text/plain"));
+    assertThat(response.readEntity(String.class),
+          containsString("# TYPE weblogic_operator_step_duration_seconds histogram"));
+  }
+
+  @Test
+  void whenNoAuthenticationHeader_rejectMetricsRequest() {
+    excludeAuthorizationHeader();
+
+    assertThat(createRequest(METRICS_HREF).get().getStatus(), equalTo(HTTP_UNAUTHORIZED));
+  }
+
   @Test
   void domainsEndPoint_returnsListOfDomainsAndLinks() {
     defineDomains("uid1", "uid2");
@@ -0,0 +1,188 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.steps;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1ServiceSpec;
+import oracle.kubernetes.operator.DomainProcessorTestSetup;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
+import oracle.kubernetes.operator.http.HttpAsyncTestSupport;
+import oracle.kubernetes.operator.http.HttpResponseStub;
+import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.TerminalStep;
+import oracle.kubernetes.utils.TestUtils;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.meterware.simplestub.Stub.createStub;
+import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
+import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+
+class ReadServerStatesStepTest {
+  private static final String DOMAIN_NAME = "domain";
+  private static final String ADMIN_NAME = "admin-server";
+  private static final int ADMIN_PORT_NUM = 3456;
+  private static final String MANAGED_SERVER1 = "managed-server1";
+  private static final String MANAGED_SERVER2 = "managed-server2";
+  private static final String ADMIN_URL = "http://127.0.0.1:3456";
+  private static final String STATES_RESPONSE =
+      "{\n"
+          + "    \"serverLifeCycleRuntimes\": {\"items\": [\n"
+          + "        {\"name\": \"admin-server\", \"state\": \"RUNNING\"},\n"
+          + "        {\"name\": \"managed-server1\", \"state\": \"STARTING\"},\n"
+          + "        {\"name\": \"managed-server2\", \"state\": \"SHUTDOWN\"}\n"
+          + "    ]}\n"
+          + "}";
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final HttpAsyncTestSupport httpSupport = new HttpAsyncTestSupport();
+  private final TerminalStep terminalStep = new TerminalStep();
+  private final Map<String, String> serverStateMap = new ConcurrentHashMap<>();
+  private final Domain domain = DomainProcessorTestSetup.createTestDomain();
+  private final DomainPresenceInfo info = new DomainPresenceInfo(domain);
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    WlsDomainConfigSupport configSupport =
+        new WlsDomainConfigSupport(DOMAIN_NAME)
+            .withWlsServer(ADMIN_NAME, ADMIN_PORT_NUM)
+            .withWlsServer(MANAGED_SERVER1, 8001)
+            .withWlsServer(MANAGED_SERVER2, 8002)
+            .withAdminServerName(ADMIN_NAME);
+
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(testSupport.install());
+    mementos.add(httpSupport.install());
+    mementos.add(TuningParametersStub.install());
+
+    info.setAdminServerName(ADMIN_NAME);
+    info.setServerService(ADMIN_NAME, new V1Service().spec(new V1ServiceSpec().clusterIP("127.0.0.1")));
+    info.setServerPod(ADMIN_NAME, createReadyPod(ADMIN_NAME));
+    info.setServerPod(MANAGED_SERVER1, createPod(MANAGED_SERVER1));
+    testSupport.addDomainPresenceInfo(info);
+    testSupport.addToPacket(SERVER_STATE_MAP, serverStateMap);
+    testSupport.addToPacket(DOMAIN_TOPOLOGY, configSupport.createDomainConfig());
+
+    DomainProcessorTestSetup.defineSecretData(testSupport);
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private V1Pod createPod(String serverName) {
+    return new V1Pod().metadata(new V1ObjectMeta().name(serverName).namespace(DomainProcessorTestSetup.NS));
+  }
+
+  private V1Pod createReadyPod(String serverName) {
+    return createPod(serverName).status(
+          new V1PodStatus().phase("Running").addConditionsItem(new V1PodCondition().type("Ready").status("True")));
+  }
+
+  private void defineResponse(int status, String body) {
+    httpSupport.defineResponse(
+        HttpRequest.newBuilder()
+            .uri(URI.create(ADMIN_URL + "/management/weblogic/latest/domainRuntime/search"))
+            .POST(HttpRequest.BodyPublishers.noBody())
+            .build(),
+        createStub(HttpResponseStub.class, status, body));
+  }
+
+  private Map<String, String> getServerStateMap(Packet packet) {
+    return packet.getValue(SERVER_STATE_MAP);
+  }
+
+  @Test
+  void whenAdminServerResponds_recordStatesOfServersWithPods() {
+    defineResponse(200, STATES_RESPONSE);
+
+    Packet packet = testSupport.runSteps(ReadServerStatesStep.createReadServerStatesStep(5, terminalStep));
+
+    assertThat(getServerStateMap(packet), hasEntry(ADMIN_NAME, "RUNNING"));
+    assertThat(getServerStateMap(packet), hasEntry(MANAGED_SERVER1, "STARTING"));
+    assertThat(getServerStateMap(packet), not(hasKey(MANAGED_SERVER2)));
+  }
+
+  @Test
+  void whenAdminServerResponds_updateLastKnownStatus() {
+    defineResponse(200, STATES_RESPONSE);
+
+    testSupport.runSteps(ReadServerStatesStep.createReadServerStatesStep(5, terminalStep));
+
+    assertThat(info.getLastKnownServerStatus(MANAGED_SERVER1).getStatus(), equalTo("STARTING"));
+  }
+
+  @Test
+  void whenAdminServerResponds_sendOnlyOneRequest() {
+    defineResponse(200, STATES_RESPONSE);
+
+    testSupport.runSteps(ReadServerStatesStep.createReadServerStatesStep(5, terminalStep));
+
+    assertThat(httpSupport.getHandledRequests().size(), equalTo(1));
+  }
+
+  @Test
+  void whenAdminServerFails_leaveStateMapEmpty() {
+    defineResponse(500, "");
+
+    Packet packet = testSupport.runSteps(ReadServerStatesStep.createReadServerStatesStep(5, terminalStep));
+
+    assertThat(getServerStateMap(packet), anEmptyMap());
+    assertThat(terminalStep.wasRun(), is(true));
+  }
+
+  @Test
+  void whenAdminPodNotReady_dontSendRequest() {
+    info.setServerPod(ADMIN_NAME, createPod(ADMIN_NAME));
+    defineResponse(200, STATES_RESPONSE);
+
+    testSupport.runSteps(ReadServerStatesStep.createReadServerStatesStep(5, terminalStep));
+
+    assertThat(httpSupport.getHandledRequests().isEmpty(), is(true));
+    assertThat(terminalStep.wasRun(), is(true));
+  }
+
+  @Test
+  void whenNoAdminService_dontSendRequest() {
+    info.setServerService(ADMIN_NAME, null);
+    defineResponse(200, STATES_RESPONSE);
+
+    testSupport.runSteps(ReadServerStatesStep.createReadServerStatesStep(5, terminalStep));
+
+    assertThat(httpSupport.getHandledRequests().isEmpty(), is(true));
+  }
+
+  @Test
+  void whenResponseHasNoItems_parseToEmptyMap() throws Exception {
+    assertThat(ReadServerStatesStep.RecordServerStatesStep.parseServerStatesJson("{}"), anEmptyMap());
+    assertThat(ReadServerStatesStep.RecordServerStatesStep.parseServerStatesJson(null).get(ADMIN_NAME), nullValue());
+  }
+}
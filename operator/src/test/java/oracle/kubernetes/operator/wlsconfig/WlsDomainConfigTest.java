@@ -634,6 +634,52 @@ class WlsDomainConfigTest {
           containsInAnyOrder("standalone", "st1", "st2", "ds1", "ds2", "ds3"));
   }
 
+  @Test
+  void whenServersDefined_returnNamesOfTheirClusters() {
+    support.addWlsServer("standalone");
+    support.addWlsCluster("static", "st1", "st2");
+    support.addDynamicWlsCluster("dynamic", "ds1", "ds2", "ds3");
+    WlsDomainConfig domainConfig = support.createDomainConfig();
+
+    assertThat(domainConfig.getClusterName("st2"), equalTo("static"));
+    assertThat(domainConfig.getClusterName("ds3"), equalTo("dynamic"));
+    assertNull(domainConfig.getClusterName("standalone"));
+  }
+
+  @Test
+  void whenServersDefined_containsStandaloneAndClusteredServers() {
+    support.addWlsServer("standalone");
+    support.addDynamicWlsCluster("dynamic", "ds1", "ds2", "ds3");
+    WlsDomainConfig domainConfig = support.createDomainConfig();
+
+    assertTrue(domainConfig.containsServer("standalone"));
+    assertTrue(domainConfig.containsServer("ds2"));
+    assertFalse(domainConfig.containsServer("ds4"));
+  }
+
+  @Test
+  void afterServersAddedToDomain_lookupFindsThem() {
+    wlsDomainConfig.withAdminServer("admin-server", "admin-host", 7001);
+    assertNull(wlsDomainConfig.getServerConfig("ms1"));
+
+    wlsDomainConfig.addWlsServer("ms1", "host1", 8001);
+    wlsDomainConfig.withCluster(new WlsClusterConfig("cluster1"));
+
+    assertNotNull(wlsDomainConfig.getServerConfig("ms1"));
+    assertTrue(wlsDomainConfig.containsCluster("cluster1"));
+  }
+
+  @Test
+  void afterServerAddedToCluster_lookupFindsIt() {
+    WlsClusterConfig clusterConfig = new WlsClusterConfig("cluster1");
+    wlsDomainConfig.withCluster(clusterConfig);
+    assertFalse(wlsDomainConfig.containsServer("ms1"));
+
+    clusterConfig.addServerConfig(new WlsServerConfig("ms1", "host1", 8001));
+
+    assertThat(wlsDomainConfig.getClusterName("ms1"), equalTo("cluster1"));
+  }
+
   private boolean containsServer(WlsClusterConfig wlsClusterConfig, String serverName) {
     List<WlsServerConfig> serverConfigs = wlsClusterConfig.getServerConfigs();
     for (WlsServerConfig serverConfig : serverConfigs) {
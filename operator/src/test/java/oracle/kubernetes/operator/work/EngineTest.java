@@ -0,0 +1,142 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.TuningParameters.EngineTuning;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static oracle.kubernetes.operator.work.Engine.PLATFORM_THREADING;
+import static oracle.kubernetes.operator.work.Engine.VIRTUAL_THREADING;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class EngineTest {
+
+  private static final int NUM_FIBERS = 20;
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final List<ScheduledExecutorService> executors = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    mementos.add(TestUtils.silenceOperatorLogger());
+  }
+
+  @AfterEach
+  void tearDown() {
+    executors.forEach(ScheduledExecutorService::shutdownNow);
+    mementos.forEach(Memento::revert);
+  }
+
+  @Test
+  void inPlatformMode_runMoreBlockingFibersThanThreads_withinPoolLimit() throws InterruptedException {
+    Engine engine = createEngine(new EngineTuning(PLATFORM_THREADING, NUM_FIBERS, 1));
+
+    assertThat(allFibersRanConcurrently(engine), is(true));
+  }
+
+  @Test
+  void inVirtualMode_fibersAreNotLimitedBySchedulerPool() throws InterruptedException {
+    Engine engine = createEngine(new EngineTuning(VIRTUAL_THREADING, 1, 1));
+
+    assertThat(allFibersRanConcurrently(engine), is(true));
+  }
+
+  @Test
+  void inVirtualMode_delayedStepsResume() throws InterruptedException {
+    Engine engine = createEngine(new EngineTuning(VIRTUAL_THREADING, 1, 1));
+    CountDownLatch done = new CountDownLatch(1);
+
+    engine.createFiber().start(new DelayStep(), new Packet(), new CountingCallback(done));
+
+    assertThat(done.await(5, TimeUnit.SECONDS), is(true));
+  }
+
+  @Test
+  void inVirtualMode_scheduledCallablesAreHandedOffFromScheduler() throws Exception {
+    ScheduledExecutorService executor = createExecutor(new EngineTuning(VIRTUAL_THREADING, 1, 1));
+
+    ScheduledFuture<String> future = executor.schedule(() -> Thread.currentThread().getName(), 10, MILLISECONDS);
+
+    assertThat(future.get(5, TimeUnit.SECONDS), not(startsWith("engine-test-scheduler")));
+  }
+
+  private Engine createEngine(EngineTuning tuning) {
+    return new Engine(createExecutor(tuning));
+  }
+
+  private ScheduledExecutorService createExecutor(EngineTuning tuning) {
+    ScheduledExecutorService executor = Engine.wrappedExecutorService("test", null, tuning);
+    executors.add(executor);
+    return executor;
+  }
+
+  // Starts fibers which each block until all of them are running. That can only happen
+  // if each fiber has been given its own thread.
+  private boolean allFibersRanConcurrently(Engine engine) throws InterruptedException {
+    CountDownLatch started = new CountDownLatch(NUM_FIBERS);
+    CountDownLatch done = new CountDownLatch(NUM_FIBERS);
+    for (int i = 0; i < NUM_FIBERS; i++) {
+      engine.createFiber().start(new BlockingStep(started), new Packet(), new CountingCallback(done));
+    }
+    return done.await(5, TimeUnit.SECONDS);
+  }
+
+  private static class BlockingStep extends Step {
+    private final CountDownLatch started;
+
+    BlockingStep(CountDownLatch started) {
+      this.started = started;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      started.countDown();
+      try {
+        started.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return doNext(packet);
+    }
+  }
+
+  private static class DelayStep extends Step {
+    @Override
+    public NextAction apply(Packet packet) {
+      return doDelay(null, packet, 10, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private static class CountingCallback implements Fiber.CompletionCallback {
+    private final CountDownLatch done;
+
+    CountingCallback(CountDownLatch done) {
+      this.done = done;
+    }
+
+    @Override
+    public void onCompletion(Packet packet) {
+      done.countDown();
+    }
+
+    @Override
+    public void onThrowable(Packet packet, Throwable throwable) {
+    }
+  }
+}
@@ -0,0 +1,211 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+
+class FiberGateTest {
+  private static final String KEY = "domain1";
+  private static final int QUIET_MILLIS = 100;
+  private static final int MAX_DELAY_MILLIS = 1000;
+
+  private final FiberTestSupport testSupport = new FiberTestSupport();
+  private final FiberGate gate = testSupport.createFiberGate();
+  private final List<String> runSteps = new ArrayList<>();
+  private final List<Memento> mementos = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    mementos.add(TestUtils.silenceOperatorLogger());
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private void requestStart(String name, long quietMillis) {
+    requestStart(name, true, quietMillis);
+  }
+
+  private void requestStart(String name, boolean interrupt) {
+    requestStart(name, interrupt, QUIET_MILLIS);
+  }
+
+  private void requestStart(String name, boolean interrupt, long quietMillis) {
+    gate.startFiberCoalesced(KEY, interrupt, new RecordingStep(name), new Packet(), new NullCompletionCallback(),
+          quietMillis, MAX_DELAY_MILLIS);
+  }
+
+  private void requestStart(String name) {
+    requestStart(name, QUIET_MILLIS);
+  }
+
+  @Test
+  void whenQuietPeriodIsZero_startFiberImmediately() {
+    requestStart("one", 0);
+
+    assertThat(runSteps, contains("one"));
+  }
+
+  @Test
+  void firstRequest_startFiberImmediately() {
+    requestStart("one");
+
+    assertThat(runSteps, contains("one"));
+  }
+
+  @Test
+  void whenQuietPeriodNotElapsed_dontStartFollowingFiber() {
+    requestStart("one");
+    requestStart("two");
+
+    testSupport.setTime(QUIET_MILLIS - 1, TimeUnit.MILLISECONDS);
+
+    assertThat(runSteps, contains("one"));
+    assertThat(gate.getPendingStartCount(), equalTo(1));
+  }
+
+  @Test
+  void afterQuietPeriod_startOnlyLastFollowingFiber() {
+    requestStart("one");
+    testSupport.setTime(50, TimeUnit.MILLISECONDS);
+    requestStart("two");
+    testSupport.setTime(120, TimeUnit.MILLISECONDS);
+    requestStart("three");
+
+    testSupport.setTime(220, TimeUnit.MILLISECONDS);
+
+    assertThat(runSteps, contains("one", "three"));
+  }
+
+  @Test
+  void whenRequestsContinue_startFiberAfterMaximumDelay() {
+    for (int time = 0; time < QUIET_MILLIS + MAX_DELAY_MILLIS; time += QUIET_MILLIS / 2) {
+      testSupport.setTime(time, TimeUnit.MILLISECONDS);
+      requestStart("request at " + time);
+    }
+
+    testSupport.setTime(QUIET_MILLIS + MAX_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+
+    assertThat(runSteps, contains("request at 0", "request at 1000"));
+  }
+
+  @Test
+  void afterQuietPeriod_nextRequestStartsImmediately() {
+    requestStart("one");
+    testSupport.setTime(200, TimeUnit.MILLISECONDS);
+
+    requestStart("two");
+
+    assertThat(runSteps, contains("one", "two"));
+  }
+
+  @Test
+  void afterDeferredFiberStarted_nextRequestIsDeferredAgain() {
+    requestStart("one");
+    requestStart("two");
+    testSupport.setTime(QUIET_MILLIS, TimeUnit.MILLISECONDS);
+
+    requestStart("three");
+    testSupport.setTime(QUIET_MILLIS + 50, TimeUnit.MILLISECONDS);
+
+    assertThat(runSteps, contains("one", "two"));
+  }
+
+  @Test
+  void whenDeleteFollowedByRecheckInOneWindow_startDelete() {
+    requestStart("make-right", false);
+    requestStart("delete", true);
+    requestStart("recheck", false);
+
+    testSupport.setTime(MAX_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+
+    assertThat(runSteps, contains("make-right", "delete"));
+  }
+
+  @Test
+  void whenRecheckFollowsDelete_extendQuietPeriod() {
+    requestStart("make-right", false);
+    requestStart("delete", true);
+    testSupport.setTime(QUIET_MILLIS / 2, TimeUnit.MILLISECONDS);
+    requestStart("recheck", false);
+
+    testSupport.setTime(QUIET_MILLIS + 10, TimeUnit.MILLISECONDS);
+    assertThat(runSteps, contains("make-right"));
+
+    testSupport.setTime(QUIET_MILLIS + QUIET_MILLIS / 2, TimeUnit.MILLISECONDS);
+    assertThat(runSteps, contains("make-right", "delete"));
+  }
+
+  @Test
+  void whenDeleteFollowsRecheck_startDelete() {
+    requestStart("make-right", false);
+    requestStart("recheck", false);
+    requestStart("delete", true);
+
+    testSupport.setTime(MAX_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+
+    assertThat(runSteps, contains("make-right", "delete"));
+  }
+
+  @Test
+  void whenLaterInterruptingRequestFollowsDelete_startLaterRequest() {
+    requestStart("make-right", false);
+    requestStart("delete", true);
+    requestStart("recreate", true);
+
+    testSupport.setTime(MAX_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+
+    assertThat(runSteps, contains("make-right", "recreate"));
+  }
+
+  @Test
+  void countersReportRequestsAndStarts() {
+    requestStart("one");
+    requestStart("two");
+    requestStart("three");
+
+    testSupport.setTime(200, TimeUnit.MILLISECONDS);
+
+    assertThat(gate.getCoalescedRequestCount(), equalTo(3L));
+    assertThat(gate.getCoalescedStartCount(), equalTo(2L));
+  }
+
+  private class RecordingStep extends Step {
+    private final String name;
+
+    RecordingStep(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      runSteps.add(name);
+      return doNext(packet);
+    }
+  }
+
+  private static class NullCompletionCallback implements Fiber.CompletionCallback {
+    @Override
+    public void onCompletion(Packet packet) {
+    }
+
+    @Override
+    public void onThrowable(Packet packet, Throwable throwable) {
+    }
+  }
+}
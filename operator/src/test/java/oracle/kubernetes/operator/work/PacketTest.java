@@ -0,0 +1,89 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+class PacketTest {
+
+  private final Packet packet = new Packet();
+
+  @Test
+  void copyContainsOriginalValuesAndComponents() {
+    Object spi = new Object();
+    packet.put("key", "value");
+    packet.getComponents().put("component", Component.createFor(spi));
+
+    Packet copy = packet.copy();
+
+    assertThat(copy, hasEntry("key", "value"));
+    assertThat(copy.getSpi(Object.class), sameInstance(spi));
+  }
+
+  @Test
+  void afterCopyModified_originalIsUnchanged() {
+    packet.put("key", "value");
+    Packet copy = packet.copy();
+
+    copy.put("key", "changed");
+    copy.put("added", "value");
+
+    assertThat(packet.get("key"), equalTo("value"));
+    assertThat(packet, not(hasKey("added")));
+  }
+
+  @Test
+  void afterOriginalModified_copyIsUnchanged() {
+    packet.put("key", "value");
+    Packet copy = packet.copy();
+
+    packet.remove("key");
+    packet.getComponents().put("component", Component.createFor(new Object()));
+
+    assertThat(copy.get("key"), equalTo("value"));
+    assertThat(copy.getComponents(), anEmptyMap());
+  }
+
+  @Test
+  void afterCopyOfCopyModified_otherCopiesAreUnchanged() {
+    packet.put("key", "value");
+    Packet copy1 = packet.copy();
+    Packet copy2 = copy1.copy();
+
+    copy2.put("key", "changed");
+
+    assertThat(packet.get("key"), equalTo("value"));
+    assertThat(copy1.get("key"), equalTo("value"));
+  }
+
+  @Test
+  void afterCopyCleared_originalIsUnchanged() {
+    packet.put("key", "value");
+    Packet copy = packet.copy();
+
+    copy.clear();
+
+    assertThat(copy, anEmptyMap());
+    assertThat(packet.get("key"), equalTo("value"));
+  }
+
+  @Test
+  void whenNullValuePut_removeKey() {
+    packet.put("key", "value");
+
+    packet.put("key", null);
+
+    assertThat(packet.get("key"), nullValue());
+    assertThat(packet, not(hasKey("key")));
+  }
+}
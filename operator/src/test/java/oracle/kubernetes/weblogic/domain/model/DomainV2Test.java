@@ -47,6 +47,7 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
@@ -1729,4 +1730,59 @@ class DomainV2Test extends DomainTestBase {
 
     assertThat(domainStatus, not(hasCondition(Progressing)));
   }
+
+  @Test
+  void whenEffectiveConfigurationCached_reuseServerSpecForSameGeneration() {
+    configureServer(SERVER1).withEnvironmentVariable("name1", "value1");
+    domain.getMetadata().generation(1L);
+    domain.withEffectiveConfigurationCached();
+
+    assertThat(domain.getServer(SERVER1, CLUSTER_NAME), sameInstance(domain.getServer(SERVER1, CLUSTER_NAME)));
+  }
+
+  @Test
+  void whenEffectiveConfigurationCached_reuseClusterSpecForSameGeneration() {
+    configureCluster(CLUSTER_NAME).withReplicas(2);
+    domain.getMetadata().generation(1L);
+    domain.withEffectiveConfigurationCached();
+
+    assertThat(domain.getCluster(CLUSTER_NAME), sameInstance(domain.getCluster(CLUSTER_NAME)));
+  }
+
+  @Test
+  void whenEffectiveConfigurationCachedAndGenerationChanges_recomputeServerSpec() {
+    configureServer(SERVER1).withServerStartState("ADMIN");
+    domain.getMetadata().generation(1L);
+    domain.withEffectiveConfigurationCached();
+    domain.getServer(SERVER1, CLUSTER_NAME);
+
+    configureServer(SERVER1).withEnvironmentVariable("name1", "value1");
+    domain.getMetadata().generation(2L);
+    ServerSpec spec = domain.getServer(SERVER1, CLUSTER_NAME);
+
+    assertThat(spec.getEnvironmentVariables(), contains(envVar("name1", "value1")));
+  }
+
+  @Test
+  void whenEffectiveConfigurationCachedAndReplicaCountSet_recomputeServerSpec() {
+    configureCluster(CLUSTER_NAME).withReplicas(1);
+    domain.getMetadata().generation(1L);
+    domain.withEffectiveConfigurationCached();
+    domain.getServer(SERVER1, CLUSTER_NAME);
+
+    domain.setReplicaCount(CLUSTER_NAME, 3);
+
+    assertThat(domain.getServer(SERVER1, CLUSTER_NAME).shouldStart(2), is(true));
+  }
+
+  @Test
+  void whenEffectiveConfigurationNotCached_serverSpecReflectsLaterChanges() {
+    domain.getMetadata().generation(1L);
+    domain.getServer(SERVER1, CLUSTER_NAME);
+
+    configureServer(SERVER1).withEnvironmentVariable("name1", "value1");
+    ServerSpec spec = domain.getServer(SERVER1, CLUSTER_NAME);
+
+    assertThat(spec.getEnvironmentVariables(), contains(envVar("name1", "value1")));
+  }
 }